@@ -1,6 +1,15 @@
 #!/bin/sh
 
 CLASSPATH=bin
+JAVA_OPTS=
+
+# Use the class-data-sharing archive from "ant cds" unless classes were rebuilt
+# since.  The archive was recorded against the jar, so run from the jar too.
+if [ -f bin/letsencrypt.jsa ] && [ -z "$(find bin -name '*.class' -newer bin/letsencrypt.jsa)" ]; then
+  CLASSPATH=bin/letsencrypt.jar
+  JAVA_OPTS="-XX:SharedArchiveFile=bin/letsencrypt.jsa -Xlog:cds=error"
+fi
+
 CLASSPATH=$CLASSPATH:lib/acme4j-client-2.10.jar
 CLASSPATH=$CLASSPATH:lib/guava-21.0.jar
 CLASSPATH=$CLASSPATH:lib/slf4j-api-1.7.9.jar
@@ -9,5 +18,6 @@ CLASSPATH=$CLASSPATH:lib/jose4j-0.7.2.jar
 CLASSPATH=$CLASSPATH:lib/protobuf-2.6.1.jar
 
 java \
+  $JAVA_OPTS \
   -cp $CLASSPATH \
   letsencrypt.Main $@
@@ -21,52 +21,95 @@ package letsencrypt;
 
 import java.net.URL;
 import java.security.KeyPair;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.shredzone.acme4j.Account;
 import org.shredzone.acme4j.AccountBuilder;
 import org.shredzone.acme4j.Login;
 import org.shredzone.acme4j.Session;
+import org.shredzone.acme4j.exception.AcmeException;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
 
 public class AccountSupplier implements Supplier<Account> {
   private final Logger logger = Logger.getLogger(AccountSupplier.class.getName());
   private final Proto.AccountConfig accountConfig;
-  private final Supplier<Session> sessionSupplier;
+  private final String accountUrl;
+  private final SessionSupplier sessionSupplier;
   private final KeyLoader keyLoader;
-  private Account account;
+  private final RateLimiter rateLimiter;
+  private final Supplier<Account> account = Suppliers.memoize(() -> {
+    try {
+      return Preconditions.checkNotNull(loadAccount());
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  });
 
-  public AccountSupplier(Proto.AccountConfig accountConfig, Supplier<Session> sessionSupplier) {
+  public AccountSupplier(Proto.AccountConfig accountConfig, String accountUrl,
+      SessionSupplier sessionSupplier, RateLimiter rateLimiter) {
     this.accountConfig = accountConfig;
+    this.accountUrl = accountUrl;
     this.sessionSupplier = sessionSupplier;
     this.keyLoader = new KeyLoader(accountConfig);
+    this.rateLimiter = rateLimiter;
   }
 
   @Override
   public Account get() {
-    if (account == null) {
+    return account.get();
+  }
+
+  /**
+   * Logs in to an existing account in the background and fetches it, which
+   * checks the key against the CA and leaves a connection and a nonce ready
+   * for the first renewal.  Accounts still to be created are left until a
+   * renewal actually needs them.
+   */
+  public CompletableFuture<Account> warmUp(Executor executor) {
+    if (accountUrl.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      Account account = get();
+      rateLimiter.requests(sessionSupplier.get().getServerUri().toString()).acquire();
+      Lock lock = sessionSupplier.getLock();
+      lock.lock();
       try {
-        account = loadAccount();
-      } catch (Exception e) {
-        throw new IllegalStateException(e);
+        account.update();
+      } catch (AcmeException e) {
+        throw new IllegalStateException("Could not fetch account " + accountUrl, e);
+      } finally {
+        lock.unlock();
       }
-    }
-    return Preconditions.checkNotNull(account);
+      logger.log(Level.INFO, "Account {0} is {1}", new Object[] { account.getLocation(), account.getStatus() });
+      return account;
+    }, executor);
   }
 
   private Account loadAccount() throws Exception {
     Session session = sessionSupplier.get();
-    if (accountConfig.getAccountUrl().isEmpty()) {
-      return createAccount(session, keyLoader, accountConfig);
+    rateLimiter.requests(session.getServerUri().toString()).acquire();
+    Lock lock = sessionSupplier.getLock();
+    lock.lock();
+    try {
+      if (accountUrl.isEmpty()) {
+        return createAccount(session, keyLoader, accountConfig);
+      }
+      KeyPair accountKeyPair = keyLoader.loadAccountKey();
+      Login login = session.login(new URL(accountUrl), accountKeyPair);
+      Account account = login.getAccount();
+      logger.log(Level.INFO, "Returning existing account {0}", account.getLocation());
+      return account;
+    } finally {
+      lock.unlock();
     }
-    KeyPair accountKeyPair = keyLoader.loadAccountKey();
-    URL accountUrl = new URL(accountConfig.getAccountUrl());
-    Login login = session.login(accountUrl, accountKeyPair);
-    Account account = login.getAccount();
-    logger.info("Returning existing account " + account.getLocation());
-    return account;
   }
 
   public Account createAccount(Session session, KeyLoader keyLoader, Proto.AccountConfig accountConfig)
@@ -75,7 +118,7 @@ public class AccountSupplier implements Supplier<Account> {
 
     Account account = new AccountBuilder().addContact("mailto:" + accountConfig.getAccountEmail())
         .agreeToTermsOfService().useKeyPair(accountKeyPair).create(session);
-    logger.info("Created account with URL " + account.getLocation());
+    logger.log(Level.INFO, "Created account with URL {0}", account.getLocation());
     return account;
   }
 }
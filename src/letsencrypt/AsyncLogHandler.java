@@ -0,0 +1,152 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package letsencrypt;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Hands log records to a background thread which publishes them to the
+ * wrapped handler, so that workers never wait on console output.  Records are
+ * held in a bounded queue; when it is full, records below WARNING are dropped
+ * and counted, while warnings and errors wait for room.
+ */
+// @formatter:off
+public class AsyncLogHandler extends Handler {
+  private static final long FLUSH_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  private final Handler delegate;
+  private final BlockingQueue<LogRecord> queue;
+  private final AtomicLong queued = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final Object writtenMonitor = new Object();
+  private long written;
+  private final Thread writer;
+
+  public AsyncLogHandler(Handler delegate, int capacity) {
+    Preconditions.checkArgument(capacity > 0, "log buffer size must be positive");
+    this.delegate = delegate;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.writer = new Thread(this::drain, "log-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Replaces each handler of the root logger, which also receives acme4j's
+   * output through slf4j-jdk14, with an asynchronous wrapper.
+   */
+  public static void install(int capacity) {
+    Logger root = Logger.getLogger("");
+    for (Handler handler : root.getHandlers()) {
+      if (!(handler instanceof AsyncLogHandler)) {
+        root.removeHandler(handler);
+        root.addHandler(new AsyncLogHandler(handler, capacity));
+      }
+    }
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (!delegate.isLoggable(record)) {
+      return;
+    }
+    // The source is inferred from the stack, so it must be resolved here.
+    record.getSourceClassName();
+    if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+      try {
+        queue.put(record);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        dropped.incrementAndGet();
+        return;
+      }
+    } else if (!queue.offer(record)) {
+      dropped.incrementAndGet();
+      return;
+    }
+    queued.incrementAndGet();
+  }
+
+  private void drain() {
+    while (true) {
+      LogRecord record;
+      try {
+        record = queue.take();
+      } catch (InterruptedException e) {
+        return;
+      }
+      long droppedSinceLast = dropped.getAndSet(0);
+      if (droppedSinceLast > 0) {
+        Metrics.add("log.dropped", droppedSinceLast);
+        LogRecord notice = new LogRecord(Level.WARNING, "Dropped {0} log records, buffer full");
+        notice.setParameters(new Object[] { droppedSinceLast });
+        notice.setLoggerName(AsyncLogHandler.class.getName());
+        notice.setSourceClassName(AsyncLogHandler.class.getName());
+        notice.setSourceMethodName("drain");
+        delegate.publish(notice);
+      }
+      try {
+        delegate.publish(record);
+      } catch (RuntimeException e) {
+        reportError("Could not publish log record", e, ErrorManager.WRITE_FAILURE);
+      }
+      synchronized (writtenMonitor) {
+        written++;
+        writtenMonitor.notifyAll();
+      }
+    }
+  }
+
+  /** Waits, for a few seconds at most, until everything queued so far is published. */
+  @Override
+  public void flush() {
+    long target = queued.get();
+    long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+    synchronized (writtenMonitor) {
+      long remaining;
+      while (written < target && (remaining = deadline - System.currentTimeMillis()) > 0) {
+        try {
+          writtenMonitor.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+    delegate.flush();
+  }
+
+  @Override
+  public void close() {
+    flush();
+    writer.interrupt();
+    delegate.close();
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.File;
+import java.net.URL;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.logging.LogManager;
+
+import org.shredzone.acme4j.Session;
+import org.shredzone.acme4j.connector.DefaultConnection;
+import org.shredzone.acme4j.toolbox.JSON;
+import org.shredzone.acme4j.toolbox.JSONBuilder;
+import org.shredzone.acme4j.toolbox.JoseUtils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+
+/**
+ * Training run for the class-data-sharing archive built by "ant cds".  Walks
+ * the start-up path of a renewal without touching the network or any keys on
+ * disk, so that the classes it loads end up in the archive.
+ */
+// @formatter:off
+public class CdsTraining {
+  private static final String DIRECTORY = "{"
+      + "\"newNonce\": \"https://example.invalid/acme/new-nonce\","
+      + "\"newAccount\": \"https://example.invalid/acme/new-acct\","
+      + "\"newOrder\": \"https://example.invalid/acme/new-order\","
+      + "\"meta\": {\"termsOfService\": \"https://example.invalid/terms\"}}";
+
+  public static void main(String args[]) throws Exception {
+    // Train on a copy, so that the config snapshot is not left beside the original.
+    File config = new File(args.length > 0 ? args[0] : "sample-config.txt");
+    File trainingDirectory = java.nio.file.Files.createTempDirectory("cds-training").toFile();
+    File trainingConfig = new File(trainingDirectory, config.getName());
+    try {
+      Files.copy(config, trainingConfig);
+      new Main(new String[] { trainingConfig.getPath() }).shutdownExecutors();
+    } finally {
+      for (File file : trainingDirectory.listFiles()) {
+        file.delete();
+      }
+      trainingDirectory.delete();
+    }
+
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec("secp256r1"));
+    KeyPair keyPair = generator.generateKeyPair();
+    new CsrBuilder().build(keyPair, ImmutableList.of("example.invalid", "www.example.invalid"));
+
+    JSON directory = JSON.parse(DIRECTORY);
+    URL newOrder = directory.get("newOrder").asURL();
+    JSONBuilder payload = new JSONBuilder();
+    payload.array("identifiers", ImmutableList.of(
+        new JSONBuilder().put("type", "dns").put("value", "example.invalid").toMap()));
+    JoseUtils.createJoseRequest(newOrder, keyPair, payload, "nonce", "https://example.invalid/acme/acct/1");
+
+    Session session = new Session("acme://letsencrypt.org/staging");
+    session.provider();
+    new DefaultConnection(new PooledHttpConnector()).close();
+
+    // Closes the asynchronous log handler and stops its writer thread.
+    LogManager.getLogManager().reset();
+  }
+}
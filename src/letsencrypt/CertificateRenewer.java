@@ -22,14 +22,18 @@ package letsencrypt;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.spec.InvalidKeySpecException;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.PrivateKey;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,84 +44,190 @@ import org.shredzone.acme4j.Order;
 import org.shredzone.acme4j.Status;
 import org.shredzone.acme4j.challenge.Http01Challenge;
 import org.shredzone.acme4j.exception.AcmeException;
+import org.shredzone.acme4j.exception.AcmeRateLimitedException;
 import org.shredzone.acme4j.exception.AcmeRetryAfterException;
+import org.shredzone.acme4j.toolbox.JSONBuilder;
 
 import com.google.common.base.Preconditions;
-import com.google.common.io.Files;
+import com.google.common.base.Stopwatch;
 
 // @formatter:off
 public class CertificateRenewer {
   private final Logger logger = Logger.getLogger(CertificateRenewer.class.getName());
   private final Account account;
+  private final String sessionUrl;
   private final Proto.Config config;
   private final Proto.AccountConfig accountConfig;
-  private final Proto.Domain domain;
+  private final List<Proto.Domain> domains;
   private final KeyLoader keyLoader;
+  private final RateLimiter rateLimiter;
+  private final EndpointHealth endpointHealth;
+  private final RenewalEventLog eventLog;
+  private final ChallengeSelfCheck selfCheck;
+  private final JSONBuilder event = new JSONBuilder();
+  private JSONBuilder phaseMillis;
+  private final Stopwatch phase = Stopwatch.createUnstarted();
+  private int polls;
+  private int retryAfters;
+  private long retryAfterWaitMillis;
 
-  public CertificateRenewer(Account account, Proto.AccountConfig accountConfig,
-      Proto.Config config, Proto.Domain domain, KeyLoader keyLoader) {
+  public CertificateRenewer(Account account, String sessionUrl, Proto.AccountConfig accountConfig,
+      Proto.Config config, List<Proto.Domain> domains, KeyLoader keyLoader,
+      RateLimiter rateLimiter, EndpointHealth endpointHealth, RenewalEventLog eventLog) {
+    Preconditions.checkArgument(!domains.isEmpty());
     this.account = account;
+    this.sessionUrl = sessionUrl;
     this.accountConfig = accountConfig;
     this.config = config;
-    this.domain = domain;
+    this.domains = domains;
     this.keyLoader = keyLoader;
+    this.rateLimiter = rateLimiter;
+    this.endpointHealth = endpointHealth;
+    this.eventLog = eventLog;
+    this.selfCheck = new ChallengeSelfCheck(accountConfig);
   }
 
-  public void renew() throws AcmeException, IOException, CertificateException, NoSuchAlgorithmException, InvalidKeySpecException {
-    String domainName = domain.getServerName(0);
+  /** Renews the certificate, recording the attempt in the renewal event log either way. */
+  public void renew() throws AcmeException, IOException, GeneralSecurityException {
+    Stopwatch total = Stopwatch.createStarted();
+    event.put("time", Instant.now())
+        .put("domain", domains.get(0).getServerName(0))
+        .array("server_names", OrderPlanner.getServerNames(domains))
+        .put("key_directory", accountConfig.getKeyDirectory())
+        .put("account", account.getLocation().toString())
+        .put("session_url", sessionUrl);
+    phaseMillis = event.object("phase_millis");
+    try {
+      renewOrder();
+      event.put("outcome", "valid");
+    } catch (Exception e) {
+      event.put("outcome", "failed").put("error", e.toString());
+      throw e;
+    } finally {
+      event.put("total_millis", total.elapsed(TimeUnit.MILLISECONDS))
+          .put("polls", polls)
+          .put("retry_afters", retryAfters)
+          .put("retry_after_wait_millis", retryAfterWaitMillis);
+      eventLog.append(event);
+    }
+  }
 
-    Order order = account.newOrder()
-        .domains(domain.getServerNameList())
-        .create();
-    logger.info("Using order " + order.getLocation());
+  private void renewOrder() throws AcmeException, IOException, GeneralSecurityException {
+    String domainName = domains.get(0).getServerName(0);
+    Preconditions.checkState(domains.size() == 1 || accountConfig.getGenerateDomainKeys(),
+        "An order of several domains needs generate_domain_keys: " + domainName);
+    phase.start();
+    CompletableFuture<KeyPair> domainKey = accountConfig.getGenerateDomainKeys()
+        ? keyLoader.generateDomainKey() : null;
+
+    TokenBucket newOrders = rateLimiter.newOrders(sessionUrl, accountConfig);
+    Preconditions.checkState(newOrders.tryAcquire(getMaxRateLimitWait()),
+        "New order rate limit reached, not renewing " + domainName);
+    acquireRequest();
+    Order order;
+    try {
+      Stopwatch stopwatch = Stopwatch.createStarted();
+      order = account.newOrder()
+          .domains(OrderPlanner.getServerNames(domains))
+          .create();
+      endpointHealth.recordLatency(sessionUrl, EndpointHealth.Phase.NEW_ORDER,
+          Duration.ofMillis(stopwatch.elapsed(TimeUnit.MILLISECONDS)));
+    } catch (AcmeRateLimitedException e) {
+      if (e.getRetryAfter() != null) {
+        newOrders.blockUntil(e.getRetryAfter());
+      }
+      throw e;
+    }
+    logger.log(Level.INFO, "Using order {0}", order.getLocation());
+    event.put("order", order.getLocation().toString());
+    endPhase("new_order");
 
     List<Authorization> authorizations = order.getAuthorizations();
+    event.put("authorizations", authorizations.size());
     for (Authorization authorization : authorizations) {
+      acquireRequest();
       if (authorization.getStatus() == Status.VALID) {
-        logger.info("Authorization " + authorization.getLocation() + " is already VALID");
+        logger.log(Level.INFO, "Authorization {0} is already VALID", authorization.getLocation());
         continue;
       }
-      processAuthorization(authorization, domain);
+      processAuthorization(authorization, findDomain(authorization));
     }
+    endPhase("authorizations");
 
-    order.execute(keyLoader.loadCertificateSigningRequest(domainName));
+    byte[] csr = domainKey == null
+        ? keyLoader.loadCertificateSigningRequest(domainName)
+        : new CsrBuilder().build(domainKey.join(), OrderPlanner.getServerNames(domains));
+    endPhase("csr");
+    acquireRequest();
+    order.execute(csr);
 
     awaitOrderCompletion(order);
+    endPhase("finalize");
 
     Certificate certificate = order.getCertificate();
-    writeRenewedCertificate(certificate, domainName);
+    acquireRequest();
+    writeRenewed(certificate, domainKey == null ? null : domainKey.join().getPrivate());
+    endPhase("download");
   }
 
-  private void processAuthorization(Authorization authorization, Proto.Domain domain) throws IOException, AcmeException {
-    logger.info("Processing authorization " + authorization.getLocation()
-        + " with status " + authorization.getStatus());
+  private void endPhase(String name) {
+    phaseMillis.put(name, phase.elapsed(TimeUnit.MILLISECONDS));
+    phase.reset().start();
+  }
+
+  private Proto.Domain findDomain(Authorization authorization) {
+    String name = authorization.getIdentifier().getDomain();
+    for (Proto.Domain domain : domains) {
+      if (domain.getServerNameList().contains(name)) {
+        return domain;
+      }
+    }
+    throw new IllegalStateException("No domain configured for authorization of " + name);
+  }
+
+  private void processAuthorization(Authorization authorization, Proto.Domain domain) throws AcmeException {
+    logger.log(Level.INFO, "Processing authorization {0} with status {1}",
+        new Object[] { authorization.getLocation(), authorization.getStatus() });
     Http01Challenge challenge = authorization.findChallenge(Http01Challenge.class);
     Preconditions.checkNotNull(challenge, "authorization does not have a HTTP challenge: "
         + authorization.getJSON().toString());
-    awaitChallengeCompletion(authorization, challenge, domain.getWebRootDirectory());
+    awaitChallengeCompletion(authorization, challenge, domain.getWebRootDirectoryList());
   }
 
   private void awaitChallengeCompletion(Authorization authorization, Http01Challenge challenge,
-      String webRootDirectory) throws IOException, AcmeException {
-    File tempDir = new File(webRootDirectory, config.getAcmeDirectoryPrefix());
-    Preconditions.checkState(tempDir.isDirectory(), "Expected an existing directory: " + tempDir.getAbsolutePath());
-    File tempFile = new File(tempDir, challenge.getToken());
-    Files.write(challenge.getAuthorization(), tempFile, StandardCharsets.UTF_8);
-    logger.info("Wrote challenge file: " + tempFile.getAbsolutePath());
-
+      List<String> webRootDirectories) throws AcmeException {
+    TokenBucket failedValidations = rateLimiter.failedValidations(sessionUrl, accountConfig);
+    ChallengeFiles challengeFiles = ChallengeFiles.write(webRootDirectories,
+        config.getAcmeDirectoryPrefix(), challenge.getToken(), challenge.getAuthorization());
     try {
+      if (selfCheck.isEnabled()) {
+        selfCheck.await(authorization.getIdentifier().getDomain(), challenge.getToken(),
+            challenge.getAuthorization());
+      }
+      Preconditions.checkState(failedValidations.awaitAvailable(getMaxRateLimitWait()),
+          "Failed validation rate limit reached for " + authorization.getIdentifier().getDomain());
+      acquireRequest();
+      Stopwatch stopwatch = Stopwatch.createStarted();
       challenge.trigger();
       awaitCompletion(() -> {
         authorization.update();
         return authorization.getStatus() == Status.VALID
             || authorization.getStatus() == Status.INVALID;
-      });
+      }, getValidationTimeout());
+      endpointHealth.recordLatency(sessionUrl, EndpointHealth.Phase.VALIDATION,
+          Duration.ofMillis(stopwatch.elapsed(TimeUnit.MILLISECONDS)));
     } finally {
-      tempFile.delete();
+      challengeFiles.close();
     }
 
+    if (authorization.getStatus() == Status.INVALID) {
+      failedValidations.consume();
+    }
+
+    // An invalid authorization is the domain's fault, not the CA's: another CA
+    // would reject it too, so it must not count as an endpoint failure.
     Preconditions.checkState(authorization.getStatus() == Status.VALID,
-        "Expected valid authorization but got " + authorization.getJSON().toString());
+        "Expected valid authorization but got %s", authorization.getJSON());
 
     logger.info("Authorization is now valid.");
   }
@@ -127,16 +237,21 @@ public class CertificateRenewer {
       order.update();
       return order.getStatus() == Status.VALID
           || order.getStatus() == Status.INVALID;
-      });
+      }, null);
 
     Preconditions.checkState(order.getStatus() == Status.VALID,
-        "Expected valid order but got " + order.getJSON().toString());
+        "Expected valid order but got %s", order.getJSON());
 
     logger.info("Order is valid.");
   }
   private static final int MAX_COUNT = 100;
 
-  private void awaitCompletion(Callable<Boolean> work) throws AcmeException {
+  /**
+   * Polls until {@code work} reports completion, giving up after {@link #MAX_COUNT}
+   * polls or once {@code timeout} (if not null) has elapsed.
+   */
+  private void awaitCompletion(Callable<Boolean> work, Duration timeout) throws AcmeException {
+    Stopwatch stopwatch = Stopwatch.createStarted();
     int count = 0;
     final long originalSleepMillis = Duration.ofSeconds(config.getPollSleepDurationSeconds()).toMillis();
     long sleepMillis = originalSleepMillis;
@@ -148,28 +263,87 @@ public class CertificateRenewer {
         logger.log(Level.INFO, "Sleep error", e);
       }
       try {
+        acquireRequest();
+        polls++;
         isCompleted = work.call();
         sleepMillis = originalSleepMillis;
+      } catch (AcmeRateLimitedException e) {
+        if (e.getRetryAfter() == null) {
+          throw e;
+        }
+        logger.log(Level.INFO, "Server rate limited requests until {0}", e.getRetryAfter());
+        retryAfters++;
+        retryAfterWaitMillis += Math.max(0, e.getRetryAfter().toEpochMilli() - System.currentTimeMillis());
+        rateLimiter.requests(sessionUrl).blockUntil(e.getRetryAfter());
+        sleepMillis = originalSleepMillis;
       } catch (AcmeRetryAfterException e) {
         Instant nextRetry = e.getRetryAfter();
-        logger.info("Server advised a next retry at " + nextRetry);
+        logger.log(Level.INFO, "Server advised a next retry at {0}", nextRetry);
         sleepMillis = nextRetry.toEpochMilli() - Instant.now().toEpochMilli();
         Preconditions.checkState(sleepMillis >= 0);
+        retryAfters++;
+        retryAfterWaitMillis += sleepMillis;
       } catch (AcmeException e) {
         throw e;
       } catch (Exception e) {
         throw new IllegalStateException(e);
       }
-    } while (count++ < MAX_COUNT && !isCompleted);
-    Preconditions.checkState(isCompleted, "Loop count exceeded");
+    } while (count++ < MAX_COUNT && !isCompleted
+        && (timeout == null || stopwatch.elapsed(TimeUnit.MILLISECONDS) < timeout.toMillis()));
+    // The CA failing to finish in time counts against it, unlike local errors.
+    if (!isCompleted && count > MAX_COUNT) {
+      throw new AcmeException("Loop count exceeded against " + sessionUrl);
+    }
+    if (!isCompleted) {
+      throw new AcmeException("Timed out after " + timeout + " against " + sessionUrl);
+    }
+  }
+
+  /** Validation is cut short at the SLO only when there is a fallback CA to move to. */
+  private Duration getValidationTimeout() {
+    Proto.Failover failover = accountConfig.getFailover();
+    return failover.getSessionUrlCount() == 0
+        ? null : Duration.ofMillis(failover.getValidationSloMillis());
+  }
+
+  private void acquireRequest() {
+    rateLimiter.requests(sessionUrl).acquire();
+  }
+
+  private Duration getMaxRateLimitWait() {
+    return Duration.ofSeconds(accountConfig.getAccountRateLimit().getMaxWaitSeconds());
   }
 
-  private void writeRenewedCertificate(Certificate certificate, String domainName) throws IOException {
-    File outputCertificate = new File(accountConfig.getKeyDirectory(),
-        String.format(accountConfig.getCertificateFilenameSpec(), domainName));
-    try (FileWriter writer = new FileWriter(outputCertificate)) {
-      logger.info("Writing renewed certificate to " + outputCertificate.getAbsolutePath());
-      certificate.writeCertificate(writer);
+  /**
+   * Writes every domain's certificate, and its key when generated, to temporary
+   * files first and only then moves them all into place, so that a failed
+   * download or write never leaves a key that does not match its certificate.
+   */
+  private void writeRenewed(Certificate certificate, PrivateKey domainKey) throws IOException {
+    Map<File, File> staged = new LinkedHashMap<>();
+    try {
+      for (Proto.Domain domain : domains) {
+        String domainName = domain.getServerName(0);
+        if (domainKey != null) {
+          staged.put(keyLoader.stageDomainKey(domainName, domainKey), keyLoader.getDomainKeyFile(domainName));
+        }
+        File outputCertificate = new File(accountConfig.getKeyDirectory(),
+            String.format(accountConfig.getCertificateFilenameSpec(), domainName));
+        File tempFile = new File(outputCertificate.getPath() + ".tmp");
+        staged.put(tempFile, outputCertificate);
+        try (FileWriter writer = new FileWriter(tempFile)) {
+          certificate.writeCertificate(writer);
+        }
+      }
+      for (Map.Entry<File, File> entry : staged.entrySet()) {
+        logger.log(Level.INFO, "Writing renewed {0}", entry.getValue().getAbsolutePath());
+        java.nio.file.Files.move(entry.getKey().toPath(), entry.getValue().toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+    } finally {
+      for (File tempFile : staged.keySet()) {
+        tempFile.delete();
+      }
     }
   }
 }
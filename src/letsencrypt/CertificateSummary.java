@@ -0,0 +1,147 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+/**
+ * What the scheduler needs to know about a domain's certificate chain, read
+ * straight from the DER without building X509Certificate objects.
+ */
+// @formatter:off
+public final class CertificateSummary {
+  private static final String SUBJECT_ALT_NAME = "2.5.29.17";
+  private static final String AUTHORITY_KEY_IDENTIFIER = "2.5.29.35";
+  private static final int DNS_NAME = 0x82;
+  private static final int KEY_IDENTIFIER = 0x80;
+
+  private final Instant earliestNotAfter;
+  private final Instant notBefore;
+  private final HashCode leafFingerprint;
+  private final ImmutableList<String> subjectAlternativeNames;
+  private final String renewalInfoId;
+
+  private CertificateSummary(Instant earliestNotAfter, Instant notBefore, HashCode leafFingerprint,
+      ImmutableList<String> subjectAlternativeNames, String renewalInfoId) {
+    this.earliestNotAfter = earliestNotAfter;
+    this.notBefore = notBefore;
+    this.leafFingerprint = leafFingerprint;
+    this.subjectAlternativeNames = subjectAlternativeNames;
+    this.renewalInfoId = renewalInfoId;
+  }
+
+  /** Summarises a chain given as DER certificates, leaf first. */
+  public static CertificateSummary parse(List<byte[]> chain) {
+    Preconditions.checkArgument(!chain.isEmpty(), "Empty certificate chain");
+    Instant earliestNotAfter = null;
+    for (byte[] der : chain) {
+      Instant notAfter = getValidity(getTbsCertificate(der)).child(1).getTime();
+      if (earliestNotAfter == null || notAfter.isBefore(earliestNotAfter)) {
+        earliestNotAfter = notAfter;
+      }
+    }
+
+    List<Der.Value> leaf = getTbsCertificate(chain.get(0));
+    ImmutableList.Builder<String> names = ImmutableList.builder();
+    byte[] keyIdentifier = null;
+    for (Der.Value extension : getExtensions(leaf)) {
+      List<Der.Value> parts = extension.children();
+      String oid = parts.get(0).getObjectIdentifier();
+      byte[] value = parts.get(parts.size() - 1).getContent();
+      if (oid.equals(SUBJECT_ALT_NAME)) {
+        for (Der.Value generalName : Der.parse(value).children()) {
+          if (generalName.getTag() == DNS_NAME) {
+            names.add(new String(generalName.getContent(), StandardCharsets.US_ASCII));
+          }
+        }
+      } else if (oid.equals(AUTHORITY_KEY_IDENTIFIER)) {
+        for (Der.Value field : Der.parse(value).children()) {
+          if (field.getTag() == KEY_IDENTIFIER) {
+            keyIdentifier = field.getContent();
+          }
+        }
+      }
+    }
+    String renewalInfoId = null;
+    if (keyIdentifier != null) {
+      Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+      renewalInfoId = base64.encodeToString(keyIdentifier) + "."
+          + base64.encodeToString(leaf.get(getSerialIndex(leaf)).getContent());
+    }
+    return new CertificateSummary(earliestNotAfter, getValidity(leaf).child(0).getTime(),
+        Hashing.sha256().hashBytes(chain.get(0)), names.build(), renewalInfoId);
+  }
+
+  public Instant getEarliestNotAfter() {
+    return earliestNotAfter;
+  }
+
+  /** When the leaf certificate was issued, give or take the CA's backdating. */
+  public Instant getNotBefore() {
+    return notBefore;
+  }
+
+  public HashCode getLeafFingerprint() {
+    return leafFingerprint;
+  }
+
+  public List<String> getSubjectAlternativeNames() {
+    return subjectAlternativeNames;
+  }
+
+  /**
+   * The leaf's ACME Renewal Information certificate ID: its authority key
+   * identifier and serial number, base64url encoded.  Null without an AKI.
+   */
+  public String getRenewalInfoId() {
+    return renewalInfoId;
+  }
+
+  private static List<Der.Value> getTbsCertificate(byte[] der) {
+    return Der.parse(der).child(0).children();
+  }
+
+  /** The version is an optional explicitly tagged first field. */
+  private static int getSerialIndex(List<Der.Value> tbsCertificate) {
+    return tbsCertificate.get(0).getTag() == 0xa0 ? 1 : 0;
+  }
+
+  private static Der.Value getValidity(List<Der.Value> tbsCertificate) {
+    return tbsCertificate.get(getSerialIndex(tbsCertificate) + 3);
+  }
+
+  private static List<Der.Value> getExtensions(List<Der.Value> tbsCertificate) {
+    for (Der.Value field : tbsCertificate) {
+      if (field.getTag() == 0xa3) {
+        return field.child(0).children();
+      }
+    }
+    return ImmutableList.of();
+  }
+}
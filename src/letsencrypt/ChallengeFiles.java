@@ -0,0 +1,123 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package letsencrypt;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * An HTTP-01 challenge token written under every web root of a domain, so that
+ * whichever front end the CA reaches can answer it.  The roots are written in
+ * parallel since each may be a separate network mount.
+ */
+// @formatter:off
+public class ChallengeFiles implements Closeable {
+  private static final Logger logger = Logger.getLogger(ChallengeFiles.class.getName());
+  private static final ExecutorService executor = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder().setDaemon(true).setNameFormat("challenge-files-%d").build());
+
+  private final List<File> files;
+
+  private ChallengeFiles(List<File> files) {
+    this.files = files;
+  }
+
+  /**
+   * Writes {@code content} as {@code token} under each web root's ACME directory
+   * and returns once every write has finished.  If any root fails, the files
+   * already written are removed and the failures are reported per root.
+   */
+  public static ChallengeFiles write(List<String> webRootDirectories, String acmeDirectoryPrefix,
+      String token, String content) {
+    Preconditions.checkState(!webRootDirectories.isEmpty(), "No web_root_directory for challenge " + token);
+    List<File> files = new ArrayList<>();
+    for (String webRootDirectory : webRootDirectories) {
+      files.add(new File(new File(webRootDirectory, acmeDirectoryPrefix), token));
+    }
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    List<String> failures = forEach(files, file -> {
+      Preconditions.checkState(file.getParentFile().isDirectory(),
+          "Expected an existing directory: " + file.getParentFile().getAbsolutePath());
+      Files.write(file.toPath(), bytes);
+    });
+    ChallengeFiles challengeFiles = new ChallengeFiles(files);
+    if (!failures.isEmpty()) {
+      Metrics.add("challenge_files.write_failures", failures.size());
+      challengeFiles.close();
+      throw new IllegalStateException("Could not write challenge file to "
+          + Joiner.on("; ").join(failures));
+    }
+    logger.log(Level.INFO, "Wrote challenge file to {0}", files);
+    return challengeFiles;
+  }
+
+  @Override
+  public void close() {
+    forEach(files, file -> Files.deleteIfExists(file.toPath()));
+  }
+
+  private interface FileAction {
+    void apply(File file) throws IOException;
+  }
+
+  /** Applies {@code action} to every file, in parallel when there are several, and returns the failures. */
+  private static List<String> forEach(List<File> files, FileAction action) {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (File file : files) {
+      Runnable task = () -> {
+        try {
+          action.apply(file);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      };
+      futures.add(files.size() == 1
+          ? CompletableFuture.runAsync(task, Runnable::run)
+          : CompletableFuture.runAsync(task, executor));
+    }
+    List<String> failures = new ArrayList<>();
+    for (int i = 0; i < files.size(); i++) {
+      try {
+        futures.get(i).join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+        logger.log(Level.WARNING, "Failed on " + files.get(i), cause);
+        failures.add(files.get(i) + ": " + cause);
+      }
+    }
+    return failures;
+  }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package letsencrypt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Fetches an HTTP-01 challenge the way the CA will before it is triggered, so
+ * that a docroot which does not serve the token yet costs a few quick retries
+ * rather than an invalid authorization and a failed validation.
+ */
+// @formatter:off
+public class ChallengeSelfCheck {
+  private static final int TIMEOUT_MILLIS = (int) TimeUnit.SECONDS.toMillis(5);
+  private static final int MAX_RESPONSE_BYTES = 4096;
+  /** As many redirects as the CA follows when validating. */
+  private static final int MAX_REDIRECTS = 10;
+  /**
+   * The CA does not validate certificates when a redirect leads to https, so
+   * a self-signed or expired certificate must not fail the self-check either.
+   */
+  private static final SSLSocketFactory TRUST_ALL = createTrustAllSocketFactory();
+
+  private final Logger logger = Logger.getLogger(ChallengeSelfCheck.class.getName());
+  private final Proto.AccountConfig accountConfig;
+
+  public ChallengeSelfCheck(Proto.AccountConfig accountConfig) {
+    this.accountConfig = accountConfig;
+  }
+
+  public boolean isEnabled() {
+    return !accountConfig.getSelfCheckUrlSpec().isEmpty();
+  }
+
+  /**
+   * Polls the domain's challenge URL until it returns {@code content}, up to
+   * self_check_attempts times.  Throws if it never does.
+   */
+  public void await(String domainName, String token, String content) {
+    URL url;
+    try {
+      url = new URL(String.format(accountConfig.getSelfCheckUrlSpec(), domainName, token));
+    } catch (IOException e) {
+      throw new IllegalStateException("Invalid self_check_url_spec for " + domainName, e);
+    }
+    String lastResult = null;
+    for (int attempt = 1; attempt <= accountConfig.getSelfCheckAttempts(); attempt++) {
+      if (attempt > 1) {
+        Metrics.increment("self_check.retries");
+        try {
+          Thread.sleep(accountConfig.getSelfCheckRetryMillis());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted during self-check of " + url, e);
+        }
+      }
+      try {
+        lastResult = fetch(url);
+        if (lastResult.trim().equals(content)) {
+          Metrics.increment("self_check.passed");
+          return;
+        }
+        lastResult = "unexpected content";
+      } catch (IOException e) {
+        lastResult = e.toString();
+      }
+      logger.log(Level.FINE, "Self-check of {0} failed: {1}", new Object[] { url, lastResult });
+    }
+    Metrics.increment("self_check.failed");
+    throw new IllegalStateException("Challenge for " + domainName + " is not served at " + url
+        + " (" + lastResult + "), not triggering it");
+  }
+
+  /**
+   * Fetches the URL, following redirects between http and https as the CA does;
+   * HttpURLConnection on its own will not switch protocols.  Certificates and
+   * host names are not checked, as the CA does not check them either.
+   */
+  private static String fetch(URL url) throws IOException {
+    for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+      HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+      connection.setConnectTimeout(TIMEOUT_MILLIS);
+      connection.setReadTimeout(TIMEOUT_MILLIS);
+      connection.setUseCaches(false);
+      connection.setInstanceFollowRedirects(false);
+      if (connection instanceof HttpsURLConnection) {
+        ((HttpsURLConnection) connection).setSSLSocketFactory(TRUST_ALL);
+        ((HttpsURLConnection) connection).setHostnameVerifier((hostname, session) -> true);
+      }
+      try {
+        int status = connection.getResponseCode();
+        if (status == HttpURLConnection.HTTP_OK) {
+          try (InputStream in = connection.getInputStream()) {
+            return new String(ByteStreams.toByteArray(ByteStreams.limit(in, MAX_RESPONSE_BYTES)),
+                StandardCharsets.UTF_8);
+          }
+        }
+        String location = connection.getHeaderField("Location");
+        if (!isRedirect(status) || location == null) {
+          throw new IOException("HTTP " + status + " from " + url);
+        }
+        url = new URL(url, location);
+        if (!url.getProtocol().equals("http") && !url.getProtocol().equals("https")) {
+          throw new IOException("Redirected to unsupported " + url);
+        }
+      } finally {
+        connection.disconnect();
+      }
+    }
+    throw new IOException("More than " + MAX_REDIRECTS + " redirects");
+  }
+
+  private static SSLSocketFactory createTrustAllSocketFactory() {
+    try {
+      SSLContext context = SSLContext.getInstance("TLS");
+      context.init(null, new TrustManager[] { new X509TrustManager() {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+          return new X509Certificate[0];
+        }
+      } }, null);
+      return context.getSocketFactory();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean isRedirect(int status) {
+    return status == HttpURLConnection.HTTP_MOVED_PERM || status == HttpURLConnection.HTTP_MOVED_TEMP
+        || status == HttpURLConnection.HTTP_SEE_OTHER || status == 307 || status == 308;
+  }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.TextFormat;
+import com.google.protobuf.TextFormat.ParseException;
+
+/**
+ * Reads the text-format config and its included account_config fragments,
+ * keeping a binary snapshot of each parsed file next to it.  A snapshot is used
+ * while the text's mtime and hash still match, so only edited files are parsed.
+ */
+// @formatter:off
+public class ConfigLoader {
+  private final Logger logger = Logger.getLogger(ConfigLoader.class.getName());
+
+  public Proto.Config load(File file) throws ParseException, IOException {
+    Proto.Config.Builder config = Proto.Config.newBuilder();
+    load(file, config);
+    List<File> fragments = getFragments(file.getAbsoluteFile().getParentFile(), config.getIncludeList());
+    if (fragments.isEmpty()) {
+      return check(config.build());
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Math.min(fragments.size(), Runtime.getRuntime().availableProcessors()),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("config-%d").build());
+    try {
+      List<Future<Proto.AccountConfig.Builder>> futures = new ArrayList<>();
+      for (File fragment : fragments) {
+        futures.add(executor.submit(() -> {
+          Proto.AccountConfig.Builder accountConfig = Proto.AccountConfig.newBuilder();
+          load(fragment, accountConfig);
+          return accountConfig;
+        }));
+      }
+      for (int i = 0; i < fragments.size(); i++) {
+        try {
+          config.addAccountConfig(futures.get(i).get());
+        } catch (ExecutionException e) {
+          Throwables.propagateIfPossible(e.getCause(), ParseException.class, IOException.class);
+          throw new IllegalStateException("Cannot load " + fragments.get(i), e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted loading " + fragments.get(i), e);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    logger.log(Level.INFO, "Loaded {0} config fragments", fragments.size());
+    return check(config.build());
+  }
+
+  /** Rejects settings which cannot work together, before anything is renewed. */
+  private static Proto.Config check(Proto.Config config) {
+    for (Proto.AccountConfig accountConfig : config.getAccountConfigList()) {
+      // A SAN order needs one key and CSR covering every name; on-disk CSRs are per domain.
+      Preconditions.checkArgument(!accountConfig.getConsolidateOrders() || accountConfig.getGenerateDomainKeys(),
+          "consolidate_orders requires generate_domain_keys, for account in %s",
+          accountConfig.getKeyDirectory());
+      Preconditions.checkArgument(accountConfig.getSelfCheckAttempts() > 0,
+          "self_check_attempts must be positive, for account in %s", accountConfig.getKeyDirectory());
+    }
+    return config;
+  }
+
+  /** Files named by include, directories expanded to their *.txt files, in sorted order. */
+  private static List<File> getFragments(File baseDirectory, List<String> includes) throws IOException {
+    TreeSet<File> fragments = new TreeSet<>();
+    for (String include : includes) {
+      File file = new File(include);
+      if (!file.isAbsolute()) {
+        file = new File(baseDirectory, include);
+      }
+      if (file.isDirectory()) {
+        File[] children = file.listFiles((dir, name) -> name.endsWith(".txt"));
+        if (children != null) {
+          fragments.addAll(Arrays.asList(children));
+        }
+      } else if (file.exists()) {
+        fragments.add(file);
+      } else {
+        throw new IOException("Included config " + file + " does not exist");
+      }
+    }
+    return new ArrayList<>(fragments);
+  }
+
+  private void load(File file, Message.Builder builder) throws ParseException, IOException {
+    long modifiedMillis = file.lastModified();
+    byte[] text = Files.toByteArray(file);
+    ByteString hash = ByteString.copyFrom(Hashing.sha256().hashBytes(text).asBytes());
+    File snapshotFile = getSnapshotFile(file);
+
+    Proto.ConfigSnapshot snapshot = readSnapshot(snapshotFile);
+    if (snapshot != null
+        && snapshot.getTextModifiedMillis() == modifiedMillis
+        && snapshot.getTextSha256().equals(hash)) {
+      Metrics.increment("config.snapshot_hits");
+      builder.mergeFrom(snapshot.getMessage());
+      return;
+    }
+
+    Metrics.increment("config.snapshot_misses");
+    try {
+      TextFormat.getParser().merge(new String(text, StandardCharsets.UTF_8), builder);
+    } catch (ParseException e) {
+      throw new ParseException(file + ": " + e.getMessage());
+    }
+    writeSnapshot(snapshotFile, Proto.ConfigSnapshot.newBuilder()
+        .setTextSha256(hash)
+        .setTextModifiedMillis(modifiedMillis)
+        .setMessage(builder.buildPartial().toByteString())
+        .build());
+  }
+
+  private Proto.ConfigSnapshot readSnapshot(File snapshotFile) {
+    if (!snapshotFile.exists()) {
+      return null;
+    }
+    try {
+      return Proto.ConfigSnapshot.parseFrom(Files.toByteArray(snapshotFile));
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Ignoring unreadable config snapshot " + snapshotFile, e);
+      return null;
+    }
+  }
+
+  private void writeSnapshot(File snapshotFile, Proto.ConfigSnapshot snapshot) {
+    File tempFile = new File(snapshotFile.getPath() + ".tmp");
+    try {
+      Files.write(snapshot.toByteArray(), tempFile);
+      Files.move(tempFile, snapshotFile);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Could not write config snapshot " + snapshotFile, e);
+    }
+  }
+
+  private static File getSnapshotFile(File file) {
+    return new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".snapshot");
+  }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Builds a PKCS#10 certificate signing request for a list of DNS names.
+ */
+// @formatter:off
+public class CsrBuilder {
+  private static final String COMMON_NAME = "2.5.4.3";
+  private static final String EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+  private static final String SUBJECT_ALT_NAME = "2.5.29.17";
+  private static final String SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+  private static final String SHA256_WITH_ECDSA = "1.2.840.10045.4.3.2";
+  private static final int DNS_NAME = 2;
+  private static final int MAX_COMMON_NAME_LENGTH = 64;
+
+  public byte[] build(KeyPair keyPair, List<String> names) throws GeneralSecurityException {
+    Preconditions.checkArgument(!names.isEmpty(), "A CSR needs at least one name");
+    byte[][] dnsNames = new byte[names.size()][];
+    for (int i = 0; i < names.size(); i++) {
+      dnsNames[i] = Der.tagged(DNS_NAME, false, names.get(i).getBytes(StandardCharsets.US_ASCII));
+    }
+    byte[] extensions = Der.sequence(Der.sequence(
+        Der.objectIdentifier(SUBJECT_ALT_NAME),
+        Der.octetString(Der.sequence(dnsNames))));
+    byte[] attributes = Der.tagged(0, true, Der.sequence(
+        Der.objectIdentifier(EXTENSION_REQUEST),
+        Der.set(extensions)));
+    byte[] subject = names.get(0).length() <= MAX_COMMON_NAME_LENGTH
+        ? Der.sequence(Der.set(Der.sequence(
+            Der.objectIdentifier(COMMON_NAME), Der.utf8String(names.get(0)))))
+        : Der.sequence();
+    byte[] requestInfo = Der.sequence(
+        Der.integer(0),
+        subject,
+        keyPair.getPublic().getEncoded(),
+        attributes);
+
+    boolean isRsa = keyPair.getPrivate().getAlgorithm().equals("RSA");
+    Signature signature = Signature.getInstance(isRsa ? "SHA256withRSA" : "SHA256withECDSA");
+    signature.initSign(keyPair.getPrivate());
+    signature.update(requestInfo);
+    byte[] algorithm = isRsa
+        ? Der.sequence(Der.objectIdentifier(SHA256_WITH_RSA), Der.nullValue())
+        : Der.sequence(Der.objectIdentifier(SHA256_WITH_ECDSA));
+    return Der.sequence(requestInfo, algorithm, Der.bitString(signature.sign()));
+  }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Just enough DER encoding and decoding to build certificate signing requests
+ * and to read keys.
+ */
+// @formatter:off
+public final class Der {
+  public static final int INTEGER = 0x02;
+  public static final int BIT_STRING = 0x03;
+  public static final int OCTET_STRING = 0x04;
+  public static final int NULL = 0x05;
+  public static final int OBJECT_IDENTIFIER = 0x06;
+  public static final int UTF8_STRING = 0x0c;
+  public static final int UTC_TIME = 0x17;
+  public static final int GENERALIZED_TIME = 0x18;
+  public static final int SEQUENCE = 0x30;
+  public static final int SET = 0x31;
+
+  private Der() {
+  }
+
+  public static byte[] sequence(byte[]... elements) {
+    return encode(SEQUENCE, concat(elements));
+  }
+
+  public static byte[] set(byte[]... elements) {
+    return encode(SET, concat(elements));
+  }
+
+  public static byte[] integer(long value) {
+    return encode(INTEGER, BigInteger.valueOf(value).toByteArray());
+  }
+
+  public static byte[] nullValue() {
+    return encode(NULL, new byte[0]);
+  }
+
+  public static byte[] utf8String(String value) {
+    return encode(UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static byte[] octetString(byte[] value) {
+    return encode(OCTET_STRING, value);
+  }
+
+  public static byte[] bitString(byte[] value) {
+    byte[] content = new byte[value.length + 1];
+    System.arraycopy(value, 0, content, 1, value.length);
+    return encode(BIT_STRING, content);
+  }
+
+  /** A context-specific tag; {@code constructed} for [n] wrapping other elements. */
+  public static byte[] tagged(int tagNumber, boolean constructed, byte[] content) {
+    return encode(0x80 | (constructed ? 0x20 : 0) | tagNumber, content);
+  }
+
+  public static byte[] objectIdentifier(String oid) {
+    String[] arcs = oid.split("\\.");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+    for (int i = 2; i < arcs.length; i++) {
+      writeBase128(out, Long.parseLong(arcs[i]));
+    }
+    return encode(OBJECT_IDENTIFIER, out.toByteArray());
+  }
+
+  public static byte[] encode(int tag, byte[] content) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 6);
+    out.write(tag);
+    int length = content.length;
+    if (length < 0x80) {
+      out.write(length);
+    } else {
+      int lengthBytes = (32 - Integer.numberOfLeadingZeros(length) + 7) / 8;
+      out.write(0x80 | lengthBytes);
+      for (int i = lengthBytes - 1; i >= 0; i--) {
+        out.write(length >>> (8 * i));
+      }
+    }
+    out.write(content, 0, content.length);
+    return out.toByteArray();
+  }
+
+  public static byte[] concat(byte[]... elements) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] element : elements) {
+      out.write(element, 0, element.length);
+    }
+    return out.toByteArray();
+  }
+
+  public static Value parse(byte[] data) {
+    return parse(data, 0, data.length);
+  }
+
+  private static Value parse(byte[] data, int offset, int limit) {
+    Preconditions.checkArgument(offset + 2 <= limit, "Truncated DER at %s", offset);
+    int tag = data[offset] & 0xff;
+    int length = data[offset + 1] & 0xff;
+    int contentStart = offset + 2;
+    if (length >= 0x80) {
+      int lengthBytes = length & 0x7f;
+      Preconditions.checkArgument(lengthBytes > 0 && lengthBytes <= 4, "Bad DER length at %s", offset);
+      length = 0;
+      for (int i = 0; i < lengthBytes; i++) {
+        length = (length << 8) | (data[contentStart++] & 0xff);
+      }
+    }
+    Preconditions.checkArgument(length >= 0 && contentStart + length <= limit,
+        "Truncated DER at %s", offset);
+    return new Value(data, tag, offset, contentStart, contentStart + length);
+  }
+
+  /** A decoded tag-length-value, referring into the original buffer. */
+  public static final class Value {
+    private final byte[] data;
+    private final int tag;
+    private final int start;
+    private final int contentStart;
+    private final int end;
+
+    private Value(byte[] data, int tag, int start, int contentStart, int end) {
+      this.data = data;
+      this.tag = tag;
+      this.start = start;
+      this.contentStart = contentStart;
+      this.end = end;
+    }
+
+    public int getTag() {
+      return tag;
+    }
+
+    public byte[] getContent() {
+      return Arrays.copyOfRange(data, contentStart, end);
+    }
+
+    public byte[] getEncoded() {
+      return Arrays.copyOfRange(data, start, end);
+    }
+
+    public List<Value> children() {
+      List<Value> children = new ArrayList<>();
+      for (int offset = contentStart; offset < end; ) {
+        Value child = parse(data, offset, end);
+        children.add(child);
+        offset = child.end;
+      }
+      return children;
+    }
+
+    public Value child(int index) {
+      List<Value> children = children();
+      Preconditions.checkArgument(index < children.size(), "No DER element %s", index);
+      return children.get(index);
+    }
+
+    /** Reads a UTCTime or GeneralizedTime, which DER requires in UTC with seconds. */
+    public Instant getTime() {
+      int year;
+      int i = contentStart;
+      if (tag == UTC_TIME) {
+        year = digits(i, 2);
+        year += year >= 50 ? 1900 : 2000;
+        i += 2;
+      } else {
+        Preconditions.checkState(tag == GENERALIZED_TIME, "Not a time: tag %s", tag);
+        year = digits(i, 4);
+        i += 4;
+      }
+      return LocalDateTime.of(year, digits(i, 2), digits(i + 2, 2), digits(i + 4, 2), digits(i + 6, 2),
+          digits(i + 8, 2)).toInstant(ZoneOffset.UTC);
+    }
+
+    private int digits(int offset, int count) {
+      Preconditions.checkState(offset + count <= end, "Truncated time");
+      int value = 0;
+      for (int i = offset; i < offset + count; i++) {
+        Preconditions.checkState(data[i] >= '0' && data[i] <= '9', "Not a digit in time");
+        value = value * 10 + data[i] - '0';
+      }
+      return value;
+    }
+
+    public String getObjectIdentifier() {
+      Preconditions.checkState(tag == OBJECT_IDENTIFIER, "Not an OID: tag %s", tag);
+      StringBuilder oid = new StringBuilder();
+      long value = 0;
+      for (int i = contentStart; i < end; i++) {
+        value = (value << 7) | (data[i] & 0x7f);
+        if ((data[i] & 0x80) == 0) {
+          if (oid.length() == 0) {
+            long first = Math.min(2, value / 40);
+            oid.append(first).append('.').append(value - first * 40);
+          } else {
+            oid.append('.').append(value);
+          }
+          value = 0;
+        }
+      }
+      return oid.toString();
+    }
+  }
+
+  private static void writeBase128(ByteArrayOutputStream out, long value) {
+    int groups = Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+    for (int i = groups - 1; i >= 0; i--) {
+      int group = (int) ((value >>> (7 * i)) & 0x7f);
+      out.write(i == 0 ? group : group | 0x80);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.shredzone.acme4j.toolbox.JSON;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+
+/**
+ * Keeps each session_url's ACME directory on disk so that short runs can skip
+ * fetching it.  Entries older than the TTL are revalidated with If-Modified-Since.
+ */
+// @formatter:off
+public class DirectoryCache {
+  private final Logger logger = Logger.getLogger(DirectoryCache.class.getName());
+  private final File directory;
+  private final Duration ttl;
+
+  public DirectoryCache(Proto.Config config) {
+    this.directory = config.getDirectoryCacheDirectory().isEmpty()
+        ? null : new File(config.getDirectoryCacheDirectory());
+    this.ttl = Duration.ofSeconds(config.getDirectoryCacheTtlSeconds());
+  }
+
+  public Proto.DirectoryCacheEntry read(URI serverUri) {
+    if (directory == null) {
+      return null;
+    }
+    File file = getFile(serverUri);
+    if (!file.exists()) {
+      return null;
+    }
+    try {
+      Proto.DirectoryCacheEntry entry = Proto.DirectoryCacheEntry.parseFrom(Files.toByteArray(file));
+      return entry.getSessionUrl().equals(serverUri.toString()) ? entry : null;
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Ignoring unreadable directory cache " + file, e);
+      return null;
+    }
+  }
+
+  public Proto.DirectoryCacheEntry write(URI serverUri, JSON json, ZonedDateTime lastModified) {
+    Proto.DirectoryCacheEntry.Builder entry = Proto.DirectoryCacheEntry.newBuilder()
+        .setSessionUrl(serverUri.toString())
+        .setJson(json.toString())
+        .setFetchedMillis(System.currentTimeMillis());
+    if (lastModified != null) {
+      entry.setLastModifiedMillis(lastModified.toInstant().toEpochMilli());
+    }
+    return write(entry.build());
+  }
+
+  public Proto.DirectoryCacheEntry refresh(Proto.DirectoryCacheEntry entry) {
+    return write(entry.toBuilder().setFetchedMillis(System.currentTimeMillis()).build());
+  }
+
+  public boolean isFresh(Proto.DirectoryCacheEntry entry) {
+    return getExpires(entry).isAfter(ZonedDateTime.now());
+  }
+
+  public ZonedDateTime getExpires(Proto.DirectoryCacheEntry entry) {
+    return Instant.ofEpochMilli(entry.getFetchedMillis()).plus(ttl).atZone(ZoneOffset.UTC);
+  }
+
+  public static ZonedDateTime getLastModified(Proto.DirectoryCacheEntry entry) {
+    return entry.hasLastModifiedMillis()
+        ? Instant.ofEpochMilli(entry.getLastModifiedMillis()).atZone(ZoneOffset.UTC) : null;
+  }
+
+  private Proto.DirectoryCacheEntry write(Proto.DirectoryCacheEntry entry) {
+    if (directory == null) {
+      return entry;
+    }
+    File file = getFile(URI.create(entry.getSessionUrl()));
+    File tempFile = new File(file.getPath() + ".tmp");
+    try {
+      Files.write(entry.toByteArray(), tempFile);
+      Files.move(tempFile, file);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Could not write directory cache " + file, e);
+    }
+    return entry;
+  }
+
+  private File getFile(URI serverUri) {
+    return new File(directory, Hashing.sha256().hashString(serverUri.toString(), StandardCharsets.UTF_8)
+        + ".directory");
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Generates domain key pairs ahead of time on spare cores.  Nothing is generated
+ * until the first key of a type is requested, so runs with nothing due stay cheap.
+ */
+// @formatter:off
+public class DomainKeyPool {
+  private final int poolSize;
+  private final ExecutorService executor;
+  private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+  public DomainKeyPool(int poolSize) {
+    this.poolSize = poolSize;
+    this.executor = Executors.newFixedThreadPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setPriority(Thread.MIN_PRIORITY)
+            .setNameFormat("domain-key-%d")
+            .build());
+  }
+
+  /**
+   * Returns a pooled key if one is ready, otherwise one generated in the
+   * background, and tops the pool back up.
+   */
+  public CompletableFuture<KeyPair> take(String algorithm, int keySize) {
+    Pool pool = pools.computeIfAbsent(algorithm + "/" + keySize, k -> new Pool());
+    KeyPair keyPair = pool.ready.poll();
+    CompletableFuture<KeyPair> result;
+    if (keyPair != null) {
+      Metrics.increment("domain_keys.pool_hits");
+      result = CompletableFuture.completedFuture(keyPair);
+    } else {
+      Metrics.increment("domain_keys.pool_misses");
+      result = CompletableFuture.supplyAsync(() -> generate(algorithm, keySize), executor);
+    }
+    while (pool.ready.size() + pool.pending.get() < poolSize) {
+      pool.pending.incrementAndGet();
+      executor.execute(() -> {
+        try {
+          pool.ready.offer(generate(algorithm, keySize));
+        } finally {
+          pool.pending.decrementAndGet();
+        }
+      });
+    }
+    return result;
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private class Pool {
+    final BlockingQueue<KeyPair> ready = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    final AtomicInteger pending = new AtomicInteger();
+  }
+
+  private static KeyPair generate(String algorithm, int keySize) {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+      generator.initialize(keySize);
+      return generator.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cannot generate " + algorithm + " " + keySize + " key", e);
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Advisory lock held while an order's domains are checked and renewed, so that
+ * overlapping runs and other hosts sharing the key directory skip them instead
+ * of ordering the same certificate twice.  Each domain gets a file created with
+ * CREATE_NEW holding a token unique to the holder, whose mtime is refreshed
+ * while the lock is held.  Files not refreshed for the stale age are taken
+ * over.  Takeovers and releases hold a guard file and re-check the lock under
+ * it, so neither can remove a lock another run has just taken.  A release
+ * whose guard stays busy removes its lock anyway while the lock is fresh, since
+ * only stale locks are ever taken over.
+ */
+// @formatter:off
+public class DomainLock implements Closeable {
+  private static final Logger logger = Logger.getLogger(DomainLock.class.getName());
+  private static final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setDaemon(true).setNameFormat("domain-lock-refresh").build());
+
+  private static final int GUARD_ATTEMPTS = 200;
+  private static final long GUARD_RETRY_MILLIS = 10;
+  private static final int RELEASE_ATTEMPTS = 2;
+
+  private final List<File> files;
+  private final byte[] token;
+  private final Duration staleAge;
+  private ScheduledFuture<?> refresh;
+
+  private DomainLock(List<File> files, byte[] token, Duration staleAge) {
+    this.files = files;
+    this.token = token;
+    this.staleAge = staleAge;
+  }
+
+  /** Locks every domain of the order, or none of them and returns null. */
+  public static DomainLock tryAcquire(Proto.AccountConfig accountConfig, List<Proto.Domain> domains,
+      Duration staleAge) throws IOException {
+    TreeSet<String> names = new TreeSet<>();
+    for (Proto.Domain domain : domains) {
+      names.add(domain.getServerName(0));
+    }
+    byte[] token = (ManagementFactory.getRuntimeMXBean().getName() + " " + UUID.randomUUID() + "\n")
+        .getBytes(StandardCharsets.UTF_8);
+    List<File> locked = new ArrayList<>();
+    for (String name : names) {
+      File file = new File(accountConfig.getKeyDirectory(),
+          String.format(accountConfig.getDomainLockFilenameSpec(), name));
+      if (!tryCreate(file, token, staleAge)) {
+        Metrics.increment("domain_lock.contended");
+        new DomainLock(locked, token, staleAge).close();
+        return null;
+      }
+      locked.add(file);
+    }
+    Metrics.increment("domain_lock.acquired");
+    DomainLock lock = new DomainLock(locked, token, staleAge);
+    long refreshMillis = Math.max(1, staleAge.toMillis() / 4);
+    lock.refresh = refresher.scheduleWithFixedDelay(lock::refresh, refreshMillis, refreshMillis,
+        TimeUnit.MILLISECONDS);
+    return lock;
+  }
+
+  @Override
+  public void close() {
+    if (refresh != null) {
+      refresh.cancel(false);
+    }
+    for (File file : files) {
+      try {
+        release(file);
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Could not remove lock " + file, e);
+      }
+    }
+  }
+
+  private void release(File file) throws IOException {
+    for (int attempt = 0; attempt < RELEASE_ATTEMPTS; attempt++) {
+      Boolean removed = removeIfHeldBy(file, token, staleAge);
+      if (removed != null) {
+        if (!removed) {
+          logger.log(Level.WARNING, "Lock {0} was taken over by another run", file);
+        }
+        return;
+      }
+    }
+    Metrics.increment("domain_lock.guard_timeouts");
+    // Only stale locks are taken over, so while ours is fresh no other run
+    // removes it and it can go without the guard.
+    if (!isStale(file, staleAge) && isHeldBy(file, token)) {
+      Files.deleteIfExists(file.toPath());
+      logger.log(Level.WARNING, "Removed lock {0} without its guard, which stayed busy", file);
+    } else if (file.exists()) {
+      logger.log(Level.WARNING, "Could not remove lock {0}, its guard stayed busy", file);
+    }
+  }
+
+  /** Keeps a long renewal's locks from looking stale. */
+  private void refresh() {
+    long now = System.currentTimeMillis();
+    for (File file : files) {
+      if (!file.setLastModified(now)) {
+        logger.log(Level.WARNING, "Could not refresh lock {0}", file);
+      }
+    }
+  }
+
+  private static boolean tryCreate(File file, byte[] token, Duration staleAge) throws IOException {
+    if (create(file, token)) {
+      return true;
+    }
+    if (!isStale(file, staleAge)) {
+      return false;
+    }
+    Boolean created = withGuard(file, staleAge, () -> {
+      // Checked again now that no other run can be replacing the file.
+      if (!isStale(file, staleAge)) {
+        return false;
+      }
+      logger.log(Level.WARNING, "Removing stale lock {0}", file);
+      Metrics.increment("domain_lock.stale_removed");
+      Files.deleteIfExists(file.toPath());
+      return create(file, token);
+    });
+    return created != null && created;
+  }
+
+  private static boolean create(File file, byte[] token) throws IOException {
+    try {
+      Files.write(file.toPath(), token, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+      return true;
+    } catch (FileAlreadyExistsException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Removes the lock if it still holds {@code token}, rather than a token of a
+   * run which took it over.  Returns null if the guard could not be had.
+   */
+  private static Boolean removeIfHeldBy(File file, byte[] token, Duration staleAge) throws IOException {
+    return withGuard(file, staleAge, () -> {
+      if (!isHeldBy(file, token)) {
+        return false;
+      }
+      Files.delete(file.toPath());
+      return true;
+    });
+  }
+
+  private static boolean isHeldBy(File file, byte[] token) throws IOException {
+    try {
+      return Arrays.equals(Files.readAllBytes(file.toPath()), token);
+    } catch (NoSuchFileException removedMeanwhile) {
+      return false;
+    }
+  }
+
+  private static boolean isStale(File file, Duration staleAge) {
+    long modified = file.lastModified();
+    return modified != 0 && System.currentTimeMillis() - modified > staleAge.toMillis();
+  }
+
+  private interface GuardedAction {
+    boolean run() throws IOException;
+  }
+
+  /**
+   * Runs {@code action} holding the lock's guard file, so that taking over and
+   * releasing a lock, the only ways an existing lock file is removed, never
+   * overlap.  Returns null if the guard could not be had in time.
+   */
+  private static Boolean withGuard(File file, Duration staleAge, GuardedAction action) throws IOException {
+    File guard = new File(file.getPath() + ".guard");
+    byte[] owner = ManagementFactory.getRuntimeMXBean().getName().getBytes(StandardCharsets.UTF_8);
+    for (int attempt = 0; !create(guard, owner); attempt++) {
+      if (isStale(guard, staleAge)) {
+        // Left by a run which died while holding it.
+        Files.deleteIfExists(guard.toPath());
+      } else if (attempt >= GUARD_ATTEMPTS) {
+        logger.log(Level.WARNING, "Could not take guard {0}", guard);
+        return null;
+      } else {
+        try {
+          Thread.sleep(GUARD_RETRY_MILLIS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return null;
+        }
+      }
+    }
+    try {
+      return action.run();
+    } finally {
+      Files.deleteIfExists(guard.toPath());
+    }
+  }
+}
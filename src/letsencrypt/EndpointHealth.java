@@ -0,0 +1,124 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks recent latencies and errors per ACME endpoint so renewals can move
+ * away from a CA which is slow or failing.
+ */
+// @formatter:off
+public class EndpointHealth {
+  public enum Phase { NEW_ORDER, VALIDATION }
+
+  private static final int MAX_SAMPLES = 100;
+
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+  public void recordLatency(String sessionUrl, Phase phase, Duration latency) {
+    getStats(sessionUrl).recordLatency(phase, latency.toMillis());
+  }
+
+  public void recordSuccess(String sessionUrl) {
+    getStats(sessionUrl).recordSuccess();
+  }
+
+  public void recordFailure(String sessionUrl) {
+    getStats(sessionUrl).recordFailure();
+  }
+
+  public long getP95Millis(String sessionUrl, Phase phase, Proto.Failover failover) {
+    return getStats(sessionUrl).getP95Millis(phase, failover.getWindowSeconds() * 1000L);
+  }
+
+  public boolean isHealthy(String sessionUrl, Proto.Failover failover) {
+    Stats endpoint = getStats(sessionUrl);
+    long windowMillis = failover.getWindowSeconds() * 1000L;
+    return endpoint.getConsecutiveFailures(windowMillis) < failover.getMaxConsecutiveErrors()
+        && endpoint.getP95Millis(Phase.NEW_ORDER, windowMillis) <= failover.getNewOrderSloMillis()
+        && endpoint.getP95Millis(Phase.VALIDATION, windowMillis) <= failover.getValidationSloMillis();
+  }
+
+  public String describe(String sessionUrl, Proto.Failover failover) {
+    Stats endpoint = getStats(sessionUrl);
+    long windowMillis = failover.getWindowSeconds() * 1000L;
+    return sessionUrl
+        + " newOrder p95=" + endpoint.getP95Millis(Phase.NEW_ORDER, windowMillis) + "ms"
+        + " validation p95=" + endpoint.getP95Millis(Phase.VALIDATION, windowMillis) + "ms"
+        + " consecutive errors=" + endpoint.getConsecutiveFailures(windowMillis);
+  }
+
+  private Stats getStats(String sessionUrl) {
+    return stats.computeIfAbsent(sessionUrl, k -> new Stats());
+  }
+
+  private static class Stats {
+    // Each sample is {timestamp, latency} in millis.
+    private final Map<Phase, Deque<long[]>> samples = new EnumMap<>(Phase.class);
+    private int consecutiveFailures;
+    private long lastFailureMillis;
+
+    synchronized void recordLatency(Phase phase, long latencyMillis) {
+      Deque<long[]> phaseSamples = samples.computeIfAbsent(phase, k -> new ArrayDeque<>());
+      phaseSamples.addLast(new long[] { System.currentTimeMillis(), latencyMillis });
+      if (phaseSamples.size() > MAX_SAMPLES) {
+        phaseSamples.removeFirst();
+      }
+    }
+
+    synchronized void recordSuccess() {
+      consecutiveFailures = 0;
+    }
+
+    synchronized void recordFailure() {
+      consecutiveFailures++;
+      lastFailureMillis = System.currentTimeMillis();
+    }
+
+    synchronized int getConsecutiveFailures(long windowMillis) {
+      return System.currentTimeMillis() - lastFailureMillis > windowMillis ? 0 : consecutiveFailures;
+    }
+
+    synchronized long getP95Millis(Phase phase, long windowMillis) {
+      Deque<long[]> phaseSamples = samples.get(phase);
+      if (phaseSamples == null) {
+        return 0;
+      }
+      long cutoff = System.currentTimeMillis() - windowMillis;
+      while (!phaseSamples.isEmpty() && phaseSamples.peekFirst()[0] < cutoff) {
+        phaseSamples.removeFirst();
+      }
+      if (phaseSamples.isEmpty()) {
+        return 0;
+      }
+      long[] latencies = phaseSamples.stream().mapToLong(sample -> sample[1]).toArray();
+      Arrays.sort(latencies);
+      return latencies[(int) Math.ceil(0.95 * latencies.length) - 1];
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Leader election between daemons sharing a filesystem.  The leader holds an
+ * exclusive lock on the lease file and rewrites its heartbeat there every poll
+ * interval; if that write fails it steps down.  The operating system drops the
+ * lock when the leader's process dies, so a polling standby takes over within
+ * one interval.
+ */
+// @formatter:off
+public class LeaderElection implements Closeable {
+  private static final int STALE_HEARTBEATS = 5;
+
+  private final Logger logger = Logger.getLogger(LeaderElection.class.getName());
+  private final File file;
+  private final Duration poll;
+  private final String identity = ManagementFactory.getRuntimeMXBean().getName();
+  private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setDaemon(true).setNameFormat("leader-heartbeat").build());
+  private FileChannel channel;
+  private FileLock lock;
+  private ScheduledFuture<?> heartbeat;
+  private volatile boolean leader;
+  private boolean warnedStale;
+
+  public LeaderElection(File file, Duration poll) {
+    this.file = file;
+    this.poll = poll;
+  }
+
+  public boolean isLeader() {
+    return leader;
+  }
+
+  /**
+   * Returns whether this process is the leader, taking the lease if it is free.
+   * On an error the lease is released and the file reopened on the next call.
+   */
+  public synchronized boolean tryAcquire() throws IOException {
+    if (leader) {
+      return true;
+    }
+    try {
+      return acquire();
+    } catch (IOException e) {
+      stepDown();
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException closeFailure) {
+          e.addSuppressed(closeFailure);
+        }
+        channel = null;
+      }
+      throw e;
+    }
+  }
+
+  private boolean acquire() throws IOException {
+    if (channel == null) {
+      channel = FileChannel.open(file.toPath(),
+          StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+    FileLock lock = channel.tryLock();
+    if (lock == null) {
+      checkHeartbeat();
+      return false;
+    }
+    this.lock = lock;
+    writeHeartbeat();
+    leader = true;
+    warnedStale = false;
+    heartbeat = heartbeatExecutor.scheduleWithFixedDelay(
+        this::renewLease, poll.toMillis(), poll.toMillis(), TimeUnit.MILLISECONDS);
+    Metrics.increment("leader.elected");
+    logger.log(Level.INFO, "{0} is now leader via {1}", new Object[] { identity, file });
+    return true;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    stepDown();
+    heartbeatExecutor.shutdownNow();
+    if (channel != null) {
+      channel.close();
+    }
+  }
+
+  private synchronized void renewLease() {
+    if (!leader) {
+      return;
+    }
+    try {
+      writeHeartbeat();
+    } catch (IOException e) {
+      logger.log(Level.SEVERE, "Could not renew lease on " + file + ", stepping down", e);
+      Metrics.increment("leader.lease_lost");
+      stepDown();
+    }
+  }
+
+  private void stepDown() {
+    if (heartbeat != null) {
+      heartbeat.cancel(false);
+      heartbeat = null;
+    }
+    if (lock != null) {
+      try {
+        lock.release();
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Could not release lock on " + file, e);
+      }
+      lock = null;
+    }
+    leader = false;
+  }
+
+  private void writeHeartbeat() throws IOException {
+    byte[] heartbeat = (identity + " " + System.currentTimeMillis() + "\n").getBytes(StandardCharsets.UTF_8);
+    channel.truncate(0);
+    channel.write(ByteBuffer.wrap(heartbeat), 0);
+    channel.force(false);
+  }
+
+  /** The lock cannot be broken, but a leader that stops heartbeating is worth a warning. */
+  private void checkHeartbeat() throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    channel.read(buffer, 0);
+    String[] heartbeat = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).trim().split(" ");
+    if (heartbeat.length != 2 || !heartbeat[1].matches("[0-9]+")) {
+      return;
+    }
+    long ageMillis = System.currentTimeMillis() - Long.parseLong(heartbeat[1]);
+    boolean stale = ageMillis > STALE_HEARTBEATS * poll.toMillis();
+    if (stale && !warnedStale) {
+      logger.log(Level.WARNING, "Leader {0} has not renewed its lease on {1} for {2,number,#}s",
+          new Object[] { heartbeat[0], file, ageMillis / 1000 });
+    }
+    warnedStale = stale;
+  }
+}
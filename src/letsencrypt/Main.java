@@ -21,95 +21,612 @@ package letsencrypt;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.Period;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 import java.util.logging.Logger;
 
 import org.shredzone.acme4j.Account;
-import org.shredzone.acme4j.Session;
+import org.shredzone.acme4j.exception.AcmeException;
+import org.shredzone.acme4j.toolbox.JSONBuilder;
 
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.io.Files;
-import com.google.protobuf.TextFormat;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.TextFormat.ParseException;
 
 // @formatter:off
 public class Main {
+  private static final Duration STANDBY_WARM_UP_INTERVAL = Duration.ofMinutes(1);
+  private static final int DEFAULT_PLAN_DAYS = 30;
+
   private final Logger logger = Logger.getLogger(Main.class.getName());
   private final Proto.Config config;
-  private boolean restartRequired;
+  private final Shard shard;
+  private final boolean daemon;
+  private final int planDays;
+  private final RateLimiter rateLimiter;
+  private final EndpointHealth endpointHealth = new EndpointHealth();
+  private final DomainKeyPool domainKeyPool;
+  private final ExecutorService warmUpExecutor = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder().setDaemon(true).setNameFormat("warm-up-%d").build());
+  private final Set<String> warmedUp = ConcurrentHashMap.newKeySet();
+  private final SessionRouter sessionRouter;
+  private final RenewalInfo renewalInfo;
+  private final RenewalEventLog eventLog;
+  private final Map<String, AccountSupplier> accountSuppliers = new ConcurrentHashMap<>();
+  private final Map<Proto.AccountConfig, KeyLoader> keyLoaders = new IdentityHashMap<>();
+  private final Map<Proto.AccountConfig, List<List<Proto.Domain>>> orderPlans = new IdentityHashMap<>();
+  private final Map<String, Integer> orderFailures = new ConcurrentHashMap<>();
+  private volatile boolean restartRequired;
 
   public static void main(String args[]) throws Exception {
-    new Main(args).run();
+    Main main = new Main(args);
+    if (main.planDays >= 0) {
+      main.plan();
+    } else if (main.daemon) {
+      main.runDaemon();
+    } else {
+      main.run();
+    }
   }
 
   public Main(String args[]) throws ParseException, IOException {
-    if (args.length != 1) {
-      System.err.println("client.sh path-to-config-proto-txt-file");
+    Shard shard = Shard.ALL;
+    boolean daemon = false;
+    int planDays = -1;
+    String configFilename = null;
+    for (String arg : args) {
+      if (arg.equals("--daemon")) {
+        daemon = true;
+      } else if (arg.equals("--plan")) {
+        planDays = DEFAULT_PLAN_DAYS;
+      } else if (arg.startsWith("--plan=") && arg.substring("--plan=".length()).matches("[0-9]{1,5}")) {
+        planDays = Integer.parseInt(arg.substring("--plan=".length()));
+      } else if (arg.startsWith("--shard=")) {
+        shard = Shard.parse(arg.substring("--shard=".length()));
+      } else if (configFilename == null && !arg.startsWith("--")) {
+        configFilename = arg;
+      } else {
+        configFilename = null;
+        break;
+      }
+    }
+    if (configFilename == null) {
+      System.err.println("client.sh [--daemon | --plan[=days]] [--shard=index/count] path-to-config-proto-txt-file");
       System.exit(-1);
     }
-    config = readConfig(args[0]);
+    this.shard = shard;
+    this.daemon = daemon;
+    this.planDays = planDays;
+    config = readConfig(configFilename);
+    AsyncLogHandler.install(config.getLogBufferSize());
+    if (shard != Shard.ALL) {
+      logger.log(Level.INFO, "Handling shard {0} of the configured domains", shard);
+    }
+    rateLimiter = new RateLimiter(config);
+    domainKeyPool = new DomainKeyPool(config.getDomainKeyPoolSize());
+    PooledHttpConnector.setMaxConnections(config.getMaxPooledConnections());
+    sessionRouter = new SessionRouter(new PooledHttpConnector(), new DirectoryCache(config));
+    renewalInfo = new RenewalInfo(sessionRouter, rateLimiter);
+    eventLog = new RenewalEventLog(config);
   }
 
   public void run() throws Exception {
     try {
-      Supplier<Session> sessionSupplier = new SessionSupplier(config.getSessionUrl());
-      for (Proto.AccountConfig accountConfig : config.getAccountConfigList()) {
-        KeyLoader keyLoader = new KeyLoader(accountConfig);
-        Supplier<Account> accountSupplier = new AccountSupplier(accountConfig, sessionSupplier);
-        process(accountSupplier, accountConfig, keyLoader);
-      }
-      if (restartRequired) {
-        Files.write(new byte[0], new File(config.getRestartNotificationFilename()));
-      }
+      rateLimiter.load();
+      renewDue(() -> true);
     } catch (Throwable t) {
       logger.log(Level.SEVERE, "Aborting", t);
       throw t;
+    } finally {
+      shutdownExecutors();
+      rateLimiter.save();
+      eventLog.close();
+      Metrics.log();
+    }
+  }
+
+  /**
+   * Renews every daemon_interval_seconds until interrupted.  With a
+   * leader_lock_filename only the elected leader renews; a standby keeps its
+   * sessions, accounts and certificate summaries warm and renews straight away
+   * once it takes over.
+   */
+  public void runDaemon() throws Exception {
+    LeaderElection election = config.getLeaderLockFilename().isEmpty() ? null
+        : new LeaderElection(new File(config.getLeaderLockFilename()),
+            Duration.ofSeconds(config.getLeaderPollSeconds()));
+    try {
+      rateLimiter.load();
+      Instant nextPass = Instant.MIN;
+      Instant nextWarmUp = Instant.MIN;
+      while (true) {
+        if (election == null || tryLead(election)) {
+          if (!Instant.now().isBefore(nextPass)) {
+            runPass(election == null ? () -> true : election::isLeader);
+            nextPass = Instant.now().plusSeconds(config.getDaemonIntervalSeconds());
+          }
+        } else {
+          nextPass = Instant.MIN;
+          if (!Instant.now().isBefore(nextWarmUp)) {
+            warmStandby();
+            nextWarmUp = Instant.now().plus(STANDBY_WARM_UP_INTERVAL);
+          }
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.getLeaderPollSeconds()));
+      }
+    } finally {
+      if (election != null) {
+        election.close();
+      }
+      shutdownExecutors();
+      rateLimiter.save();
+      eventLog.close();
+      Metrics.log();
+    }
+  }
+
+  /** Whether this daemon leads; an election error counts as standing by until the next poll. */
+  private boolean tryLead(LeaderElection election) {
+    try {
+      return election.tryAcquire();
+    } catch (IOException e) {
+      log(Level.SEVERE, "Leader election via {0} failed, retrying", e, config.getLeaderLockFilename());
+      Metrics.increment("leader.election_errors");
+      return false;
+    }
+  }
+
+  /** Prints which domains would renew now and over the next planDays, without network access. */
+  public void plan() {
+    try {
+      new RenewalPlanner(config, planDays, this::planOrders, this::getKeyLoader, renewalInfo)
+          .print(System.out);
+    } finally {
+      shutdownExecutors();
+    }
+  }
+
+  /** Stops the background threads; the rest of the state needs no cleanup. */
+  void shutdownExecutors() {
+    warmUpExecutor.shutdownNow();
+    domainKeyPool.shutdown();
+  }
+
+  private void runPass(BooleanSupplier isLeader) throws Exception {
+    try {
+      renewDue(isLeader);
+    } catch (InterruptedException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.log(Level.SEVERE, "Renewal pass failed", e);
+    } finally {
+      try {
+        rateLimiter.save();
+      } catch (IOException e) {
+        // Buckets stay in memory; the next pass saves them again.
+        logger.log(Level.WARNING, "Could not save rate limit state", e);
+      }
+      eventLog.flush();
+      Metrics.log();
+    }
+  }
+
+  /** Renews what is due, abandoning the rest once {@code isLeader} turns false. */
+  private void renewDue(BooleanSupplier isLeader) throws Exception {
+    Map<String, PriorityQueue<PendingRenewal>> renewalsByEndpoint = new LinkedHashMap<>();
+    Instant now = Instant.now();
+    for (Proto.AccountConfig accountConfig : config.getAccountConfigList()) {
+      KeyLoader keyLoader = getKeyLoader(accountConfig);
+      Function<String, AccountSupplier> accountSupplierFor = url -> getAccountSupplier(accountConfig, url);
+      RenewalSchedule schedule = new RenewalSchedule(accountConfig);
+      for (List<Proto.Domain> domains : planOrders(accountConfig)) {
+        List<String> sessionUrls = getSessionUrls(accountConfig, domains.get(0));
+        for (String sessionUrl : sessionUrls) {
+          warmUp(sessionUrl, accountConfig);
+        }
+        List<CertificateSummary> summaries = loadSummaries(keyLoader, domains);
+        schedule.countIssued(summaries, now);
+        String orderKey = accountConfig.getKeyDirectory() + " " + domains.get(0).getServerName(0);
+        renewalsByEndpoint.computeIfAbsent(sessionUrls.get(0), url -> new PriorityQueue<>()).add(
+            PendingRenewal.of(domains, summaries, orderFailures.getOrDefault(orderKey, 0), now, () -> {
+              try {
+                renewIfRequired(sessionUrls, accountSupplierFor, accountConfig, domains, keyLoader, schedule);
+              } catch (Exception e) {
+                orderFailures.merge(orderKey, 1, Integer::sum);
+                throw e;
+              }
+              orderFailures.remove(orderKey);
+              return null;
+            }));
+      }
+    }
+    Throwable failure = runPerEndpoint(renewalsByEndpoint, isLeader);
+    if (!isLeader.getAsBoolean()) {
+      logger.warning("Lost leadership, abandoned the rest of the renewal pass");
+      Metrics.increment("leader.passes_abandoned");
+    }
+    if (restartRequired) {
+      Files.write(new byte[0], new File(config.getRestartNotificationFilename()));
+      restartRequired = false;
+    }
+    if (failure != null) {
+      Throwables.propagateIfPossible(failure, Exception.class);
+      throw new IllegalStateException(failure);
+    }
+  }
+
+  /**
+   * Connects to every endpoint and refreshes certificate summaries without
+   * renewing.  Warm-up runs again on every call, refreshing expired directories
+   * and retrying logins which failed.
+   */
+  private void warmStandby() {
+    warmedUp.clear();
+    for (Proto.AccountConfig accountConfig : config.getAccountConfigList()) {
+      KeyLoader keyLoader = getKeyLoader(accountConfig);
+      for (List<Proto.Domain> domains : planOrders(accountConfig)) {
+        for (String sessionUrl : getSessionUrls(accountConfig, domains.get(0))) {
+          warmUp(sessionUrl, accountConfig);
+        }
+        for (Proto.Domain domain : domains) {
+          try {
+            keyLoader.loadCertificateSummary(domain.getServerName(0));
+          } catch (Exception e) {
+            log(Level.WARNING, "Cannot read certificate for {0}", e, domain.getServerName(0));
+          }
+        }
+      }
+    }
+  }
+
+  private KeyLoader getKeyLoader(Proto.AccountConfig accountConfig) {
+    return keyLoaders.computeIfAbsent(accountConfig, a -> new KeyLoader(a, domainKeyPool));
+  }
+
+  private AccountSupplier getAccountSupplier(Proto.AccountConfig accountConfig, String sessionUrl) {
+    return accountSuppliers.computeIfAbsent(getAccountName(accountConfig, sessionUrl),
+        name -> new AccountSupplier(accountConfig, getAccountUrl(accountConfig, sessionUrl),
+            sessionRouter.forUrl(sessionUrl), rateLimiter));
+  }
+
+  private static String getAccountName(Proto.AccountConfig accountConfig, String sessionUrl) {
+    return "account in " + accountConfig.getKeyDirectory() + " on " + sessionUrl;
+  }
+
+  private void warmUp(String sessionUrl, Proto.AccountConfig accountConfig) {
+    if (warmedUp.add(sessionUrl)) {
+      logWarmUpFailure(sessionRouter.forUrl(sessionUrl).warmUp(warmUpExecutor), sessionUrl);
+    }
+    String accountName = getAccountName(accountConfig, sessionUrl);
+    if (warmedUp.add(accountName)) {
+      logWarmUpFailure(getAccountSupplier(accountConfig, sessionUrl).warmUp(warmUpExecutor), accountName);
+    }
+  }
+
+  private void logWarmUpFailure(CompletableFuture<?> warmUp, String name) {
+    warmUp.whenComplete((result, t) -> {
+      if (t != null) {
+        log(Level.WARNING, "Warm-up failed for {0}", t, name);
+      }
+    });
+  }
+
+  /** Current summaries for ordering the queue; unreadable ones count as missing. */
+  private List<CertificateSummary> loadSummaries(KeyLoader keyLoader, List<Proto.Domain> domains) {
+    List<CertificateSummary> summaries = new ArrayList<>();
+    for (Proto.Domain domain : domains) {
+      CertificateSummary summary = null;
+      try {
+        summary = keyLoader.loadCertificateSummary(domain.getServerName(0));
+      } catch (Exception e) {
+        log(Level.FINE, "Cannot read certificate for {0}", e, domain.getServerName(0));
+      }
+      summaries.add(summary);
+    }
+    return summaries;
+  }
+
+  /**
+   * Runs each endpoint's renewals, most urgent first, on its own thread, so that
+   * a slow or failing CA does not hold up the others.  A failed order is logged
+   * and recorded, and the queue keeps draining.  No further order is started
+   * once {@code isLeader} turns false.  Returns the first failure, if any.
+   */
+  private Throwable runPerEndpoint(Map<String, PriorityQueue<PendingRenewal>> renewalsByEndpoint,
+      BooleanSupplier isLeader) throws InterruptedException {
+    if (renewalsByEndpoint.isEmpty()) {
+      return null;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(renewalsByEndpoint.size(),
+        new ThreadFactoryBuilder().setNameFormat("renew-%d").build());
+    try {
+      Map<String, Future<Exception>> futures = new LinkedHashMap<>();
+      for (Map.Entry<String, PriorityQueue<PendingRenewal>> entry : renewalsByEndpoint.entrySet()) {
+        futures.put(entry.getKey(), executor.submit(() -> {
+          Exception firstFailure = null;
+          PendingRenewal renewal;
+          while (isLeader.getAsBoolean() && (renewal = entry.getValue().poll()) != null) {
+            try {
+              renewal.getRenewal().call();
+            } catch (InterruptedException e) {
+              throw e;
+            } catch (Exception e) {
+              recordOrderFailure(renewal, e);
+              firstFailure = firstFailure == null ? e : firstFailure;
+            }
+          }
+          return firstFailure;
+        }));
+      }
+      Throwable failure = null;
+      for (Map.Entry<String, Future<Exception>> entry : futures.entrySet()) {
+        Throwable endpointFailure;
+        try {
+          endpointFailure = entry.getValue().get();
+        } catch (ExecutionException e) {
+          log(Level.SEVERE, "Renewals against {0} failed", e.getCause(), entry.getKey());
+          endpointFailure = e.getCause();
+        }
+        failure = failure == null ? endpointFailure : failure;
+      }
+      return failure;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void recordOrderFailure(PendingRenewal renewal, Exception e) {
+    int failures = renewal.getFailures() + 1;
+    log(Level.SEVERE, "Renewal of {0} failed", e, renewal.getName());
+    Metrics.increment("renewal.orders_failed");
+    eventLog.append(new JSONBuilder()
+        .put("time", Instant.now())
+        .put("domain", renewal.getName())
+        .put("outcome", "order_failed")
+        .put("consecutive_failures", failures)
+        .put("error", e.toString()));
+  }
+
+  /**
+   * Renews the order's domains if any is due, holding their domain locks so
+   * that no other run renews them at the same time.  Orders which cannot be
+   * due are passed over without touching the locks; the full check runs again
+   * under the lock, as another run may have renewed meanwhile.
+   */
+  private void renewIfRequired(List<String> sessionUrls,
+      Function<String, ? extends Supplier<Account>> accountSupplierFor,
+      Proto.AccountConfig accountConfig, List<Proto.Domain> domains, KeyLoader keyLoader,
+      RenewalSchedule schedule) throws Exception {
+    if (!mayBeDue(accountConfig, domains, keyLoader, schedule)) {
+      return;
+    }
+    try (DomainLock lock = DomainLock.tryAcquire(accountConfig, domains,
+        Duration.ofSeconds(config.getDomainLockStaleSeconds()))) {
+      if (lock == null) {
+        logger.log(Level.INFO, "Skipping {0}, locked by another renewal", domains.get(0).getServerName(0));
+        return;
+      }
+      if (isRenewalRequired(sessionUrls.get(0), accountConfig, domains, keyLoader, schedule)) {
+        renewWithFailover(sessionUrls, accountSupplierFor, accountConfig, domains, keyLoader);
+      }
     }
   }
 
-  public void process(Supplier<Account> accountSupplier, Proto.AccountConfig accountConfig,
-      KeyLoader keyLoader) throws Exception {
-    for (Proto.Domain domain : accountConfig.getDomainList()) {
-      Set<X509Certificate> certificates = keyLoader.loadCertificate(domain.getServerName(0));
-      if (certificates == null
-          || isExpiringWithin(Period.ofDays(accountConfig.getBufferPeriodDays()), certificates, domain)) {
-        new CertificateRenewer(accountSupplier.get(), accountConfig, config, domain, keyLoader).renew();
+  /**
+   * Renews against the first healthy endpoint, moving on to the next one when
+   * the CA or the network to it fails.  The last endpoint is always tried.
+   * Renewals hold the endpoint's session lock, as a failover renewal shares
+   * the session with that endpoint's own worker.
+   */
+  private void renewWithFailover(List<String> sessionUrls,
+      Function<String, ? extends Supplier<Account>> accountSupplierFor,
+      Proto.AccountConfig accountConfig, List<Proto.Domain> domains, KeyLoader keyLoader)
+      throws Exception {
+    Proto.Failover failover = accountConfig.getFailover();
+    for (int i = 0; i < sessionUrls.size(); i++) {
+      String sessionUrl = sessionUrls.get(i);
+      boolean isLast = i == sessionUrls.size() - 1;
+      if (!isLast && !endpointHealth.isHealthy(sessionUrl, failover)) {
+        logger.log(Level.WARNING, "Skipping unhealthy {0}", endpointHealth.describe(sessionUrl, failover));
+        continue;
+      }
+      try {
+        // The account is logged in before locking: its supplier takes the lock itself.
+        Account account = accountSupplierFor.apply(sessionUrl).get();
+        Lock sessionLock = sessionRouter.forUrl(sessionUrl).getLock();
+        sessionLock.lockInterruptibly();
+        try {
+          new CertificateRenewer(account, sessionUrl, accountConfig, config, domains, keyLoader,
+              rateLimiter, endpointHealth, eventLog).renew();
+        } finally {
+          sessionLock.unlock();
+        }
+        endpointHealth.recordSuccess(sessionUrl);
         restartRequired = true;
+        return;
+      } catch (Exception e) {
+        // Local errors such as an unwritable web root, a failed self-check or
+        // an invalid authorization propagate as they are: another CA would
+        // fail the same way.
+        if (!isEndpointFailure(e)) {
+          throw e;
+        }
+        endpointHealth.recordFailure(sessionUrl);
+        if (isLast) {
+          throw e;
+        }
+        log(Level.WARNING, "Renewal of {0} failed against {1}, failing over", e,
+            domains.get(0).getServerName(0), sessionUrl);
+        Metrics.increment("renewal.failovers");
       }
     }
   }
 
-  private boolean isExpiringWithin(Period grace, Set<X509Certificate> certificates, Proto.Domain domain) {
-    OffsetDateTime now = OffsetDateTime.now();
-    OffsetDateTime nowPlusGrace = now.plus(grace);
-    OffsetDateTime earliestExpiration = null;
-    for (X509Certificate certificate : certificates) {
-      OffsetDateTime expiration = certificate.getNotAfter().toInstant().atOffset(ZoneOffset.UTC);
-      if (earliestExpiration == null
-          || expiration.isBefore(earliestExpiration)) {
-        earliestExpiration = expiration;
-      }
-      if (!nowPlusGrace.isBefore(expiration)) {
-        logger.info(domain.getServerName(0) + " has or will expire at " + expiration);
+  /** Whether the CA, or the network to it, failed; account logins wrap such errors. */
+  static boolean isEndpointFailure(Exception e) {
+    return Throwables.getCausalChain(e).stream().anyMatch(cause -> cause instanceof AcmeException);
+  }
+
+  private List<String> getSessionUrls(Proto.AccountConfig accountConfig, Proto.Domain domain) {
+    Set<String> sessionUrls = new LinkedHashSet<>();
+    sessionUrls.add(SessionRouter.getSessionUrl(config, accountConfig, domain));
+    sessionUrls.addAll(accountConfig.getFailover().getSessionUrlList());
+    return ImmutableList.copyOf(sessionUrls);
+  }
+
+  private String getAccountUrl(Proto.AccountConfig accountConfig, String sessionUrl) {
+    return sessionUrl.equals(SessionRouter.getSessionUrl(config, accountConfig))
+        ? accountConfig.getAccountUrl() : "";
+  }
+
+  private List<List<Proto.Domain>> planOrders(Proto.AccountConfig accountConfig) {
+    return orderPlans.computeIfAbsent(accountConfig, this::createOrderPlan);
+  }
+
+  private List<List<Proto.Domain>> createOrderPlan(Proto.AccountConfig accountConfig) {
+    List<Proto.Domain> domains = accountConfig.getDomainList();
+    if (shard != Shard.ALL) {
+      domains = domains.stream().filter(shard::claims).collect(Collectors.toList());
+      Metrics.add("shard.domains_claimed", domains.size());
+      Metrics.add("shard.domains_skipped", accountConfig.getDomainCount() - domains.size());
+    }
+    if (accountConfig.getConsolidateOrders()) {
+      return new OrderPlanner().plan(domains);
+    }
+    return Lists.transform(domains, ImmutableList::of);
+  }
+
+  /**
+   * A domain is due inside its buffer period, or within the CA's suggested
+   * renewal window where the CA offers one, or else at its point in the
+   * account's spread window as the daily budget allows.
+   */
+  private boolean isRenewalRequired(String sessionUrl, Proto.AccountConfig accountConfig,
+      List<Proto.Domain> domains, KeyLoader keyLoader, RenewalSchedule schedule) throws Exception {
+    boolean required = false;
+    int early = 0;
+    for (Proto.Domain domain : domains) {
+      String name = domain.getServerName(0);
+      CertificateSummary summary = keyLoader.loadCertificateSummary(name);
+      if (summary == null
+          || isExpiringWithin(Period.ofDays(accountConfig.getBufferPeriodDays()), summary, domain)) {
+        required = true;
+        continue;
+      }
+      Proto.RenewalInfoEntry window = renewalInfo.get(sessionUrl, accountConfig, name, summary);
+      if (window != null) {
+        if (RenewalInfo.isDue(window, name, Instant.now())) {
+          logger.log(Level.INFO, "{0} is inside the CA''s suggested renewal window, ending {1}",
+              new Object[] { name, Instant.ofEpochMilli(window.getWindowEndMillis()) });
+          Metrics.increment("renewal_info.renewals");
+          required = true;
+        }
+      } else if (schedule.isInSpreadWindow(domain, summary,
+          Duration.ofDays(accountConfig.getBufferPeriodDays()), Instant.now())) {
+        early++;
+      }
+    }
+    if (required) {
+      schedule.countRequired(domains.size());
+    } else if (early > 0) {
+      required = schedule.tryConsume(early, domains.get(0).getServerName(0));
+    }
+    return required;
+  }
+
+  /**
+   * A cheap, side-effect free form of {@link #isRenewalRequired} on the cached
+   * summaries: false only when no domain can be due.  Domains whose renewal
+   * information needs refreshing count as possibly due.
+   */
+  private boolean mayBeDue(Proto.AccountConfig accountConfig, List<Proto.Domain> domains,
+      KeyLoader keyLoader, RenewalSchedule schedule) {
+    Instant now = Instant.now();
+    Duration buffer = Duration.ofDays(accountConfig.getBufferPeriodDays());
+    List<CertificateSummary> summaries = loadSummaries(keyLoader, domains);
+    for (int i = 0; i < domains.size(); i++) {
+      Proto.Domain domain = domains.get(i);
+      String name = domain.getServerName(0);
+      CertificateSummary summary = summaries.get(i);
+      if (summary == null || !now.plus(buffer).isBefore(summary.getEarliestNotAfter())
+          || renewalInfo.isFetchDue(accountConfig, name, summary)) {
+        return true;
+      }
+      Proto.RenewalInfoEntry window = renewalInfo.getCached(accountConfig, name, summary);
+      if (window != null ? RenewalInfo.isDue(window, name, now)
+          : schedule.isInSpreadWindow(domain, summary, buffer, now)) {
         return true;
       }
     }
-    logger.info(domain.getServerName(0) + " expires in "
-        + now.until(earliestExpiration, ChronoUnit.DAYS) + " days");
+    for (int i = 0; i < domains.size(); i++) {
+      logger.log(Level.INFO, "{0} expires in {1,number,#} days", new Object[] { domains.get(i).getServerName(0),
+          now.until(summaries.get(i).getEarliestNotAfter(), ChronoUnit.DAYS) });
+    }
+    Metrics.increment("renewal.not_due");
+    return false;
+  }
+
+  private boolean isExpiringWithin(Period grace, CertificateSummary summary, Proto.Domain domain) {
+    OffsetDateTime now = OffsetDateTime.now();
+    OffsetDateTime expiration = summary.getEarliestNotAfter().atOffset(ZoneOffset.UTC);
+    if (!now.plus(grace).isBefore(expiration)) {
+      logger.log(Level.INFO, "{0} has or will expire at {1}", new Object[] { domain.getServerName(0), expiration });
+      return true;
+    }
+    logger.log(Level.INFO, "{0} expires in {1,number,#} days",
+        new Object[] { domain.getServerName(0), now.until(expiration, ChronoUnit.DAYS) });
     return false;
   }
 
+  /**
+   * Logs with {0} parameters and a stack trace, which Logger has no single
+   * method for.  The source is the caller, as Logger would infer it.
+   */
+  private void log(Level level, String message, Throwable thrown, Object... params) {
+    if (!logger.isLoggable(level)) {
+      return;
+    }
+    StackTraceElement caller = new Throwable().getStackTrace()[1];
+    LogRecord record = new LogRecord(level, message);
+    record.setLoggerName(logger.getName());
+    record.setSourceClassName(caller.getClassName());
+    record.setSourceMethodName(caller.getMethodName());
+    record.setParameters(params);
+    record.setThrown(thrown);
+    logger.log(record);
+  }
+
   private Proto.Config readConfig(String filename) throws ParseException, IOException {
-    Proto.Config.Builder config = Proto.Config.newBuilder();
-    TextFormat.getParser().merge(
-        Files.toString(new File(filename), StandardCharsets.UTF_8), config);
-    return config.build();
+    return new ConfigLoader().load(new File(filename));
   }
 }
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Process-wide counters, logged at the end of each run.
+ */
+// @formatter:off
+public final class Metrics {
+  private static final Logger logger = Logger.getLogger(Metrics.class.getName());
+  private static final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+  private Metrics() {
+  }
+
+  public static void increment(String name) {
+    add(name, 1);
+  }
+
+  public static void add(String name, long delta) {
+    counters.computeIfAbsent(name, k -> new AtomicLong()).addAndGet(delta);
+  }
+
+  public static long get(String name) {
+    AtomicLong counter = counters.get(name);
+    return counter == null ? 0 : counter.get();
+  }
+
+  public static void log() {
+    counters.keySet().stream().sorted().forEach(
+        name -> logger.log(Level.INFO, "{0} = {1,number,#}", new Object[] { name, counters.get(name).get() }));
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+
+/**
+ * Groups domains sharing their web roots and session_url into as few orders as
+ * possible, each of at most {@link #MAX_NAMES_PER_ORDER} names.
+ */
+// @formatter:off
+public class OrderPlanner {
+  /** Let's Encrypt's limit on the number of names in a single certificate. */
+  public static final int MAX_NAMES_PER_ORDER = 100;
+
+  public List<List<Proto.Domain>> plan(List<Proto.Domain> domains) {
+    Map<List<Object>, List<Group>> groupsByWebRoot = new LinkedHashMap<>();
+    for (Proto.Domain domain : domains) {
+      List<Group> groups = groupsByWebRoot.computeIfAbsent(
+          ImmutableList.of(ImmutableSortedSet.copyOf(domain.getWebRootDirectoryList()), domain.getSessionUrl()),
+          k -> new ArrayList<>());
+      Group group = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+      if (group == null || !group.fits(domain)) {
+        group = new Group();
+        groups.add(group);
+      }
+      group.add(domain);
+    }
+    ImmutableList.Builder<List<Proto.Domain>> result = ImmutableList.builder();
+    for (List<Group> groups : groupsByWebRoot.values()) {
+      for (Group group : groups) {
+        result.add(ImmutableList.copyOf(group.domains));
+      }
+    }
+    return result.build();
+  }
+
+  public static List<String> getServerNames(List<Proto.Domain> domains) {
+    Set<String> names = new LinkedHashSet<>();
+    for (Proto.Domain domain : domains) {
+      names.addAll(domain.getServerNameList());
+    }
+    return ImmutableList.copyOf(names);
+  }
+
+  private static class Group {
+    private final List<Proto.Domain> domains = new ArrayList<>();
+    private final Set<String> names = new LinkedHashSet<>();
+
+    boolean fits(Proto.Domain domain) {
+      int count = names.size();
+      for (String name : domain.getServerNameList()) {
+        if (!names.contains(name)) {
+          count++;
+        }
+      }
+      return count <= MAX_NAMES_PER_ORDER;
+    }
+
+    void add(Proto.Domain domain) {
+      domains.add(domain);
+      names.addAll(domain.getServerNameList());
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A queued order, ordered by urgency: the least weighted time left before any
+ * of its certificates expires.  Orders with no certificate yet come first, then
+ * expired ones by how long ago they expired, regardless of priority; ties keep
+ * config order.  Orders which failed on earlier passes go after all the others,
+ * fewest consecutive failures first, so that they cannot starve healthy ones.
+ */
+// @formatter:off
+public class PendingRenewal implements Comparable<PendingRenewal> {
+  private static final AtomicLong sequence = new AtomicLong();
+
+  private final String name;
+  private final int failures;
+  private final double urgency;
+  private final long order = sequence.getAndIncrement();
+  private final Callable<Void> renewal;
+
+  private PendingRenewal(String name, int failures, double urgency, Callable<Void> renewal) {
+    this.name = name;
+    this.failures = failures;
+    this.urgency = urgency;
+    this.renewal = renewal;
+  }
+
+  /**
+   * @param summaries the current summary of each domain's certificate, null
+   *     where there is none
+   * @param failures how many passes in a row the order has failed
+   */
+  public static PendingRenewal of(List<Proto.Domain> domains, List<CertificateSummary> summaries,
+      int failures, Instant now, Callable<Void> renewal) {
+    double urgency = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < domains.size(); i++) {
+      CertificateSummary summary = summaries.get(i);
+      double priority = domains.get(i).getPriority() > 0 ? domains.get(i).getPriority() : 1;
+      double remaining = summary == null ? Double.NEGATIVE_INFINITY
+          : Duration.between(now, summary.getEarliestNotAfter()).getSeconds();
+      // Weighting negative time would rank a low-priority expired certificate first.
+      urgency = Math.min(urgency, remaining > 0 ? remaining / priority : remaining);
+    }
+    return new PendingRenewal(domains.get(0).getServerName(0), failures, urgency, renewal);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getFailures() {
+    return failures;
+  }
+
+  public Callable<Void> getRenewal() {
+    return renewal;
+  }
+
+  @Override
+  public int compareTo(PendingRenewal other) {
+    int result = Integer.compare(failures, other.failures);
+    if (result != 0) {
+      return result;
+    }
+    result = Double.compare(urgency, other.urgency);
+    return result != 0 ? result : Long.compare(order, other.order);
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.ZonedDateTime;
+import java.util.ServiceLoader;
+
+import org.shredzone.acme4j.Login;
+import org.shredzone.acme4j.Session;
+import org.shredzone.acme4j.challenge.Challenge;
+import org.shredzone.acme4j.connector.Connection;
+import org.shredzone.acme4j.connector.DefaultConnection;
+import org.shredzone.acme4j.connector.HttpConnector;
+import org.shredzone.acme4j.exception.AcmeException;
+import org.shredzone.acme4j.provider.AcmeProvider;
+import org.shredzone.acme4j.provider.GenericAcmeProvider;
+import org.shredzone.acme4j.provider.pebble.PebbleAcmeProvider;
+import org.shredzone.acme4j.toolbox.JSON;
+
+/**
+ * Wraps the acme4j provider registered for a server URI so that every connection
+ * goes through a shared {@link PooledHttpConnector}, and the directory is served
+ * from a {@link DirectoryCache} while fresh.
+ */
+// @formatter:off
+public class PooledAcmeProvider implements AcmeProvider {
+  private final AcmeProvider delegate;
+  private final HttpConnector connector;
+  private final DirectoryCache directoryCache;
+  private volatile JSON directory;
+
+  public PooledAcmeProvider(AcmeProvider delegate, HttpConnector connector,
+      DirectoryCache directoryCache) {
+    this.delegate = delegate;
+    this.connector = connector;
+    this.directoryCache = directoryCache;
+  }
+
+  public static AcmeProvider forUri(URI serverUri, HttpConnector connector,
+      DirectoryCache directoryCache) {
+    GenericAcmeProvider generic = new GenericAcmeProvider();
+    if (generic.accepts(serverUri)) {
+      return new PooledAcmeProvider(generic, connector, directoryCache);
+    }
+    for (AcmeProvider provider : ServiceLoader.load(AcmeProvider.class)) {
+      if (provider instanceof PebbleAcmeProvider && provider.accepts(serverUri)) {
+        // Pebble brings its own connector trusting the test CA.
+        return provider;
+      }
+      if (provider.accepts(serverUri)) {
+        return new PooledAcmeProvider(provider, connector, directoryCache);
+      }
+    }
+    throw new IllegalArgumentException("No ACME provider found for " + serverUri);
+  }
+
+  /**
+   * Looks up a directory entry acme4j has no Resource for, such as renewalInfo.
+   * Returns null if the session's provider is not pooled or has no such entry.
+   */
+  public static URL getDirectoryUrl(Session session, String name) throws AcmeException {
+    if (!(session.provider() instanceof PooledAcmeProvider)) {
+      return null;
+    }
+    session.getMetadata();
+    JSON directory = ((PooledAcmeProvider) session.provider()).directory;
+    return directory != null && directory.get(name).isPresent() ? directory.get(name).asURL() : null;
+  }
+
+  @Override
+  public boolean accepts(URI serverUri) {
+    return delegate.accepts(serverUri);
+  }
+
+  @Override
+  public URL resolve(URI serverUri) {
+    return delegate.resolve(serverUri);
+  }
+
+  @Override
+  public Connection connect(URI serverUri) {
+    return new DefaultConnection(connector);
+  }
+
+  @Override
+  public JSON directory(Session session, URI serverUri) throws AcmeException {
+    ZonedDateTime expires = session.getDirectoryExpires();
+    if (expires != null && expires.isAfter(ZonedDateTime.now())) {
+      return null;
+    }
+    Proto.DirectoryCacheEntry cached = session.hasDirectory() ? null : directoryCache.read(serverUri);
+    if (cached != null && directoryCache.isFresh(cached)) {
+      Metrics.increment("acme.directory.cache_hits");
+      return useCached(session, cached);
+    }
+    try (Connection conn = connect(serverUri)) {
+      ZonedDateTime lastModified = session.getDirectoryLastModified();
+      if (lastModified == null && cached != null) {
+        lastModified = DirectoryCache.getLastModified(cached);
+      }
+      int rc = conn.sendRequest(resolve(serverUri), session, lastModified);
+      if (lastModified != null && rc == 304) {
+        if (cached != null) {
+          Metrics.increment("acme.directory.cache_revalidations");
+          return useCached(session, directoryCache.refresh(cached));
+        }
+        return null;
+      }
+      session.setDirectoryLastModified(conn.getLastModified().orElse(null));
+      session.setDirectoryExpires(conn.getExpiration().orElse(null));
+      String nonce = conn.getNonce();
+      if (nonce != null) {
+        session.setNonce(nonce);
+      }
+      JSON directory = conn.readJsonResponse();
+      directoryCache.write(serverUri, directory, session.getDirectoryLastModified());
+      this.directory = directory;
+      return directory;
+    }
+  }
+
+  private JSON useCached(Session session, Proto.DirectoryCacheEntry cached) {
+    session.setDirectoryLastModified(DirectoryCache.getLastModified(cached));
+    session.setDirectoryExpires(directoryCache.getExpires(cached));
+    directory = JSON.parse(cached.getJson());
+    return directory;
+  }
+
+  @Override
+  public Challenge createChallenge(Login login, JSON data) {
+    return delegate.createChallenge(login, data);
+  }
+}
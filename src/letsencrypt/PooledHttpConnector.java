@@ -0,0 +1,123 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.shredzone.acme4j.connector.HttpConnector;
+import org.shredzone.acme4j.connector.NetworkSettings;
+
+/**
+ * An HttpConnector whose connections share the JDK keep-alive cache.  All HTTPS
+ * connections use one socket factory instance, which the cache requires before
+ * it will hand back an idle connection, and which counts new connections.
+ * Stateless apart from that factory, so it is safe to share across threads.
+ */
+// @formatter:off
+public class PooledHttpConnector extends HttpConnector {
+  public static final String REQUESTS_METRIC = "acme.http.requests";
+  public static final String CONNECTIONS_METRIC = "acme.http.connections_opened";
+
+  private static final SSLSocketFactory SOCKET_FACTORY =
+      new CountingSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory());
+
+  /** Must be called before the first connection is opened to take effect. */
+  public static void setMaxConnections(int maxConnections) {
+    System.setProperty("http.keepAlive", "true");
+    if (System.getProperty("http.maxConnections") == null) {
+      System.setProperty("http.maxConnections", Integer.toString(maxConnections));
+    }
+  }
+
+  @Override
+  public HttpURLConnection openConnection(URL url, NetworkSettings settings) throws IOException {
+    Metrics.increment(REQUESTS_METRIC);
+    return super.openConnection(url, settings);
+  }
+
+  @Override
+  protected void configure(HttpURLConnection conn, NetworkSettings settings) {
+    super.configure(conn, settings);
+    if (conn instanceof HttpsURLConnection) {
+      ((HttpsURLConnection) conn).setSSLSocketFactory(SOCKET_FACTORY);
+    }
+  }
+
+  private static class CountingSocketFactory extends SSLSocketFactory {
+    private final SSLSocketFactory delegate;
+
+    CountingSocketFactory(SSLSocketFactory delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+      return delegate.getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+      return delegate.getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+      return counted(delegate.createSocket());
+    }
+
+    @Override
+    public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+      return counted(delegate.createSocket(s, host, port, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+      return counted(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+      return counted(delegate.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+      return counted(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+      return counted(delegate.createSocket(address, port, localAddress, localPort));
+    }
+
+    private Socket counted(Socket socket) {
+      Metrics.increment(CONNECTIONS_METRIC);
+      return socket;
+    }
+  }
+}
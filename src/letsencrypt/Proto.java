@@ -86,6 +86,307 @@ public final class Proto {
      */
     letsencrypt.Proto.AccountConfigOrBuilder getAccountConfigOrBuilder(
         int index);
+
+    /**
+     * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+     *
+     * <pre>
+     * Requests per second allowed against session_url.
+     * </pre>
+     */
+    boolean hasSessionRateLimit();
+    /**
+     * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+     *
+     * <pre>
+     * Requests per second allowed against session_url.
+     * </pre>
+     */
+    letsencrypt.Proto.SessionRateLimit getSessionRateLimit();
+    /**
+     * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+     *
+     * <pre>
+     * Requests per second allowed against session_url.
+     * </pre>
+     */
+    letsencrypt.Proto.SessionRateLimitOrBuilder getSessionRateLimitOrBuilder();
+
+    /**
+     * <code>optional string rate_limit_state_filename = 7;</code>
+     *
+     * <pre>
+     * Rate limiter state is persisted here between runs when set.
+     * </pre>
+     */
+    boolean hasRateLimitStateFilename();
+    /**
+     * <code>optional string rate_limit_state_filename = 7;</code>
+     *
+     * <pre>
+     * Rate limiter state is persisted here between runs when set.
+     * </pre>
+     */
+    java.lang.String getRateLimitStateFilename();
+    /**
+     * <code>optional string rate_limit_state_filename = 7;</code>
+     *
+     * <pre>
+     * Rate limiter state is persisted here between runs when set.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getRateLimitStateFilenameBytes();
+
+    /**
+     * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+     *
+     * <pre>
+     * Idle keep-alive connections retained per destination.
+     * </pre>
+     */
+    boolean hasMaxPooledConnections();
+    /**
+     * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+     *
+     * <pre>
+     * Idle keep-alive connections retained per destination.
+     * </pre>
+     */
+    int getMaxPooledConnections();
+
+    /**
+     * <code>optional string directory_cache_directory = 9;</code>
+     *
+     * <pre>
+     * ACME directories are cached here, one file per session_url, when set.
+     * </pre>
+     */
+    boolean hasDirectoryCacheDirectory();
+    /**
+     * <code>optional string directory_cache_directory = 9;</code>
+     *
+     * <pre>
+     * ACME directories are cached here, one file per session_url, when set.
+     * </pre>
+     */
+    java.lang.String getDirectoryCacheDirectory();
+    /**
+     * <code>optional string directory_cache_directory = 9;</code>
+     *
+     * <pre>
+     * ACME directories are cached here, one file per session_url, when set.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getDirectoryCacheDirectoryBytes();
+
+    /**
+     * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+     */
+    boolean hasDirectoryCacheTtlSeconds();
+    /**
+     * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+     */
+    int getDirectoryCacheTtlSeconds();
+
+    /**
+     * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+     *
+     * <pre>
+     * Domain keys kept ready per key type once the first one has been used.
+     * </pre>
+     */
+    boolean hasDomainKeyPoolSize();
+    /**
+     * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+     *
+     * <pre>
+     * Domain keys kept ready per key type once the first one has been used.
+     * </pre>
+     */
+    int getDomainKeyPoolSize();
+
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    com.google.protobuf.ProtocolStringList
+        getIncludeList();
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    int getIncludeCount();
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    java.lang.String getInclude(int index);
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getIncludeBytes(int index);
+
+    /**
+     * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+     *
+     * <pre>
+     * Seconds between renewal passes when run with --daemon.
+     * </pre>
+     */
+    boolean hasDaemonIntervalSeconds();
+    /**
+     * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+     *
+     * <pre>
+     * Seconds between renewal passes when run with --daemon.
+     * </pre>
+     */
+    int getDaemonIntervalSeconds();
+
+    /**
+     * <code>optional string leader_lock_filename = 14;</code>
+     *
+     * <pre>
+     * When set, daemons sharing key directories elect a leader by locking this
+     * file.  Only the leader renews; standbys keep sessions and certificate
+     * state warm and take over as soon as the lock is released.
+     * </pre>
+     */
+    boolean hasLeaderLockFilename();
+    /**
+     * <code>optional string leader_lock_filename = 14;</code>
+     *
+     * <pre>
+     * When set, daemons sharing key directories elect a leader by locking this
+     * file.  Only the leader renews; standbys keep sessions and certificate
+     * state warm and take over as soon as the lock is released.
+     * </pre>
+     */
+    java.lang.String getLeaderLockFilename();
+    /**
+     * <code>optional string leader_lock_filename = 14;</code>
+     *
+     * <pre>
+     * When set, daemons sharing key directories elect a leader by locking this
+     * file.  Only the leader renews; standbys keep sessions and certificate
+     * state warm and take over as soon as the lock is released.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getLeaderLockFilenameBytes();
+
+    /**
+     * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+     *
+     * <pre>
+     * How often the leader renews its lease and standbys try to take over.
+     * </pre>
+     */
+    boolean hasLeaderPollSeconds();
+    /**
+     * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+     *
+     * <pre>
+     * How often the leader renews its lease and standbys try to take over.
+     * </pre>
+     */
+    int getLeaderPollSeconds();
+
+    /**
+     * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+     *
+     * <pre>
+     * Domain lock files older than this are assumed left by a crashed run.
+     * </pre>
+     */
+    boolean hasDomainLockStaleSeconds();
+    /**
+     * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+     *
+     * <pre>
+     * Domain lock files older than this are assumed left by a crashed run.
+     * </pre>
+     */
+    int getDomainLockStaleSeconds();
+
+    /**
+     * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+     *
+     * <pre>
+     * Log records queued for the background log writer.  When the queue is
+     * full, records below WARNING are dropped rather than stalling renewals.
+     * </pre>
+     */
+    boolean hasLogBufferSize();
+    /**
+     * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+     *
+     * <pre>
+     * Log records queued for the background log writer.  When the queue is
+     * full, records below WARNING are dropped rather than stalling renewals.
+     * </pre>
+     */
+    int getLogBufferSize();
+
+    /**
+     * <code>optional string renewal_event_log_filename = 18;</code>
+     *
+     * <pre>
+     * When set, one JSON line per renewal attempt is appended to this file with
+     * the order, phase timings, poll counts, Retry-After waits and outcome, and
+     * an order_failed line for each order that fails outright.
+     * </pre>
+     */
+    boolean hasRenewalEventLogFilename();
+    /**
+     * <code>optional string renewal_event_log_filename = 18;</code>
+     *
+     * <pre>
+     * When set, one JSON line per renewal attempt is appended to this file with
+     * the order, phase timings, poll counts, Retry-After waits and outcome, and
+     * an order_failed line for each order that fails outright.
+     * </pre>
+     */
+    java.lang.String getRenewalEventLogFilename();
+    /**
+     * <code>optional string renewal_event_log_filename = 18;</code>
+     *
+     * <pre>
+     * When set, one JSON line per renewal attempt is appended to this file with
+     * the order, phase timings, poll counts, Retry-After waits and outcome, and
+     * an order_failed line for each order that fails outright.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getRenewalEventLogFilenameBytes();
   }
   /**
    * Protobuf type {@code letsencrypt.Config}
@@ -170,6 +471,87 @@ public final class Proto {
               accountConfig_.add(input.readMessage(letsencrypt.Proto.AccountConfig.PARSER, extensionRegistry));
               break;
             }
+            case 50: {
+              letsencrypt.Proto.SessionRateLimit.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = sessionRateLimit_.toBuilder();
+              }
+              sessionRateLimit_ = input.readMessage(letsencrypt.Proto.SessionRateLimit.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(sessionRateLimit_);
+                sessionRateLimit_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              rateLimitStateFilename_ = bs;
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000040;
+              maxPooledConnections_ = input.readInt32();
+              break;
+            }
+            case 74: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000080;
+              directoryCacheDirectory_ = bs;
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000100;
+              directoryCacheTtlSeconds_ = input.readInt32();
+              break;
+            }
+            case 88: {
+              bitField0_ |= 0x00000200;
+              domainKeyPoolSize_ = input.readInt32();
+              break;
+            }
+            case 98: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+                include_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000800;
+              }
+              include_.add(bs);
+              break;
+            }
+            case 104: {
+              bitField0_ |= 0x00000400;
+              daemonIntervalSeconds_ = input.readInt32();
+              break;
+            }
+            case 114: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000800;
+              leaderLockFilename_ = bs;
+              break;
+            }
+            case 120: {
+              bitField0_ |= 0x00001000;
+              leaderPollSeconds_ = input.readInt32();
+              break;
+            }
+            case 128: {
+              bitField0_ |= 0x00002000;
+              domainLockStaleSeconds_ = input.readInt32();
+              break;
+            }
+            case 136: {
+              bitField0_ |= 0x00004000;
+              logBufferSize_ = input.readInt32();
+              break;
+            }
+            case 146: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00008000;
+              renewalEventLogFilename_ = bs;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -181,6 +563,9 @@ public final class Proto {
         if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
           accountConfig_ = java.util.Collections.unmodifiableList(accountConfig_);
         }
+        if (((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+          include_ = include_.getUnmodifiableView();
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -389,79 +774,661 @@ public final class Proto {
       return accountConfig_.get(index);
     }
 
-    private void initFields() {
-      sessionUrl_ = "";
-      pollSleepDurationSeconds_ = 10;
-      acmeDirectoryPrefix_ = ".well-known/acme-challenge";
-      restartNotificationFilename_ = "";
-      accountConfig_ = java.util.Collections.emptyList();
+    public static final int SESSION_RATE_LIMIT_FIELD_NUMBER = 6;
+    private letsencrypt.Proto.SessionRateLimit sessionRateLimit_;
+    /**
+     * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+     *
+     * <pre>
+     * Requests per second allowed against session_url.
+     * </pre>
+     */
+    public boolean hasSessionRateLimit() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
     }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
+    /**
+     * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+     *
+     * <pre>
+     * Requests per second allowed against session_url.
+     * </pre>
+     */
+    public letsencrypt.Proto.SessionRateLimit getSessionRateLimit() {
+      return sessionRateLimit_;
+    }
+    /**
+     * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+     *
+     * <pre>
+     * Requests per second allowed against session_url.
+     * </pre>
+     */
+    public letsencrypt.Proto.SessionRateLimitOrBuilder getSessionRateLimitOrBuilder() {
+      return sessionRateLimit_;
     }
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getSessionUrlBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, pollSleepDurationSeconds_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, getAcmeDirectoryPrefixBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(4, getRestartNotificationFilenameBytes());
+    public static final int RATE_LIMIT_STATE_FILENAME_FIELD_NUMBER = 7;
+    private java.lang.Object rateLimitStateFilename_;
+    /**
+     * <code>optional string rate_limit_state_filename = 7;</code>
+     *
+     * <pre>
+     * Rate limiter state is persisted here between runs when set.
+     * </pre>
+     */
+    public boolean hasRateLimitStateFilename() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string rate_limit_state_filename = 7;</code>
+     *
+     * <pre>
+     * Rate limiter state is persisted here between runs when set.
+     * </pre>
+     */
+    public java.lang.String getRateLimitStateFilename() {
+      java.lang.Object ref = rateLimitStateFilename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          rateLimitStateFilename_ = s;
+        }
+        return s;
       }
-      for (int i = 0; i < accountConfig_.size(); i++) {
-        output.writeMessage(5, accountConfig_.get(i));
+    }
+    /**
+     * <code>optional string rate_limit_state_filename = 7;</code>
+     *
+     * <pre>
+     * Rate limiter state is persisted here between runs when set.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getRateLimitStateFilenameBytes() {
+      java.lang.Object ref = rateLimitStateFilename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rateLimitStateFilename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      getUnknownFields().writeTo(output);
     }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+    public static final int MAX_POOLED_CONNECTIONS_FIELD_NUMBER = 8;
+    private int maxPooledConnections_;
+    /**
+     * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+     *
+     * <pre>
+     * Idle keep-alive connections retained per destination.
+     * </pre>
+     */
+    public boolean hasMaxPooledConnections() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+     *
+     * <pre>
+     * Idle keep-alive connections retained per destination.
+     * </pre>
+     */
+    public int getMaxPooledConnections() {
+      return maxPooledConnections_;
+    }
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getSessionUrlBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, pollSleepDurationSeconds_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getAcmeDirectoryPrefixBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getRestartNotificationFilenameBytes());
+    public static final int DIRECTORY_CACHE_DIRECTORY_FIELD_NUMBER = 9;
+    private java.lang.Object directoryCacheDirectory_;
+    /**
+     * <code>optional string directory_cache_directory = 9;</code>
+     *
+     * <pre>
+     * ACME directories are cached here, one file per session_url, when set.
+     * </pre>
+     */
+    public boolean hasDirectoryCacheDirectory() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string directory_cache_directory = 9;</code>
+     *
+     * <pre>
+     * ACME directories are cached here, one file per session_url, when set.
+     * </pre>
+     */
+    public java.lang.String getDirectoryCacheDirectory() {
+      java.lang.Object ref = directoryCacheDirectory_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          directoryCacheDirectory_ = s;
+        }
+        return s;
       }
-      for (int i = 0; i < accountConfig_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, accountConfig_.get(i));
+    }
+    /**
+     * <code>optional string directory_cache_directory = 9;</code>
+     *
+     * <pre>
+     * ACME directories are cached here, one file per session_url, when set.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getDirectoryCacheDirectoryBytes() {
+      java.lang.Object ref = directoryCacheDirectory_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        directoryCacheDirectory_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
     }
 
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
+    public static final int DIRECTORY_CACHE_TTL_SECONDS_FIELD_NUMBER = 10;
+    private int directoryCacheTtlSeconds_;
+    /**
+     * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+     */
+    public boolean hasDirectoryCacheTtlSeconds() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+     */
+    public int getDirectoryCacheTtlSeconds() {
+      return directoryCacheTtlSeconds_;
+    }
+
+    public static final int DOMAIN_KEY_POOL_SIZE_FIELD_NUMBER = 11;
+    private int domainKeyPoolSize_;
+    /**
+     * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+     *
+     * <pre>
+     * Domain keys kept ready per key type once the first one has been used.
+     * </pre>
+     */
+    public boolean hasDomainKeyPoolSize() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+     *
+     * <pre>
+     * Domain keys kept ready per key type once the first one has been used.
+     * </pre>
+     */
+    public int getDomainKeyPoolSize() {
+      return domainKeyPoolSize_;
+    }
+
+    public static final int INCLUDE_FIELD_NUMBER = 12;
+    private com.google.protobuf.LazyStringList include_;
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getIncludeList() {
+      return include_;
+    }
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    public int getIncludeCount() {
+      return include_.size();
+    }
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    public java.lang.String getInclude(int index) {
+      return include_.get(index);
+    }
+    /**
+     * <code>repeated string include = 12;</code>
+     *
+     * <pre>
+     * Further account_config fragments, each a file holding the fields of one
+     * AccountConfig, or a directory whose *.txt files are such fragments.
+     * Relative paths are resolved against this file's directory.  Fragments are
+     * appended after the inline account_config entries in sorted path order.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getIncludeBytes(int index) {
+      return include_.getByteString(index);
+    }
+
+    public static final int DAEMON_INTERVAL_SECONDS_FIELD_NUMBER = 13;
+    private int daemonIntervalSeconds_;
+    /**
+     * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+     *
+     * <pre>
+     * Seconds between renewal passes when run with --daemon.
+     * </pre>
+     */
+    public boolean hasDaemonIntervalSeconds() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+     *
+     * <pre>
+     * Seconds between renewal passes when run with --daemon.
+     * </pre>
+     */
+    public int getDaemonIntervalSeconds() {
+      return daemonIntervalSeconds_;
+    }
+
+    public static final int LEADER_LOCK_FILENAME_FIELD_NUMBER = 14;
+    private java.lang.Object leaderLockFilename_;
+    /**
+     * <code>optional string leader_lock_filename = 14;</code>
+     *
+     * <pre>
+     * When set, daemons sharing key directories elect a leader by locking this
+     * file.  Only the leader renews; standbys keep sessions and certificate
+     * state warm and take over as soon as the lock is released.
+     * </pre>
+     */
+    public boolean hasLeaderLockFilename() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string leader_lock_filename = 14;</code>
+     *
+     * <pre>
+     * When set, daemons sharing key directories elect a leader by locking this
+     * file.  Only the leader renews; standbys keep sessions and certificate
+     * state warm and take over as soon as the lock is released.
+     * </pre>
+     */
+    public java.lang.String getLeaderLockFilename() {
+      java.lang.Object ref = leaderLockFilename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          leaderLockFilename_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string leader_lock_filename = 14;</code>
+     *
+     * <pre>
+     * When set, daemons sharing key directories elect a leader by locking this
+     * file.  Only the leader renews; standbys keep sessions and certificate
+     * state warm and take over as soon as the lock is released.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getLeaderLockFilenameBytes() {
+      java.lang.Object ref = leaderLockFilename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leaderLockFilename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LEADER_POLL_SECONDS_FIELD_NUMBER = 15;
+    private int leaderPollSeconds_;
+    /**
+     * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+     *
+     * <pre>
+     * How often the leader renews its lease and standbys try to take over.
+     * </pre>
+     */
+    public boolean hasLeaderPollSeconds() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+     *
+     * <pre>
+     * How often the leader renews its lease and standbys try to take over.
+     * </pre>
+     */
+    public int getLeaderPollSeconds() {
+      return leaderPollSeconds_;
+    }
+
+    public static final int DOMAIN_LOCK_STALE_SECONDS_FIELD_NUMBER = 16;
+    private int domainLockStaleSeconds_;
+    /**
+     * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+     *
+     * <pre>
+     * Domain lock files older than this are assumed left by a crashed run.
+     * </pre>
+     */
+    public boolean hasDomainLockStaleSeconds() {
+      return ((bitField0_ & 0x00002000) == 0x00002000);
+    }
+    /**
+     * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+     *
+     * <pre>
+     * Domain lock files older than this are assumed left by a crashed run.
+     * </pre>
+     */
+    public int getDomainLockStaleSeconds() {
+      return domainLockStaleSeconds_;
+    }
+
+    public static final int LOG_BUFFER_SIZE_FIELD_NUMBER = 17;
+    private int logBufferSize_;
+    /**
+     * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+     *
+     * <pre>
+     * Log records queued for the background log writer.  When the queue is
+     * full, records below WARNING are dropped rather than stalling renewals.
+     * </pre>
+     */
+    public boolean hasLogBufferSize() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
+    }
+    /**
+     * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+     *
+     * <pre>
+     * Log records queued for the background log writer.  When the queue is
+     * full, records below WARNING are dropped rather than stalling renewals.
+     * </pre>
+     */
+    public int getLogBufferSize() {
+      return logBufferSize_;
+    }
+
+    public static final int RENEWAL_EVENT_LOG_FILENAME_FIELD_NUMBER = 18;
+    private java.lang.Object renewalEventLogFilename_;
+    /**
+     * <code>optional string renewal_event_log_filename = 18;</code>
+     *
+     * <pre>
+     * When set, one JSON line per renewal attempt is appended to this file with
+     * the order, phase timings, poll counts, Retry-After waits and outcome, and
+     * an order_failed line for each order that fails outright.
+     * </pre>
+     */
+    public boolean hasRenewalEventLogFilename() {
+      return ((bitField0_ & 0x00008000) == 0x00008000);
+    }
+    /**
+     * <code>optional string renewal_event_log_filename = 18;</code>
+     *
+     * <pre>
+     * When set, one JSON line per renewal attempt is appended to this file with
+     * the order, phase timings, poll counts, Retry-After waits and outcome, and
+     * an order_failed line for each order that fails outright.
+     * </pre>
+     */
+    public java.lang.String getRenewalEventLogFilename() {
+      java.lang.Object ref = renewalEventLogFilename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          renewalEventLogFilename_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string renewal_event_log_filename = 18;</code>
+     *
+     * <pre>
+     * When set, one JSON line per renewal attempt is appended to this file with
+     * the order, phase timings, poll counts, Retry-After waits and outcome, and
+     * an order_failed line for each order that fails outright.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getRenewalEventLogFilenameBytes() {
+      java.lang.Object ref = renewalEventLogFilename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        renewalEventLogFilename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      sessionUrl_ = "";
+      pollSleepDurationSeconds_ = 10;
+      acmeDirectoryPrefix_ = ".well-known/acme-challenge";
+      restartNotificationFilename_ = "";
+      accountConfig_ = java.util.Collections.emptyList();
+      sessionRateLimit_ = letsencrypt.Proto.SessionRateLimit.getDefaultInstance();
+      rateLimitStateFilename_ = "";
+      maxPooledConnections_ = 20;
+      directoryCacheDirectory_ = "";
+      directoryCacheTtlSeconds_ = 86400;
+      domainKeyPoolSize_ = 4;
+      include_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      daemonIntervalSeconds_ = 3600;
+      leaderLockFilename_ = "";
+      leaderPollSeconds_ = 2;
+      domainLockStaleSeconds_ = 3600;
+      logBufferSize_ = 8192;
+      renewalEventLogFilename_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, pollSleepDurationSeconds_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getAcmeDirectoryPrefixBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getRestartNotificationFilenameBytes());
+      }
+      for (int i = 0; i < accountConfig_.size(); i++) {
+        output.writeMessage(5, accountConfig_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(6, sessionRateLimit_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(7, getRateLimitStateFilenameBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeInt32(8, maxPooledConnections_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(9, getDirectoryCacheDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeInt32(10, directoryCacheTtlSeconds_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeInt32(11, domainKeyPoolSize_);
+      }
+      for (int i = 0; i < include_.size(); i++) {
+        output.writeBytes(12, include_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeInt32(13, daemonIntervalSeconds_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBytes(14, getLeaderLockFilenameBytes());
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        output.writeInt32(15, leaderPollSeconds_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        output.writeInt32(16, domainLockStaleSeconds_);
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeInt32(17, logBufferSize_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        output.writeBytes(18, getRenewalEventLogFilenameBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, pollSleepDurationSeconds_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getAcmeDirectoryPrefixBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getRestartNotificationFilenameBytes());
+      }
+      for (int i = 0; i < accountConfig_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, accountConfig_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, sessionRateLimit_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getRateLimitStateFilenameBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, maxPooledConnections_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getDirectoryCacheDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(10, directoryCacheTtlSeconds_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(11, domainKeyPoolSize_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < include_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(include_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getIncludeList().size();
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(13, daemonIntervalSeconds_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(14, getLeaderLockFilenameBytes());
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(15, leaderPollSeconds_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(16, domainLockStaleSeconds_);
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(17, logBufferSize_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(18, getRenewalEventLogFilenameBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
@@ -563,6 +1530,7 @@ public final class Proto {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getAccountConfigFieldBuilder();
+          getSessionRateLimitFieldBuilder();
         }
       }
       private static Builder create() {
@@ -585,6 +1553,36 @@ public final class Proto {
         } else {
           accountConfigBuilder_.clear();
         }
+        if (sessionRateLimitBuilder_ == null) {
+          sessionRateLimit_ = letsencrypt.Proto.SessionRateLimit.getDefaultInstance();
+        } else {
+          sessionRateLimitBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        rateLimitStateFilename_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        maxPooledConnections_ = 20;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        directoryCacheDirectory_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        directoryCacheTtlSeconds_ = 86400;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        domainKeyPoolSize_ = 4;
+        bitField0_ = (bitField0_ & ~0x00000400);
+        include_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        daemonIntervalSeconds_ = 3600;
+        bitField0_ = (bitField0_ & ~0x00001000);
+        leaderLockFilename_ = "";
+        bitField0_ = (bitField0_ & ~0x00002000);
+        leaderPollSeconds_ = 2;
+        bitField0_ = (bitField0_ & ~0x00004000);
+        domainLockStaleSeconds_ = 3600;
+        bitField0_ = (bitField0_ & ~0x00008000);
+        logBufferSize_ = 8192;
+        bitField0_ = (bitField0_ & ~0x00010000);
+        renewalEventLogFilename_ = "";
+        bitField0_ = (bitField0_ & ~0x00020000);
         return this;
       }
 
@@ -638,16 +1636,73 @@ public final class Proto {
         } else {
           result.accountConfig_ = accountConfigBuilder_.build();
         }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof letsencrypt.Proto.Config) {
-          return mergeFrom((letsencrypt.Proto.Config)other);
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (sessionRateLimitBuilder_ == null) {
+          result.sessionRateLimit_ = sessionRateLimit_;
         } else {
-          super.mergeFrom(other);
+          result.sessionRateLimit_ = sessionRateLimitBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.rateLimitStateFilename_ = rateLimitStateFilename_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.maxPooledConnections_ = maxPooledConnections_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.directoryCacheDirectory_ = directoryCacheDirectory_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.directoryCacheTtlSeconds_ = directoryCacheTtlSeconds_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.domainKeyPoolSize_ = domainKeyPoolSize_;
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          include_ = include_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000800);
+        }
+        result.include_ = include_;
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.daemonIntervalSeconds_ = daemonIntervalSeconds_;
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.leaderLockFilename_ = leaderLockFilename_;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        result.leaderPollSeconds_ = leaderPollSeconds_;
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.domainLockStaleSeconds_ = domainLockStaleSeconds_;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.logBufferSize_ = logBufferSize_;
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.renewalEventLogFilename_ = renewalEventLogFilename_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.Config) {
+          return mergeFrom((letsencrypt.Proto.Config)other);
+        } else {
+          super.mergeFrom(other);
           return this;
         }
       }
@@ -698,6 +1753,60 @@ public final class Proto {
             }
           }
         }
+        if (other.hasSessionRateLimit()) {
+          mergeSessionRateLimit(other.getSessionRateLimit());
+        }
+        if (other.hasRateLimitStateFilename()) {
+          bitField0_ |= 0x00000040;
+          rateLimitStateFilename_ = other.rateLimitStateFilename_;
+          onChanged();
+        }
+        if (other.hasMaxPooledConnections()) {
+          setMaxPooledConnections(other.getMaxPooledConnections());
+        }
+        if (other.hasDirectoryCacheDirectory()) {
+          bitField0_ |= 0x00000100;
+          directoryCacheDirectory_ = other.directoryCacheDirectory_;
+          onChanged();
+        }
+        if (other.hasDirectoryCacheTtlSeconds()) {
+          setDirectoryCacheTtlSeconds(other.getDirectoryCacheTtlSeconds());
+        }
+        if (other.hasDomainKeyPoolSize()) {
+          setDomainKeyPoolSize(other.getDomainKeyPoolSize());
+        }
+        if (!other.include_.isEmpty()) {
+          if (include_.isEmpty()) {
+            include_ = other.include_;
+            bitField0_ = (bitField0_ & ~0x00000800);
+          } else {
+            ensureIncludeIsMutable();
+            include_.addAll(other.include_);
+          }
+          onChanged();
+        }
+        if (other.hasDaemonIntervalSeconds()) {
+          setDaemonIntervalSeconds(other.getDaemonIntervalSeconds());
+        }
+        if (other.hasLeaderLockFilename()) {
+          bitField0_ |= 0x00002000;
+          leaderLockFilename_ = other.leaderLockFilename_;
+          onChanged();
+        }
+        if (other.hasLeaderPollSeconds()) {
+          setLeaderPollSeconds(other.getLeaderPollSeconds());
+        }
+        if (other.hasDomainLockStaleSeconds()) {
+          setDomainLockStaleSeconds(other.getDomainLockStaleSeconds());
+        }
+        if (other.hasLogBufferSize()) {
+          setLogBufferSize(other.getLogBufferSize());
+        }
+        if (other.hasRenewalEventLogFilename()) {
+          bitField0_ |= 0x00020000;
+          renewalEventLogFilename_ = other.renewalEventLogFilename_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1225,172 +2334,9403 @@ public final class Proto {
         return accountConfigBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:letsencrypt.Config)
-    }
-
-    static {
-      defaultInstance = new Config(true);
-      defaultInstance.initFields();
-    }
+      private letsencrypt.Proto.SessionRateLimit sessionRateLimit_ = letsencrypt.Proto.SessionRateLimit.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          letsencrypt.Proto.SessionRateLimit, letsencrypt.Proto.SessionRateLimit.Builder, letsencrypt.Proto.SessionRateLimitOrBuilder> sessionRateLimitBuilder_;
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public boolean hasSessionRateLimit() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public letsencrypt.Proto.SessionRateLimit getSessionRateLimit() {
+        if (sessionRateLimitBuilder_ == null) {
+          return sessionRateLimit_;
+        } else {
+          return sessionRateLimitBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public Builder setSessionRateLimit(letsencrypt.Proto.SessionRateLimit value) {
+        if (sessionRateLimitBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          sessionRateLimit_ = value;
+          onChanged();
+        } else {
+          sessionRateLimitBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public Builder setSessionRateLimit(
+          letsencrypt.Proto.SessionRateLimit.Builder builderForValue) {
+        if (sessionRateLimitBuilder_ == null) {
+          sessionRateLimit_ = builderForValue.build();
+          onChanged();
+        } else {
+          sessionRateLimitBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public Builder mergeSessionRateLimit(letsencrypt.Proto.SessionRateLimit value) {
+        if (sessionRateLimitBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              sessionRateLimit_ != letsencrypt.Proto.SessionRateLimit.getDefaultInstance()) {
+            sessionRateLimit_ =
+              letsencrypt.Proto.SessionRateLimit.newBuilder(sessionRateLimit_).mergeFrom(value).buildPartial();
+          } else {
+            sessionRateLimit_ = value;
+          }
+          onChanged();
+        } else {
+          sessionRateLimitBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public Builder clearSessionRateLimit() {
+        if (sessionRateLimitBuilder_ == null) {
+          sessionRateLimit_ = letsencrypt.Proto.SessionRateLimit.getDefaultInstance();
+          onChanged();
+        } else {
+          sessionRateLimitBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public letsencrypt.Proto.SessionRateLimit.Builder getSessionRateLimitBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getSessionRateLimitFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      public letsencrypt.Proto.SessionRateLimitOrBuilder getSessionRateLimitOrBuilder() {
+        if (sessionRateLimitBuilder_ != null) {
+          return sessionRateLimitBuilder_.getMessageOrBuilder();
+        } else {
+          return sessionRateLimit_;
+        }
+      }
+      /**
+       * <code>optional .letsencrypt.SessionRateLimit session_rate_limit = 6;</code>
+       *
+       * <pre>
+       * Requests per second allowed against session_url.
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          letsencrypt.Proto.SessionRateLimit, letsencrypt.Proto.SessionRateLimit.Builder, letsencrypt.Proto.SessionRateLimitOrBuilder> 
+          getSessionRateLimitFieldBuilder() {
+        if (sessionRateLimitBuilder_ == null) {
+          sessionRateLimitBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              letsencrypt.Proto.SessionRateLimit, letsencrypt.Proto.SessionRateLimit.Builder, letsencrypt.Proto.SessionRateLimitOrBuilder>(
+                  getSessionRateLimit(),
+                  getParentForChildren(),
+                  isClean());
+          sessionRateLimit_ = null;
+        }
+        return sessionRateLimitBuilder_;
+      }
 
-    // @@protoc_insertion_point(class_scope:letsencrypt.Config)
+      private java.lang.Object rateLimitStateFilename_ = "";
+      /**
+       * <code>optional string rate_limit_state_filename = 7;</code>
+       *
+       * <pre>
+       * Rate limiter state is persisted here between runs when set.
+       * </pre>
+       */
+      public boolean hasRateLimitStateFilename() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string rate_limit_state_filename = 7;</code>
+       *
+       * <pre>
+       * Rate limiter state is persisted here between runs when set.
+       * </pre>
+       */
+      public java.lang.String getRateLimitStateFilename() {
+        java.lang.Object ref = rateLimitStateFilename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            rateLimitStateFilename_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string rate_limit_state_filename = 7;</code>
+       *
+       * <pre>
+       * Rate limiter state is persisted here between runs when set.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getRateLimitStateFilenameBytes() {
+        java.lang.Object ref = rateLimitStateFilename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          rateLimitStateFilename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string rate_limit_state_filename = 7;</code>
+       *
+       * <pre>
+       * Rate limiter state is persisted here between runs when set.
+       * </pre>
+       */
+      public Builder setRateLimitStateFilename(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        rateLimitStateFilename_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string rate_limit_state_filename = 7;</code>
+       *
+       * <pre>
+       * Rate limiter state is persisted here between runs when set.
+       * </pre>
+       */
+      public Builder clearRateLimitStateFilename() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rateLimitStateFilename_ = getDefaultInstance().getRateLimitStateFilename();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string rate_limit_state_filename = 7;</code>
+       *
+       * <pre>
+       * Rate limiter state is persisted here between runs when set.
+       * </pre>
+       */
+      public Builder setRateLimitStateFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
   }
+  bitField0_ |= 0x00000040;
+        rateLimitStateFilename_ = value;
+        onChanged();
+        return this;
+      }
 
-  public interface AccountConfigOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:letsencrypt.AccountConfig)
-      com.google.protobuf.MessageOrBuilder {
+      private int maxPooledConnections_ = 20;
+      /**
+       * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+       *
+       * <pre>
+       * Idle keep-alive connections retained per destination.
+       * </pre>
+       */
+      public boolean hasMaxPooledConnections() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+       *
+       * <pre>
+       * Idle keep-alive connections retained per destination.
+       * </pre>
+       */
+      public int getMaxPooledConnections() {
+        return maxPooledConnections_;
+      }
+      /**
+       * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+       *
+       * <pre>
+       * Idle keep-alive connections retained per destination.
+       * </pre>
+       */
+      public Builder setMaxPooledConnections(int value) {
+        bitField0_ |= 0x00000080;
+        maxPooledConnections_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_pooled_connections = 8 [default = 20];</code>
+       *
+       * <pre>
+       * Idle keep-alive connections retained per destination.
+       * </pre>
+       */
+      public Builder clearMaxPooledConnections() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        maxPooledConnections_ = 20;
+        onChanged();
+        return this;
+      }
 
-    /**
-     * <code>optional string account_url = 1;</code>
-     */
-    boolean hasAccountUrl();
-    /**
-     * <code>optional string account_url = 1;</code>
-     */
-    java.lang.String getAccountUrl();
-    /**
-     * <code>optional string account_url = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getAccountUrlBytes();
+      private java.lang.Object directoryCacheDirectory_ = "";
+      /**
+       * <code>optional string directory_cache_directory = 9;</code>
+       *
+       * <pre>
+       * ACME directories are cached here, one file per session_url, when set.
+       * </pre>
+       */
+      public boolean hasDirectoryCacheDirectory() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string directory_cache_directory = 9;</code>
+       *
+       * <pre>
+       * ACME directories are cached here, one file per session_url, when set.
+       * </pre>
+       */
+      public java.lang.String getDirectoryCacheDirectory() {
+        java.lang.Object ref = directoryCacheDirectory_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            directoryCacheDirectory_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string directory_cache_directory = 9;</code>
+       *
+       * <pre>
+       * ACME directories are cached here, one file per session_url, when set.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getDirectoryCacheDirectoryBytes() {
+        java.lang.Object ref = directoryCacheDirectory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          directoryCacheDirectory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string directory_cache_directory = 9;</code>
+       *
+       * <pre>
+       * ACME directories are cached here, one file per session_url, when set.
+       * </pre>
+       */
+      public Builder setDirectoryCacheDirectory(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        directoryCacheDirectory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string directory_cache_directory = 9;</code>
+       *
+       * <pre>
+       * ACME directories are cached here, one file per session_url, when set.
+       * </pre>
+       */
+      public Builder clearDirectoryCacheDirectory() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        directoryCacheDirectory_ = getDefaultInstance().getDirectoryCacheDirectory();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string directory_cache_directory = 9;</code>
+       *
+       * <pre>
+       * ACME directories are cached here, one file per session_url, when set.
+       * </pre>
+       */
+      public Builder setDirectoryCacheDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        directoryCacheDirectory_ = value;
+        onChanged();
+        return this;
+      }
 
+      private int directoryCacheTtlSeconds_ = 86400;
+      /**
+       * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+       */
+      public boolean hasDirectoryCacheTtlSeconds() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+       */
+      public int getDirectoryCacheTtlSeconds() {
+        return directoryCacheTtlSeconds_;
+      }
+      /**
+       * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+       */
+      public Builder setDirectoryCacheTtlSeconds(int value) {
+        bitField0_ |= 0x00000200;
+        directoryCacheTtlSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 directory_cache_ttl_seconds = 10 [default = 86400];</code>
+       */
+      public Builder clearDirectoryCacheTtlSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        directoryCacheTtlSeconds_ = 86400;
+        onChanged();
+        return this;
+      }
+
+      private int domainKeyPoolSize_ = 4;
+      /**
+       * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+       *
+       * <pre>
+       * Domain keys kept ready per key type once the first one has been used.
+       * </pre>
+       */
+      public boolean hasDomainKeyPoolSize() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+       *
+       * <pre>
+       * Domain keys kept ready per key type once the first one has been used.
+       * </pre>
+       */
+      public int getDomainKeyPoolSize() {
+        return domainKeyPoolSize_;
+      }
+      /**
+       * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+       *
+       * <pre>
+       * Domain keys kept ready per key type once the first one has been used.
+       * </pre>
+       */
+      public Builder setDomainKeyPoolSize(int value) {
+        bitField0_ |= 0x00000400;
+        domainKeyPoolSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 domain_key_pool_size = 11 [default = 4];</code>
+       *
+       * <pre>
+       * Domain keys kept ready per key type once the first one has been used.
+       * </pre>
+       */
+      public Builder clearDomainKeyPoolSize() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        domainKeyPoolSize_ = 4;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList include_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureIncludeIsMutable() {
+        if (!((bitField0_ & 0x00000800) == 0x00000800)) {
+          include_ = new com.google.protobuf.LazyStringArrayList(include_);
+          bitField0_ |= 0x00000800;
+         }
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getIncludeList() {
+        return include_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public int getIncludeCount() {
+        return include_.size();
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public java.lang.String getInclude(int index) {
+        return include_.get(index);
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getIncludeBytes(int index) {
+        return include_.getByteString(index);
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public Builder setInclude(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureIncludeIsMutable();
+        include_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public Builder addInclude(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureIncludeIsMutable();
+        include_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public Builder addAllInclude(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureIncludeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, include_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public Builder clearInclude() {
+        include_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string include = 12;</code>
+       *
+       * <pre>
+       * Further account_config fragments, each a file holding the fields of one
+       * AccountConfig, or a directory whose *.txt files are such fragments.
+       * Relative paths are resolved against this file's directory.  Fragments are
+       * appended after the inline account_config entries in sorted path order.
+       * </pre>
+       */
+      public Builder addIncludeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureIncludeIsMutable();
+        include_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private int daemonIntervalSeconds_ = 3600;
+      /**
+       * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+       *
+       * <pre>
+       * Seconds between renewal passes when run with --daemon.
+       * </pre>
+       */
+      public boolean hasDaemonIntervalSeconds() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+       *
+       * <pre>
+       * Seconds between renewal passes when run with --daemon.
+       * </pre>
+       */
+      public int getDaemonIntervalSeconds() {
+        return daemonIntervalSeconds_;
+      }
+      /**
+       * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+       *
+       * <pre>
+       * Seconds between renewal passes when run with --daemon.
+       * </pre>
+       */
+      public Builder setDaemonIntervalSeconds(int value) {
+        bitField0_ |= 0x00001000;
+        daemonIntervalSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 daemon_interval_seconds = 13 [default = 3600];</code>
+       *
+       * <pre>
+       * Seconds between renewal passes when run with --daemon.
+       * </pre>
+       */
+      public Builder clearDaemonIntervalSeconds() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        daemonIntervalSeconds_ = 3600;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object leaderLockFilename_ = "";
+      /**
+       * <code>optional string leader_lock_filename = 14;</code>
+       *
+       * <pre>
+       * When set, daemons sharing key directories elect a leader by locking this
+       * file.  Only the leader renews; standbys keep sessions and certificate
+       * state warm and take over as soon as the lock is released.
+       * </pre>
+       */
+      public boolean hasLeaderLockFilename() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional string leader_lock_filename = 14;</code>
+       *
+       * <pre>
+       * When set, daemons sharing key directories elect a leader by locking this
+       * file.  Only the leader renews; standbys keep sessions and certificate
+       * state warm and take over as soon as the lock is released.
+       * </pre>
+       */
+      public java.lang.String getLeaderLockFilename() {
+        java.lang.Object ref = leaderLockFilename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            leaderLockFilename_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string leader_lock_filename = 14;</code>
+       *
+       * <pre>
+       * When set, daemons sharing key directories elect a leader by locking this
+       * file.  Only the leader renews; standbys keep sessions and certificate
+       * state warm and take over as soon as the lock is released.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getLeaderLockFilenameBytes() {
+        java.lang.Object ref = leaderLockFilename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leaderLockFilename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string leader_lock_filename = 14;</code>
+       *
+       * <pre>
+       * When set, daemons sharing key directories elect a leader by locking this
+       * file.  Only the leader renews; standbys keep sessions and certificate
+       * state warm and take over as soon as the lock is released.
+       * </pre>
+       */
+      public Builder setLeaderLockFilename(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00002000;
+        leaderLockFilename_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leader_lock_filename = 14;</code>
+       *
+       * <pre>
+       * When set, daemons sharing key directories elect a leader by locking this
+       * file.  Only the leader renews; standbys keep sessions and certificate
+       * state warm and take over as soon as the lock is released.
+       * </pre>
+       */
+      public Builder clearLeaderLockFilename() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        leaderLockFilename_ = getDefaultInstance().getLeaderLockFilename();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leader_lock_filename = 14;</code>
+       *
+       * <pre>
+       * When set, daemons sharing key directories elect a leader by locking this
+       * file.  Only the leader renews; standbys keep sessions and certificate
+       * state warm and take over as soon as the lock is released.
+       * </pre>
+       */
+      public Builder setLeaderLockFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00002000;
+        leaderLockFilename_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int leaderPollSeconds_ = 2;
+      /**
+       * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+       *
+       * <pre>
+       * How often the leader renews its lease and standbys try to take over.
+       * </pre>
+       */
+      public boolean hasLeaderPollSeconds() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+       *
+       * <pre>
+       * How often the leader renews its lease and standbys try to take over.
+       * </pre>
+       */
+      public int getLeaderPollSeconds() {
+        return leaderPollSeconds_;
+      }
+      /**
+       * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+       *
+       * <pre>
+       * How often the leader renews its lease and standbys try to take over.
+       * </pre>
+       */
+      public Builder setLeaderPollSeconds(int value) {
+        bitField0_ |= 0x00004000;
+        leaderPollSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 leader_poll_seconds = 15 [default = 2];</code>
+       *
+       * <pre>
+       * How often the leader renews its lease and standbys try to take over.
+       * </pre>
+       */
+      public Builder clearLeaderPollSeconds() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        leaderPollSeconds_ = 2;
+        onChanged();
+        return this;
+      }
+
+      private int domainLockStaleSeconds_ = 3600;
+      /**
+       * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+       *
+       * <pre>
+       * Domain lock files older than this are assumed left by a crashed run.
+       * </pre>
+       */
+      public boolean hasDomainLockStaleSeconds() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+       *
+       * <pre>
+       * Domain lock files older than this are assumed left by a crashed run.
+       * </pre>
+       */
+      public int getDomainLockStaleSeconds() {
+        return domainLockStaleSeconds_;
+      }
+      /**
+       * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+       *
+       * <pre>
+       * Domain lock files older than this are assumed left by a crashed run.
+       * </pre>
+       */
+      public Builder setDomainLockStaleSeconds(int value) {
+        bitField0_ |= 0x00008000;
+        domainLockStaleSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 domain_lock_stale_seconds = 16 [default = 3600];</code>
+       *
+       * <pre>
+       * Domain lock files older than this are assumed left by a crashed run.
+       * </pre>
+       */
+      public Builder clearDomainLockStaleSeconds() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        domainLockStaleSeconds_ = 3600;
+        onChanged();
+        return this;
+      }
+
+      private int logBufferSize_ = 8192;
+      /**
+       * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+       *
+       * <pre>
+       * Log records queued for the background log writer.  When the queue is
+       * full, records below WARNING are dropped rather than stalling renewals.
+       * </pre>
+       */
+      public boolean hasLogBufferSize() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+       *
+       * <pre>
+       * Log records queued for the background log writer.  When the queue is
+       * full, records below WARNING are dropped rather than stalling renewals.
+       * </pre>
+       */
+      public int getLogBufferSize() {
+        return logBufferSize_;
+      }
+      /**
+       * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+       *
+       * <pre>
+       * Log records queued for the background log writer.  When the queue is
+       * full, records below WARNING are dropped rather than stalling renewals.
+       * </pre>
+       */
+      public Builder setLogBufferSize(int value) {
+        bitField0_ |= 0x00010000;
+        logBufferSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 log_buffer_size = 17 [default = 8192];</code>
+       *
+       * <pre>
+       * Log records queued for the background log writer.  When the queue is
+       * full, records below WARNING are dropped rather than stalling renewals.
+       * </pre>
+       */
+      public Builder clearLogBufferSize() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        logBufferSize_ = 8192;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object renewalEventLogFilename_ = "";
+      /**
+       * <code>optional string renewal_event_log_filename = 18;</code>
+       *
+       * <pre>
+       * When set, one JSON line per renewal attempt is appended to this file with
+       * the order, phase timings, poll counts, Retry-After waits and outcome, and
+       * an order_failed line for each order that fails outright.
+       * </pre>
+       */
+      public boolean hasRenewalEventLogFilename() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional string renewal_event_log_filename = 18;</code>
+       *
+       * <pre>
+       * When set, one JSON line per renewal attempt is appended to this file with
+       * the order, phase timings, poll counts, Retry-After waits and outcome, and
+       * an order_failed line for each order that fails outright.
+       * </pre>
+       */
+      public java.lang.String getRenewalEventLogFilename() {
+        java.lang.Object ref = renewalEventLogFilename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            renewalEventLogFilename_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string renewal_event_log_filename = 18;</code>
+       *
+       * <pre>
+       * When set, one JSON line per renewal attempt is appended to this file with
+       * the order, phase timings, poll counts, Retry-After waits and outcome, and
+       * an order_failed line for each order that fails outright.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getRenewalEventLogFilenameBytes() {
+        java.lang.Object ref = renewalEventLogFilename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          renewalEventLogFilename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string renewal_event_log_filename = 18;</code>
+       *
+       * <pre>
+       * When set, one JSON line per renewal attempt is appended to this file with
+       * the order, phase timings, poll counts, Retry-After waits and outcome, and
+       * an order_failed line for each order that fails outright.
+       * </pre>
+       */
+      public Builder setRenewalEventLogFilename(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        renewalEventLogFilename_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string renewal_event_log_filename = 18;</code>
+       *
+       * <pre>
+       * When set, one JSON line per renewal attempt is appended to this file with
+       * the order, phase timings, poll counts, Retry-After waits and outcome, and
+       * an order_failed line for each order that fails outright.
+       * </pre>
+       */
+      public Builder clearRenewalEventLogFilename() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        renewalEventLogFilename_ = getDefaultInstance().getRenewalEventLogFilename();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string renewal_event_log_filename = 18;</code>
+       *
+       * <pre>
+       * When set, one JSON line per renewal attempt is appended to this file with
+       * the order, phase timings, poll counts, Retry-After waits and outcome, and
+       * an order_failed line for each order that fails outright.
+       * </pre>
+       */
+      public Builder setRenewalEventLogFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        renewalEventLogFilename_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.Config)
+    }
+
+    static {
+      defaultInstance = new Config(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.Config)
+  }
+
+  public interface SessionRateLimitOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.SessionRateLimit)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional double requests_per_second = 1 [default = 10];</code>
+     */
+    boolean hasRequestsPerSecond();
+    /**
+     * <code>optional double requests_per_second = 1 [default = 10];</code>
+     */
+    double getRequestsPerSecond();
+
+    /**
+     * <code>optional int32 request_burst = 2 [default = 20];</code>
+     */
+    boolean hasRequestBurst();
+    /**
+     * <code>optional int32 request_burst = 2 [default = 20];</code>
+     */
+    int getRequestBurst();
+  }
+  /**
+   * Protobuf type {@code letsencrypt.SessionRateLimit}
+   */
+  public static final class SessionRateLimit extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.SessionRateLimit)
+      SessionRateLimitOrBuilder {
+    // Use SessionRateLimit.newBuilder() to construct.
+    private SessionRateLimit(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SessionRateLimit(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SessionRateLimit defaultInstance;
+    public static SessionRateLimit getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SessionRateLimit getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SessionRateLimit(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 9: {
+              bitField0_ |= 0x00000001;
+              requestsPerSecond_ = input.readDouble();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              requestBurst_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_SessionRateLimit_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_SessionRateLimit_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.SessionRateLimit.class, letsencrypt.Proto.SessionRateLimit.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SessionRateLimit> PARSER =
+        new com.google.protobuf.AbstractParser<SessionRateLimit>() {
+      public SessionRateLimit parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SessionRateLimit(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SessionRateLimit> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int REQUESTS_PER_SECOND_FIELD_NUMBER = 1;
+    private double requestsPerSecond_;
+    /**
+     * <code>optional double requests_per_second = 1 [default = 10];</code>
+     */
+    public boolean hasRequestsPerSecond() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional double requests_per_second = 1 [default = 10];</code>
+     */
+    public double getRequestsPerSecond() {
+      return requestsPerSecond_;
+    }
+
+    public static final int REQUEST_BURST_FIELD_NUMBER = 2;
+    private int requestBurst_;
+    /**
+     * <code>optional int32 request_burst = 2 [default = 20];</code>
+     */
+    public boolean hasRequestBurst() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 request_burst = 2 [default = 20];</code>
+     */
+    public int getRequestBurst() {
+      return requestBurst_;
+    }
+
+    private void initFields() {
+      requestsPerSecond_ = 10D;
+      requestBurst_ = 20;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeDouble(1, requestsPerSecond_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, requestBurst_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(1, requestsPerSecond_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, requestBurst_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.SessionRateLimit parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.SessionRateLimit prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.SessionRateLimit}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.SessionRateLimit)
+        letsencrypt.Proto.SessionRateLimitOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_SessionRateLimit_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_SessionRateLimit_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.SessionRateLimit.class, letsencrypt.Proto.SessionRateLimit.Builder.class);
+      }
+
+      // Construct using letsencrypt.Proto.SessionRateLimit.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        requestsPerSecond_ = 10D;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestBurst_ = 20;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_SessionRateLimit_descriptor;
+      }
+
+      public letsencrypt.Proto.SessionRateLimit getDefaultInstanceForType() {
+        return letsencrypt.Proto.SessionRateLimit.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.SessionRateLimit build() {
+        letsencrypt.Proto.SessionRateLimit result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public letsencrypt.Proto.SessionRateLimit buildPartial() {
+        letsencrypt.Proto.SessionRateLimit result = new letsencrypt.Proto.SessionRateLimit(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestsPerSecond_ = requestsPerSecond_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.requestBurst_ = requestBurst_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.SessionRateLimit) {
+          return mergeFrom((letsencrypt.Proto.SessionRateLimit)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(letsencrypt.Proto.SessionRateLimit other) {
+        if (other == letsencrypt.Proto.SessionRateLimit.getDefaultInstance()) return this;
+        if (other.hasRequestsPerSecond()) {
+          setRequestsPerSecond(other.getRequestsPerSecond());
+        }
+        if (other.hasRequestBurst()) {
+          setRequestBurst(other.getRequestBurst());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        letsencrypt.Proto.SessionRateLimit parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.SessionRateLimit) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private double requestsPerSecond_ = 10D;
+      /**
+       * <code>optional double requests_per_second = 1 [default = 10];</code>
+       */
+      public boolean hasRequestsPerSecond() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional double requests_per_second = 1 [default = 10];</code>
+       */
+      public double getRequestsPerSecond() {
+        return requestsPerSecond_;
+      }
+      /**
+       * <code>optional double requests_per_second = 1 [default = 10];</code>
+       */
+      public Builder setRequestsPerSecond(double value) {
+        bitField0_ |= 0x00000001;
+        requestsPerSecond_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double requests_per_second = 1 [default = 10];</code>
+       */
+      public Builder clearRequestsPerSecond() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestsPerSecond_ = 10D;
+        onChanged();
+        return this;
+      }
+
+      private int requestBurst_ = 20;
+      /**
+       * <code>optional int32 request_burst = 2 [default = 20];</code>
+       */
+      public boolean hasRequestBurst() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 request_burst = 2 [default = 20];</code>
+       */
+      public int getRequestBurst() {
+        return requestBurst_;
+      }
+      /**
+       * <code>optional int32 request_burst = 2 [default = 20];</code>
+       */
+      public Builder setRequestBurst(int value) {
+        bitField0_ |= 0x00000002;
+        requestBurst_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 request_burst = 2 [default = 20];</code>
+       */
+      public Builder clearRequestBurst() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        requestBurst_ = 20;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.SessionRateLimit)
+    }
+
+    static {
+      defaultInstance = new SessionRateLimit(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.SessionRateLimit)
+  }
+
+  public interface AccountRateLimitOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.AccountRateLimit)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+     */
+    boolean hasNewOrdersPerWindow();
+    /**
+     * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+     */
+    int getNewOrdersPerWindow();
+
+    /**
+     * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+     */
+    boolean hasNewOrderWindowSeconds();
+    /**
+     * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+     */
+    int getNewOrderWindowSeconds();
+
+    /**
+     * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+     */
+    boolean hasFailedValidationsPerWindow();
+    /**
+     * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+     */
+    int getFailedValidationsPerWindow();
+
+    /**
+     * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+     */
+    boolean hasFailedValidationWindowSeconds();
+    /**
+     * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+     */
+    int getFailedValidationWindowSeconds();
+
+    /**
+     * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+     *
+     * <pre>
+     * Longest a renewal waits for an order or validation token before giving up.
+     * </pre>
+     */
+    boolean hasMaxWaitSeconds();
+    /**
+     * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+     *
+     * <pre>
+     * Longest a renewal waits for an order or validation token before giving up.
+     * </pre>
+     */
+    int getMaxWaitSeconds();
+  }
+  /**
+   * Protobuf type {@code letsencrypt.AccountRateLimit}
+   */
+  public static final class AccountRateLimit extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.AccountRateLimit)
+      AccountRateLimitOrBuilder {
+    // Use AccountRateLimit.newBuilder() to construct.
+    private AccountRateLimit(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AccountRateLimit(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AccountRateLimit defaultInstance;
+    public static AccountRateLimit getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AccountRateLimit getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AccountRateLimit(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              newOrdersPerWindow_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              newOrderWindowSeconds_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              failedValidationsPerWindow_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              failedValidationWindowSeconds_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              maxWaitSeconds_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_AccountRateLimit_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_AccountRateLimit_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.AccountRateLimit.class, letsencrypt.Proto.AccountRateLimit.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AccountRateLimit> PARSER =
+        new com.google.protobuf.AbstractParser<AccountRateLimit>() {
+      public AccountRateLimit parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AccountRateLimit(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AccountRateLimit> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int NEW_ORDERS_PER_WINDOW_FIELD_NUMBER = 1;
+    private int newOrdersPerWindow_;
+    /**
+     * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+     */
+    public boolean hasNewOrdersPerWindow() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+     */
+    public int getNewOrdersPerWindow() {
+      return newOrdersPerWindow_;
+    }
+
+    public static final int NEW_ORDER_WINDOW_SECONDS_FIELD_NUMBER = 2;
+    private int newOrderWindowSeconds_;
+    /**
+     * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+     */
+    public boolean hasNewOrderWindowSeconds() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+     */
+    public int getNewOrderWindowSeconds() {
+      return newOrderWindowSeconds_;
+    }
+
+    public static final int FAILED_VALIDATIONS_PER_WINDOW_FIELD_NUMBER = 3;
+    private int failedValidationsPerWindow_;
+    /**
+     * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+     */
+    public boolean hasFailedValidationsPerWindow() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+     */
+    public int getFailedValidationsPerWindow() {
+      return failedValidationsPerWindow_;
+    }
+
+    public static final int FAILED_VALIDATION_WINDOW_SECONDS_FIELD_NUMBER = 4;
+    private int failedValidationWindowSeconds_;
+    /**
+     * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+     */
+    public boolean hasFailedValidationWindowSeconds() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+     */
+    public int getFailedValidationWindowSeconds() {
+      return failedValidationWindowSeconds_;
+    }
+
+    public static final int MAX_WAIT_SECONDS_FIELD_NUMBER = 5;
+    private int maxWaitSeconds_;
+    /**
+     * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+     *
+     * <pre>
+     * Longest a renewal waits for an order or validation token before giving up.
+     * </pre>
+     */
+    public boolean hasMaxWaitSeconds() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+     *
+     * <pre>
+     * Longest a renewal waits for an order or validation token before giving up.
+     * </pre>
+     */
+    public int getMaxWaitSeconds() {
+      return maxWaitSeconds_;
+    }
+
+    private void initFields() {
+      newOrdersPerWindow_ = 300;
+      newOrderWindowSeconds_ = 10800;
+      failedValidationsPerWindow_ = 5;
+      failedValidationWindowSeconds_ = 3600;
+      maxWaitSeconds_ = 300;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, newOrdersPerWindow_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, newOrderWindowSeconds_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, failedValidationsPerWindow_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, failedValidationWindowSeconds_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(5, maxWaitSeconds_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, newOrdersPerWindow_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, newOrderWindowSeconds_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, failedValidationsPerWindow_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, failedValidationWindowSeconds_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, maxWaitSeconds_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.AccountRateLimit parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.AccountRateLimit prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.AccountRateLimit}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.AccountRateLimit)
+        letsencrypt.Proto.AccountRateLimitOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_AccountRateLimit_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_AccountRateLimit_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.AccountRateLimit.class, letsencrypt.Proto.AccountRateLimit.Builder.class);
+      }
+
+      // Construct using letsencrypt.Proto.AccountRateLimit.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        newOrdersPerWindow_ = 300;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        newOrderWindowSeconds_ = 10800;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        failedValidationsPerWindow_ = 5;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        failedValidationWindowSeconds_ = 3600;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxWaitSeconds_ = 300;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_AccountRateLimit_descriptor;
+      }
+
+      public letsencrypt.Proto.AccountRateLimit getDefaultInstanceForType() {
+        return letsencrypt.Proto.AccountRateLimit.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.AccountRateLimit build() {
+        letsencrypt.Proto.AccountRateLimit result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public letsencrypt.Proto.AccountRateLimit buildPartial() {
+        letsencrypt.Proto.AccountRateLimit result = new letsencrypt.Proto.AccountRateLimit(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.newOrdersPerWindow_ = newOrdersPerWindow_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.newOrderWindowSeconds_ = newOrderWindowSeconds_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.failedValidationsPerWindow_ = failedValidationsPerWindow_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.failedValidationWindowSeconds_ = failedValidationWindowSeconds_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.maxWaitSeconds_ = maxWaitSeconds_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.AccountRateLimit) {
+          return mergeFrom((letsencrypt.Proto.AccountRateLimit)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(letsencrypt.Proto.AccountRateLimit other) {
+        if (other == letsencrypt.Proto.AccountRateLimit.getDefaultInstance()) return this;
+        if (other.hasNewOrdersPerWindow()) {
+          setNewOrdersPerWindow(other.getNewOrdersPerWindow());
+        }
+        if (other.hasNewOrderWindowSeconds()) {
+          setNewOrderWindowSeconds(other.getNewOrderWindowSeconds());
+        }
+        if (other.hasFailedValidationsPerWindow()) {
+          setFailedValidationsPerWindow(other.getFailedValidationsPerWindow());
+        }
+        if (other.hasFailedValidationWindowSeconds()) {
+          setFailedValidationWindowSeconds(other.getFailedValidationWindowSeconds());
+        }
+        if (other.hasMaxWaitSeconds()) {
+          setMaxWaitSeconds(other.getMaxWaitSeconds());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        letsencrypt.Proto.AccountRateLimit parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.AccountRateLimit) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int newOrdersPerWindow_ = 300;
+      /**
+       * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+       */
+      public boolean hasNewOrdersPerWindow() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+       */
+      public int getNewOrdersPerWindow() {
+        return newOrdersPerWindow_;
+      }
+      /**
+       * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+       */
+      public Builder setNewOrdersPerWindow(int value) {
+        bitField0_ |= 0x00000001;
+        newOrdersPerWindow_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 new_orders_per_window = 1 [default = 300];</code>
+       */
+      public Builder clearNewOrdersPerWindow() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        newOrdersPerWindow_ = 300;
+        onChanged();
+        return this;
+      }
+
+      private int newOrderWindowSeconds_ = 10800;
+      /**
+       * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+       */
+      public boolean hasNewOrderWindowSeconds() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+       */
+      public int getNewOrderWindowSeconds() {
+        return newOrderWindowSeconds_;
+      }
+      /**
+       * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+       */
+      public Builder setNewOrderWindowSeconds(int value) {
+        bitField0_ |= 0x00000002;
+        newOrderWindowSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 new_order_window_seconds = 2 [default = 10800];</code>
+       */
+      public Builder clearNewOrderWindowSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        newOrderWindowSeconds_ = 10800;
+        onChanged();
+        return this;
+      }
+
+      private int failedValidationsPerWindow_ = 5;
+      /**
+       * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+       */
+      public boolean hasFailedValidationsPerWindow() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+       */
+      public int getFailedValidationsPerWindow() {
+        return failedValidationsPerWindow_;
+      }
+      /**
+       * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+       */
+      public Builder setFailedValidationsPerWindow(int value) {
+        bitField0_ |= 0x00000004;
+        failedValidationsPerWindow_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 failed_validations_per_window = 3 [default = 5];</code>
+       */
+      public Builder clearFailedValidationsPerWindow() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        failedValidationsPerWindow_ = 5;
+        onChanged();
+        return this;
+      }
+
+      private int failedValidationWindowSeconds_ = 3600;
+      /**
+       * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+       */
+      public boolean hasFailedValidationWindowSeconds() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+       */
+      public int getFailedValidationWindowSeconds() {
+        return failedValidationWindowSeconds_;
+      }
+      /**
+       * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+       */
+      public Builder setFailedValidationWindowSeconds(int value) {
+        bitField0_ |= 0x00000008;
+        failedValidationWindowSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 failed_validation_window_seconds = 4 [default = 3600];</code>
+       */
+      public Builder clearFailedValidationWindowSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        failedValidationWindowSeconds_ = 3600;
+        onChanged();
+        return this;
+      }
+
+      private int maxWaitSeconds_ = 300;
+      /**
+       * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+       *
+       * <pre>
+       * Longest a renewal waits for an order or validation token before giving up.
+       * </pre>
+       */
+      public boolean hasMaxWaitSeconds() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+       *
+       * <pre>
+       * Longest a renewal waits for an order or validation token before giving up.
+       * </pre>
+       */
+      public int getMaxWaitSeconds() {
+        return maxWaitSeconds_;
+      }
+      /**
+       * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+       *
+       * <pre>
+       * Longest a renewal waits for an order or validation token before giving up.
+       * </pre>
+       */
+      public Builder setMaxWaitSeconds(int value) {
+        bitField0_ |= 0x00000010;
+        maxWaitSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_wait_seconds = 5 [default = 300];</code>
+       *
+       * <pre>
+       * Longest a renewal waits for an order or validation token before giving up.
+       * </pre>
+       */
+      public Builder clearMaxWaitSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        maxWaitSeconds_ = 300;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.AccountRateLimit)
+    }
+
+    static {
+      defaultInstance = new AccountRateLimit(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.AccountRateLimit)
+  }
+
+  public interface AccountConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.AccountConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string account_url = 1;</code>
+     */
+    boolean hasAccountUrl();
+    /**
+     * <code>optional string account_url = 1;</code>
+     */
+    java.lang.String getAccountUrl();
+    /**
+     * <code>optional string account_url = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getAccountUrlBytes();
+
+    /**
+     * <code>optional string account_email = 2;</code>
+     */
+    boolean hasAccountEmail();
+    /**
+     * <code>optional string account_email = 2;</code>
+     */
+    java.lang.String getAccountEmail();
+    /**
+     * <code>optional string account_email = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getAccountEmailBytes();
+
+    /**
+     * <code>optional string key_directory = 3;</code>
+     */
+    boolean hasKeyDirectory();
+    /**
+     * <code>optional string key_directory = 3;</code>
+     */
+    java.lang.String getKeyDirectory();
+    /**
+     * <code>optional string key_directory = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeyDirectoryBytes();
+
+    /**
+     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     */
+    boolean hasAccountPrivateKeyFilename();
+    /**
+     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     */
+    java.lang.String getAccountPrivateKeyFilename();
+    /**
+     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     */
+    com.google.protobuf.ByteString
+        getAccountPrivateKeyFilenameBytes();
+
+    /**
+     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     */
+    boolean hasAccountPublicKeyFilename();
+    /**
+     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     */
+    java.lang.String getAccountPublicKeyFilename();
+    /**
+     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     */
+    com.google.protobuf.ByteString
+        getAccountPublicKeyFilenameBytes();
+
+    /**
+     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+     */
+    boolean hasCertificateSigningRequestFilenameSpec();
+    /**
+     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+     */
+    java.lang.String getCertificateSigningRequestFilenameSpec();
+    /**
+     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+     */
+    com.google.protobuf.ByteString
+        getCertificateSigningRequestFilenameSpecBytes();
+
+    /**
+     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     */
+    boolean hasCertificateFilenameSpec();
+    /**
+     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     */
+    java.lang.String getCertificateFilenameSpec();
+    /**
+     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     */
+    com.google.protobuf.ByteString
+        getCertificateFilenameSpecBytes();
+
+    /**
+     * <code>optional int32 buffer_period_days = 8;</code>
+     */
+    boolean hasBufferPeriodDays();
+    /**
+     * <code>optional int32 buffer_period_days = 8;</code>
+     */
+    int getBufferPeriodDays();
+
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    java.util.List<letsencrypt.Proto.Domain> 
+        getDomainList();
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    letsencrypt.Proto.Domain getDomain(int index);
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    int getDomainCount();
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    java.util.List<? extends letsencrypt.Proto.DomainOrBuilder> 
+        getDomainOrBuilderList();
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    letsencrypt.Proto.DomainOrBuilder getDomainOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool consolidate_orders = 10 [default = false];</code>
+     *
+     * <pre>
+     * Combine domains sharing their web_root_directory into SAN orders of at most
+     * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+     * for the whole order and the key is written next to each certificate.
+     * </pre>
+     */
+    boolean hasConsolidateOrders();
+    /**
+     * <code>optional bool consolidate_orders = 10 [default = false];</code>
+     *
+     * <pre>
+     * Combine domains sharing their web_root_directory into SAN orders of at most
+     * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+     * for the whole order and the key is written next to each certificate.
+     * </pre>
+     */
+    boolean getConsolidateOrders();
+
+    /**
+     * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+     */
+    boolean hasAccountRateLimit();
+    /**
+     * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+     */
+    letsencrypt.Proto.AccountRateLimit getAccountRateLimit();
+    /**
+     * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+     */
+    letsencrypt.Proto.AccountRateLimitOrBuilder getAccountRateLimitOrBuilder();
+
+    /**
+     * <code>optional string session_url = 12;</code>
+     *
+     * <pre>
+     * Overrides Config.session_url for this account.  account_url belongs to
+     * this endpoint; on any other endpoint the account is looked up by its key.
+     * </pre>
+     */
+    boolean hasSessionUrl();
+    /**
+     * <code>optional string session_url = 12;</code>
+     *
+     * <pre>
+     * Overrides Config.session_url for this account.  account_url belongs to
+     * this endpoint; on any other endpoint the account is looked up by its key.
+     * </pre>
+     */
+    java.lang.String getSessionUrl();
+    /**
+     * <code>optional string session_url = 12;</code>
+     *
+     * <pre>
+     * Overrides Config.session_url for this account.  account_url belongs to
+     * this endpoint; on any other endpoint the account is looked up by its key.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getSessionUrlBytes();
+
+    /**
+     * <code>optional .letsencrypt.Failover failover = 13;</code>
+     */
+    boolean hasFailover();
+    /**
+     * <code>optional .letsencrypt.Failover failover = 13;</code>
+     */
+    letsencrypt.Proto.Failover getFailover();
+    /**
+     * <code>optional .letsencrypt.Failover failover = 13;</code>
+     */
+    letsencrypt.Proto.FailoverOrBuilder getFailoverOrBuilder();
+
+    /**
+     * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+     *
+     * <pre>
+     * Generate each order's key and CSR in-process instead of reading the CSR
+     * from disk.  The private key is written next to the certificate.
+     * </pre>
+     */
+    boolean hasGenerateDomainKeys();
+    /**
+     * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+     *
+     * <pre>
+     * Generate each order's key and CSR in-process instead of reading the CSR
+     * from disk.  The private key is written next to the certificate.
+     * </pre>
+     */
+    boolean getGenerateDomainKeys();
+
+    /**
+     * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+     */
+    boolean hasDomainKeyAlgorithm();
+    /**
+     * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+     */
+    java.lang.String getDomainKeyAlgorithm();
+    /**
+     * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+     */
+    com.google.protobuf.ByteString
+        getDomainKeyAlgorithmBytes();
+
+    /**
+     * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+     */
+    boolean hasDomainKeySize();
+    /**
+     * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+     */
+    int getDomainKeySize();
+
+    /**
+     * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+     */
+    boolean hasDomainPrivateKeyFilenameSpec();
+    /**
+     * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+     */
+    java.lang.String getDomainPrivateKeyFilenameSpec();
+    /**
+     * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+     */
+    com.google.protobuf.ByteString
+        getDomainPrivateKeyFilenameSpecBytes();
+
+    /**
+     * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+     *
+     * <pre>
+     * Lock file created next to the certificate while a domain is being renewed.
+     * </pre>
+     */
+    boolean hasDomainLockFilenameSpec();
+    /**
+     * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+     *
+     * <pre>
+     * Lock file created next to the certificate while a domain is being renewed.
+     * </pre>
+     */
+    java.lang.String getDomainLockFilenameSpec();
+    /**
+     * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+     *
+     * <pre>
+     * Lock file created next to the certificate while a domain is being renewed.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getDomainLockFilenameSpecBytes();
+
+    /**
+     * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+     *
+     * <pre>
+     * Spread renewals over this many days before buffer_period_days: each domain
+     * becomes due at a fixed, name-derived point in the window.  Renewals due
+     * only because of the spread are limited to daily_renewal_budget domains per
+     * 24 hours (0 for no limit), counted from the certificates' notBefore.
+     * </pre>
+     */
+    boolean hasRenewalSpreadDays();
+    /**
+     * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+     *
+     * <pre>
+     * Spread renewals over this many days before buffer_period_days: each domain
+     * becomes due at a fixed, name-derived point in the window.  Renewals due
+     * only because of the spread are limited to daily_renewal_budget domains per
+     * 24 hours (0 for no limit), counted from the certificates' notBefore.
+     * </pre>
+     */
+    int getRenewalSpreadDays();
+
+    /**
+     * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+     */
+    boolean hasDailyRenewalBudget();
+    /**
+     * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+     */
+    int getDailyRenewalBudget();
+
+    /**
+     * <code>optional bool use_renewal_info = 21 [default = true];</code>
+     *
+     * <pre>
+     * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+     * its directory offers them.  Windows are cached next to the certificate.
+     * </pre>
+     */
+    boolean hasUseRenewalInfo();
+    /**
+     * <code>optional bool use_renewal_info = 21 [default = true];</code>
+     *
+     * <pre>
+     * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+     * its directory offers them.  Windows are cached next to the certificate.
+     * </pre>
+     */
+    boolean getUseRenewalInfo();
+
+    /**
+     * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+     */
+    boolean hasRenewalInfoFilenameSpec();
+    /**
+     * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+     */
+    java.lang.String getRenewalInfoFilenameSpec();
+    /**
+     * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+     */
+    com.google.protobuf.ByteString
+        getRenewalInfoFilenameSpecBytes();
+
+    /**
+     * <code>optional string self_check_url_spec = 23;</code>
+     *
+     * <pre>
+     * When set, each challenge is fetched from this URL before it is triggered,
+     * and the order is abandoned without spending a failed validation if it is
+     * not served in time.  Formatted with the domain name and the token, e.g.
+     * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+     * the CA does, without checking certificates of https hops.
+     * </pre>
+     */
+    boolean hasSelfCheckUrlSpec();
+    /**
+     * <code>optional string self_check_url_spec = 23;</code>
+     *
+     * <pre>
+     * When set, each challenge is fetched from this URL before it is triggered,
+     * and the order is abandoned without spending a failed validation if it is
+     * not served in time.  Formatted with the domain name and the token, e.g.
+     * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+     * the CA does, without checking certificates of https hops.
+     * </pre>
+     */
+    java.lang.String getSelfCheckUrlSpec();
+    /**
+     * <code>optional string self_check_url_spec = 23;</code>
+     *
+     * <pre>
+     * When set, each challenge is fetched from this URL before it is triggered,
+     * and the order is abandoned without spending a failed validation if it is
+     * not served in time.  Formatted with the domain name and the token, e.g.
+     * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+     * the CA does, without checking certificates of https hops.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getSelfCheckUrlSpecBytes();
+
+    /**
+     * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+     */
+    boolean hasSelfCheckAttempts();
+    /**
+     * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+     */
+    int getSelfCheckAttempts();
+
+    /**
+     * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+     */
+    boolean hasSelfCheckRetryMillis();
+    /**
+     * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+     */
+    int getSelfCheckRetryMillis();
+  }
+  /**
+   * Protobuf type {@code letsencrypt.AccountConfig}
+   */
+  public static final class AccountConfig extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.AccountConfig)
+      AccountConfigOrBuilder {
+    // Use AccountConfig.newBuilder() to construct.
+    private AccountConfig(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AccountConfig(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AccountConfig defaultInstance;
+    public static AccountConfig getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AccountConfig getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AccountConfig(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              accountUrl_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              accountEmail_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              keyDirectory_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              accountPrivateKeyFilename_ = bs;
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              accountPublicKeyFilename_ = bs;
+              break;
+            }
+            case 50: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              certificateSigningRequestFilenameSpec_ = bs;
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000040;
+              certificateFilenameSpec_ = bs;
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              bufferPeriodDays_ = input.readInt32();
+              break;
+            }
+            case 74: {
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+                domain_ = new java.util.ArrayList<letsencrypt.Proto.Domain>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              domain_.add(input.readMessage(letsencrypt.Proto.Domain.PARSER, extensionRegistry));
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000100;
+              consolidateOrders_ = input.readBool();
+              break;
+            }
+            case 90: {
+              letsencrypt.Proto.AccountRateLimit.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000200) == 0x00000200)) {
+                subBuilder = accountRateLimit_.toBuilder();
+              }
+              accountRateLimit_ = input.readMessage(letsencrypt.Proto.AccountRateLimit.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(accountRateLimit_);
+                accountRateLimit_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000200;
+              break;
+            }
+            case 98: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000400;
+              sessionUrl_ = bs;
+              break;
+            }
+            case 106: {
+              letsencrypt.Proto.Failover.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000800) == 0x00000800)) {
+                subBuilder = failover_.toBuilder();
+              }
+              failover_ = input.readMessage(letsencrypt.Proto.Failover.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(failover_);
+                failover_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000800;
+              break;
+            }
+            case 112: {
+              bitField0_ |= 0x00001000;
+              generateDomainKeys_ = input.readBool();
+              break;
+            }
+            case 122: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00002000;
+              domainKeyAlgorithm_ = bs;
+              break;
+            }
+            case 128: {
+              bitField0_ |= 0x00004000;
+              domainKeySize_ = input.readInt32();
+              break;
+            }
+            case 138: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00008000;
+              domainPrivateKeyFilenameSpec_ = bs;
+              break;
+            }
+            case 146: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00010000;
+              domainLockFilenameSpec_ = bs;
+              break;
+            }
+            case 152: {
+              bitField0_ |= 0x00020000;
+              renewalSpreadDays_ = input.readInt32();
+              break;
+            }
+            case 160: {
+              bitField0_ |= 0x00040000;
+              dailyRenewalBudget_ = input.readInt32();
+              break;
+            }
+            case 168: {
+              bitField0_ |= 0x00080000;
+              useRenewalInfo_ = input.readBool();
+              break;
+            }
+            case 178: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00100000;
+              renewalInfoFilenameSpec_ = bs;
+              break;
+            }
+            case 186: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00200000;
+              selfCheckUrlSpec_ = bs;
+              break;
+            }
+            case 192: {
+              bitField0_ |= 0x00400000;
+              selfCheckAttempts_ = input.readInt32();
+              break;
+            }
+            case 200: {
+              bitField0_ |= 0x00800000;
+              selfCheckRetryMillis_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+          domain_ = java.util.Collections.unmodifiableList(domain_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.AccountConfig.class, letsencrypt.Proto.AccountConfig.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AccountConfig> PARSER =
+        new com.google.protobuf.AbstractParser<AccountConfig>() {
+      public AccountConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AccountConfig(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AccountConfig> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int ACCOUNT_URL_FIELD_NUMBER = 1;
+    private java.lang.Object accountUrl_;
+    /**
+     * <code>optional string account_url = 1;</code>
+     */
+    public boolean hasAccountUrl() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string account_url = 1;</code>
+     */
+    public java.lang.String getAccountUrl() {
+      java.lang.Object ref = accountUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          accountUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string account_url = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAccountUrlBytes() {
+      java.lang.Object ref = accountUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        accountUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ACCOUNT_EMAIL_FIELD_NUMBER = 2;
+    private java.lang.Object accountEmail_;
+    /**
+     * <code>optional string account_email = 2;</code>
+     */
+    public boolean hasAccountEmail() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string account_email = 2;</code>
+     */
+    public java.lang.String getAccountEmail() {
+      java.lang.Object ref = accountEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          accountEmail_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string account_email = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAccountEmailBytes() {
+      java.lang.Object ref = accountEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        accountEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int KEY_DIRECTORY_FIELD_NUMBER = 3;
+    private java.lang.Object keyDirectory_;
+    /**
+     * <code>optional string key_directory = 3;</code>
+     */
+    public boolean hasKeyDirectory() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string key_directory = 3;</code>
+     */
+    public java.lang.String getKeyDirectory() {
+      java.lang.Object ref = keyDirectory_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          keyDirectory_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string key_directory = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyDirectoryBytes() {
+      java.lang.Object ref = keyDirectory_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        keyDirectory_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ACCOUNT_PRIVATE_KEY_FILENAME_FIELD_NUMBER = 4;
+    private java.lang.Object accountPrivateKeyFilename_;
+    /**
+     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     */
+    public boolean hasAccountPrivateKeyFilename() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     */
+    public java.lang.String getAccountPrivateKeyFilename() {
+      java.lang.Object ref = accountPrivateKeyFilename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          accountPrivateKeyFilename_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getAccountPrivateKeyFilenameBytes() {
+      java.lang.Object ref = accountPrivateKeyFilename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        accountPrivateKeyFilename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ACCOUNT_PUBLIC_KEY_FILENAME_FIELD_NUMBER = 5;
+    private java.lang.Object accountPublicKeyFilename_;
+    /**
+     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     */
+    public boolean hasAccountPublicKeyFilename() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     */
+    public java.lang.String getAccountPublicKeyFilename() {
+      java.lang.Object ref = accountPublicKeyFilename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          accountPublicKeyFilename_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getAccountPublicKeyFilenameBytes() {
+      java.lang.Object ref = accountPublicKeyFilename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        accountPublicKeyFilename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CERTIFICATE_SIGNING_REQUEST_FILENAME_SPEC_FIELD_NUMBER = 6;
+    private java.lang.Object certificateSigningRequestFilenameSpec_;
+    /**
+     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+     */
+    public boolean hasCertificateSigningRequestFilenameSpec() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+     */
+    public java.lang.String getCertificateSigningRequestFilenameSpec() {
+      java.lang.Object ref = certificateSigningRequestFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          certificateSigningRequestFilenameSpec_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getCertificateSigningRequestFilenameSpecBytes() {
+      java.lang.Object ref = certificateSigningRequestFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        certificateSigningRequestFilenameSpec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CERTIFICATE_FILENAME_SPEC_FIELD_NUMBER = 7;
+    private java.lang.Object certificateFilenameSpec_;
+    /**
+     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     */
+    public boolean hasCertificateFilenameSpec() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     */
+    public java.lang.String getCertificateFilenameSpec() {
+      java.lang.Object ref = certificateFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          certificateFilenameSpec_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getCertificateFilenameSpecBytes() {
+      java.lang.Object ref = certificateFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        certificateFilenameSpec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BUFFER_PERIOD_DAYS_FIELD_NUMBER = 8;
+    private int bufferPeriodDays_;
+    /**
+     * <code>optional int32 buffer_period_days = 8;</code>
+     */
+    public boolean hasBufferPeriodDays() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional int32 buffer_period_days = 8;</code>
+     */
+    public int getBufferPeriodDays() {
+      return bufferPeriodDays_;
+    }
+
+    public static final int DOMAIN_FIELD_NUMBER = 9;
+    private java.util.List<letsencrypt.Proto.Domain> domain_;
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    public java.util.List<letsencrypt.Proto.Domain> getDomainList() {
+      return domain_;
+    }
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    public java.util.List<? extends letsencrypt.Proto.DomainOrBuilder> 
+        getDomainOrBuilderList() {
+      return domain_;
+    }
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    public int getDomainCount() {
+      return domain_.size();
+    }
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    public letsencrypt.Proto.Domain getDomain(int index) {
+      return domain_.get(index);
+    }
+    /**
+     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     */
+    public letsencrypt.Proto.DomainOrBuilder getDomainOrBuilder(
+        int index) {
+      return domain_.get(index);
+    }
+
+    public static final int CONSOLIDATE_ORDERS_FIELD_NUMBER = 10;
+    private boolean consolidateOrders_;
+    /**
+     * <code>optional bool consolidate_orders = 10 [default = false];</code>
+     *
+     * <pre>
+     * Combine domains sharing their web_root_directory into SAN orders of at most
+     * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+     * for the whole order and the key is written next to each certificate.
+     * </pre>
+     */
+    public boolean hasConsolidateOrders() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional bool consolidate_orders = 10 [default = false];</code>
+     *
+     * <pre>
+     * Combine domains sharing their web_root_directory into SAN orders of at most
+     * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+     * for the whole order and the key is written next to each certificate.
+     * </pre>
+     */
+    public boolean getConsolidateOrders() {
+      return consolidateOrders_;
+    }
+
+    public static final int ACCOUNT_RATE_LIMIT_FIELD_NUMBER = 11;
+    private letsencrypt.Proto.AccountRateLimit accountRateLimit_;
+    /**
+     * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+     */
+    public boolean hasAccountRateLimit() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+     */
+    public letsencrypt.Proto.AccountRateLimit getAccountRateLimit() {
+      return accountRateLimit_;
+    }
+    /**
+     * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+     */
+    public letsencrypt.Proto.AccountRateLimitOrBuilder getAccountRateLimitOrBuilder() {
+      return accountRateLimit_;
+    }
+
+    public static final int SESSION_URL_FIELD_NUMBER = 12;
+    private java.lang.Object sessionUrl_;
+    /**
+     * <code>optional string session_url = 12;</code>
+     *
+     * <pre>
+     * Overrides Config.session_url for this account.  account_url belongs to
+     * this endpoint; on any other endpoint the account is looked up by its key.
+     * </pre>
+     */
+    public boolean hasSessionUrl() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional string session_url = 12;</code>
+     *
+     * <pre>
+     * Overrides Config.session_url for this account.  account_url belongs to
+     * this endpoint; on any other endpoint the account is looked up by its key.
+     * </pre>
+     */
+    public java.lang.String getSessionUrl() {
+      java.lang.Object ref = sessionUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          sessionUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string session_url = 12;</code>
+     *
+     * <pre>
+     * Overrides Config.session_url for this account.  account_url belongs to
+     * this endpoint; on any other endpoint the account is looked up by its key.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getSessionUrlBytes() {
+      java.lang.Object ref = sessionUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sessionUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FAILOVER_FIELD_NUMBER = 13;
+    private letsencrypt.Proto.Failover failover_;
+    /**
+     * <code>optional .letsencrypt.Failover failover = 13;</code>
+     */
+    public boolean hasFailover() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional .letsencrypt.Failover failover = 13;</code>
+     */
+    public letsencrypt.Proto.Failover getFailover() {
+      return failover_;
+    }
+    /**
+     * <code>optional .letsencrypt.Failover failover = 13;</code>
+     */
+    public letsencrypt.Proto.FailoverOrBuilder getFailoverOrBuilder() {
+      return failover_;
+    }
+
+    public static final int GENERATE_DOMAIN_KEYS_FIELD_NUMBER = 14;
+    private boolean generateDomainKeys_;
+    /**
+     * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+     *
+     * <pre>
+     * Generate each order's key and CSR in-process instead of reading the CSR
+     * from disk.  The private key is written next to the certificate.
+     * </pre>
+     */
+    public boolean hasGenerateDomainKeys() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+     *
+     * <pre>
+     * Generate each order's key and CSR in-process instead of reading the CSR
+     * from disk.  The private key is written next to the certificate.
+     * </pre>
+     */
+    public boolean getGenerateDomainKeys() {
+      return generateDomainKeys_;
+    }
+
+    public static final int DOMAIN_KEY_ALGORITHM_FIELD_NUMBER = 15;
+    private java.lang.Object domainKeyAlgorithm_;
+    /**
+     * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+     */
+    public boolean hasDomainKeyAlgorithm() {
+      return ((bitField0_ & 0x00002000) == 0x00002000);
+    }
+    /**
+     * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+     */
+    public java.lang.String getDomainKeyAlgorithm() {
+      java.lang.Object ref = domainKeyAlgorithm_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          domainKeyAlgorithm_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getDomainKeyAlgorithmBytes() {
+      java.lang.Object ref = domainKeyAlgorithm_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainKeyAlgorithm_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAIN_KEY_SIZE_FIELD_NUMBER = 16;
+    private int domainKeySize_;
+    /**
+     * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+     */
+    public boolean hasDomainKeySize() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
+    }
+    /**
+     * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+     */
+    public int getDomainKeySize() {
+      return domainKeySize_;
+    }
+
+    public static final int DOMAIN_PRIVATE_KEY_FILENAME_SPEC_FIELD_NUMBER = 17;
+    private java.lang.Object domainPrivateKeyFilenameSpec_;
+    /**
+     * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+     */
+    public boolean hasDomainPrivateKeyFilenameSpec() {
+      return ((bitField0_ & 0x00008000) == 0x00008000);
+    }
+    /**
+     * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+     */
+    public java.lang.String getDomainPrivateKeyFilenameSpec() {
+      java.lang.Object ref = domainPrivateKeyFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          domainPrivateKeyFilenameSpec_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getDomainPrivateKeyFilenameSpecBytes() {
+      java.lang.Object ref = domainPrivateKeyFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainPrivateKeyFilenameSpec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAIN_LOCK_FILENAME_SPEC_FIELD_NUMBER = 18;
+    private java.lang.Object domainLockFilenameSpec_;
+    /**
+     * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+     *
+     * <pre>
+     * Lock file created next to the certificate while a domain is being renewed.
+     * </pre>
+     */
+    public boolean hasDomainLockFilenameSpec() {
+      return ((bitField0_ & 0x00010000) == 0x00010000);
+    }
+    /**
+     * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+     *
+     * <pre>
+     * Lock file created next to the certificate while a domain is being renewed.
+     * </pre>
+     */
+    public java.lang.String getDomainLockFilenameSpec() {
+      java.lang.Object ref = domainLockFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          domainLockFilenameSpec_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+     *
+     * <pre>
+     * Lock file created next to the certificate while a domain is being renewed.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getDomainLockFilenameSpecBytes() {
+      java.lang.Object ref = domainLockFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainLockFilenameSpec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RENEWAL_SPREAD_DAYS_FIELD_NUMBER = 19;
+    private int renewalSpreadDays_;
+    /**
+     * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+     *
+     * <pre>
+     * Spread renewals over this many days before buffer_period_days: each domain
+     * becomes due at a fixed, name-derived point in the window.  Renewals due
+     * only because of the spread are limited to daily_renewal_budget domains per
+     * 24 hours (0 for no limit), counted from the certificates' notBefore.
+     * </pre>
+     */
+    public boolean hasRenewalSpreadDays() {
+      return ((bitField0_ & 0x00020000) == 0x00020000);
+    }
+    /**
+     * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+     *
+     * <pre>
+     * Spread renewals over this many days before buffer_period_days: each domain
+     * becomes due at a fixed, name-derived point in the window.  Renewals due
+     * only because of the spread are limited to daily_renewal_budget domains per
+     * 24 hours (0 for no limit), counted from the certificates' notBefore.
+     * </pre>
+     */
+    public int getRenewalSpreadDays() {
+      return renewalSpreadDays_;
+    }
+
+    public static final int DAILY_RENEWAL_BUDGET_FIELD_NUMBER = 20;
+    private int dailyRenewalBudget_;
+    /**
+     * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+     */
+    public boolean hasDailyRenewalBudget() {
+      return ((bitField0_ & 0x00040000) == 0x00040000);
+    }
+    /**
+     * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+     */
+    public int getDailyRenewalBudget() {
+      return dailyRenewalBudget_;
+    }
+
+    public static final int USE_RENEWAL_INFO_FIELD_NUMBER = 21;
+    private boolean useRenewalInfo_;
+    /**
+     * <code>optional bool use_renewal_info = 21 [default = true];</code>
+     *
+     * <pre>
+     * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+     * its directory offers them.  Windows are cached next to the certificate.
+     * </pre>
+     */
+    public boolean hasUseRenewalInfo() {
+      return ((bitField0_ & 0x00080000) == 0x00080000);
+    }
+    /**
+     * <code>optional bool use_renewal_info = 21 [default = true];</code>
+     *
+     * <pre>
+     * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+     * its directory offers them.  Windows are cached next to the certificate.
+     * </pre>
+     */
+    public boolean getUseRenewalInfo() {
+      return useRenewalInfo_;
+    }
+
+    public static final int RENEWAL_INFO_FILENAME_SPEC_FIELD_NUMBER = 22;
+    private java.lang.Object renewalInfoFilenameSpec_;
+    /**
+     * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+     */
+    public boolean hasRenewalInfoFilenameSpec() {
+      return ((bitField0_ & 0x00100000) == 0x00100000);
+    }
+    /**
+     * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+     */
+    public java.lang.String getRenewalInfoFilenameSpec() {
+      java.lang.Object ref = renewalInfoFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          renewalInfoFilenameSpec_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getRenewalInfoFilenameSpecBytes() {
+      java.lang.Object ref = renewalInfoFilenameSpec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        renewalInfoFilenameSpec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SELF_CHECK_URL_SPEC_FIELD_NUMBER = 23;
+    private java.lang.Object selfCheckUrlSpec_;
+    /**
+     * <code>optional string self_check_url_spec = 23;</code>
+     *
+     * <pre>
+     * When set, each challenge is fetched from this URL before it is triggered,
+     * and the order is abandoned without spending a failed validation if it is
+     * not served in time.  Formatted with the domain name and the token, e.g.
+     * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+     * the CA does, without checking certificates of https hops.
+     * </pre>
+     */
+    public boolean hasSelfCheckUrlSpec() {
+      return ((bitField0_ & 0x00200000) == 0x00200000);
+    }
+    /**
+     * <code>optional string self_check_url_spec = 23;</code>
+     *
+     * <pre>
+     * When set, each challenge is fetched from this URL before it is triggered,
+     * and the order is abandoned without spending a failed validation if it is
+     * not served in time.  Formatted with the domain name and the token, e.g.
+     * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+     * the CA does, without checking certificates of https hops.
+     * </pre>
+     */
+    public java.lang.String getSelfCheckUrlSpec() {
+      java.lang.Object ref = selfCheckUrlSpec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          selfCheckUrlSpec_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string self_check_url_spec = 23;</code>
+     *
+     * <pre>
+     * When set, each challenge is fetched from this URL before it is triggered,
+     * and the order is abandoned without spending a failed validation if it is
+     * not served in time.  Formatted with the domain name and the token, e.g.
+     * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+     * the CA does, without checking certificates of https hops.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getSelfCheckUrlSpecBytes() {
+      java.lang.Object ref = selfCheckUrlSpec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        selfCheckUrlSpec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SELF_CHECK_ATTEMPTS_FIELD_NUMBER = 24;
+    private int selfCheckAttempts_;
+    /**
+     * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+     */
+    public boolean hasSelfCheckAttempts() {
+      return ((bitField0_ & 0x00400000) == 0x00400000);
+    }
+    /**
+     * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+     */
+    public int getSelfCheckAttempts() {
+      return selfCheckAttempts_;
+    }
+
+    public static final int SELF_CHECK_RETRY_MILLIS_FIELD_NUMBER = 25;
+    private int selfCheckRetryMillis_;
+    /**
+     * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+     */
+    public boolean hasSelfCheckRetryMillis() {
+      return ((bitField0_ & 0x00800000) == 0x00800000);
+    }
+    /**
+     * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+     */
+    public int getSelfCheckRetryMillis() {
+      return selfCheckRetryMillis_;
+    }
+
+    private void initFields() {
+      accountUrl_ = "";
+      accountEmail_ = "";
+      keyDirectory_ = "";
+      accountPrivateKeyFilename_ = "account_private_key.pem";
+      accountPublicKeyFilename_ = "account_public_key.pem";
+      certificateSigningRequestFilenameSpec_ = "%s_csr.pem";
+      certificateFilenameSpec_ = "%s_signed.pem";
+      bufferPeriodDays_ = 0;
+      domain_ = java.util.Collections.emptyList();
+      consolidateOrders_ = false;
+      accountRateLimit_ = letsencrypt.Proto.AccountRateLimit.getDefaultInstance();
+      sessionUrl_ = "";
+      failover_ = letsencrypt.Proto.Failover.getDefaultInstance();
+      generateDomainKeys_ = false;
+      domainKeyAlgorithm_ = "RSA";
+      domainKeySize_ = 2048;
+      domainPrivateKeyFilenameSpec_ = "%s_key.pem";
+      domainLockFilenameSpec_ = "%s.lock";
+      renewalSpreadDays_ = 0;
+      dailyRenewalBudget_ = 0;
+      useRenewalInfo_ = true;
+      renewalInfoFilenameSpec_ = "%s_renewal_info.bin";
+      selfCheckUrlSpec_ = "";
+      selfCheckAttempts_ = 10;
+      selfCheckRetryMillis_ = 500;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getAccountUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getAccountEmailBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getKeyDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getAccountPrivateKeyFilenameBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getAccountPublicKeyFilenameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getCertificateSigningRequestFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getCertificateFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeInt32(8, bufferPeriodDays_);
+      }
+      for (int i = 0; i < domain_.size(); i++) {
+        output.writeMessage(9, domain_.get(i));
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBool(10, consolidateOrders_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeMessage(11, accountRateLimit_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(12, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeMessage(13, failover_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        output.writeBool(14, generateDomainKeys_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        output.writeBytes(15, getDomainKeyAlgorithmBytes());
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeInt32(16, domainKeySize_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        output.writeBytes(17, getDomainPrivateKeyFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        output.writeBytes(18, getDomainLockFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        output.writeInt32(19, renewalSpreadDays_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        output.writeInt32(20, dailyRenewalBudget_);
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        output.writeBool(21, useRenewalInfo_);
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        output.writeBytes(22, getRenewalInfoFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        output.writeBytes(23, getSelfCheckUrlSpecBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        output.writeInt32(24, selfCheckAttempts_);
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        output.writeInt32(25, selfCheckRetryMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getAccountUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getAccountEmailBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getKeyDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getAccountPrivateKeyFilenameBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getAccountPublicKeyFilenameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getCertificateSigningRequestFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getCertificateFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, bufferPeriodDays_);
+      }
+      for (int i = 0; i < domain_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, domain_.get(i));
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, consolidateOrders_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, accountRateLimit_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(12, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, failover_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(14, generateDomainKeys_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(15, getDomainKeyAlgorithmBytes());
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(16, domainKeySize_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(17, getDomainPrivateKeyFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(18, getDomainLockFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(19, renewalSpreadDays_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(20, dailyRenewalBudget_);
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(21, useRenewalInfo_);
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(22, getRenewalInfoFilenameSpecBytes());
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(23, getSelfCheckUrlSpecBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(24, selfCheckAttempts_);
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(25, selfCheckRetryMillis_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.AccountConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.AccountConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.AccountConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.AccountConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.AccountConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.AccountConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.AccountConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.AccountConfig prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.AccountConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.AccountConfig)
+        letsencrypt.Proto.AccountConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.AccountConfig.class, letsencrypt.Proto.AccountConfig.Builder.class);
+      }
+
+      // Construct using letsencrypt.Proto.AccountConfig.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getDomainFieldBuilder();
+          getAccountRateLimitFieldBuilder();
+          getFailoverFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        accountUrl_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        accountEmail_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        keyDirectory_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        accountPrivateKeyFilename_ = "account_private_key.pem";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        accountPublicKeyFilename_ = "account_public_key.pem";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        certificateSigningRequestFilenameSpec_ = "%s_csr.pem";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        certificateFilenameSpec_ = "%s_signed.pem";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        bufferPeriodDays_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        if (domainBuilder_ == null) {
+          domain_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+        } else {
+          domainBuilder_.clear();
+        }
+        consolidateOrders_ = false;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        if (accountRateLimitBuilder_ == null) {
+          accountRateLimit_ = letsencrypt.Proto.AccountRateLimit.getDefaultInstance();
+        } else {
+          accountRateLimitBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000400);
+        sessionUrl_ = "";
+        bitField0_ = (bitField0_ & ~0x00000800);
+        if (failoverBuilder_ == null) {
+          failover_ = letsencrypt.Proto.Failover.getDefaultInstance();
+        } else {
+          failoverBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00001000);
+        generateDomainKeys_ = false;
+        bitField0_ = (bitField0_ & ~0x00002000);
+        domainKeyAlgorithm_ = "RSA";
+        bitField0_ = (bitField0_ & ~0x00004000);
+        domainKeySize_ = 2048;
+        bitField0_ = (bitField0_ & ~0x00008000);
+        domainPrivateKeyFilenameSpec_ = "%s_key.pem";
+        bitField0_ = (bitField0_ & ~0x00010000);
+        domainLockFilenameSpec_ = "%s.lock";
+        bitField0_ = (bitField0_ & ~0x00020000);
+        renewalSpreadDays_ = 0;
+        bitField0_ = (bitField0_ & ~0x00040000);
+        dailyRenewalBudget_ = 0;
+        bitField0_ = (bitField0_ & ~0x00080000);
+        useRenewalInfo_ = true;
+        bitField0_ = (bitField0_ & ~0x00100000);
+        renewalInfoFilenameSpec_ = "%s_renewal_info.bin";
+        bitField0_ = (bitField0_ & ~0x00200000);
+        selfCheckUrlSpec_ = "";
+        bitField0_ = (bitField0_ & ~0x00400000);
+        selfCheckAttempts_ = 10;
+        bitField0_ = (bitField0_ & ~0x00800000);
+        selfCheckRetryMillis_ = 500;
+        bitField0_ = (bitField0_ & ~0x01000000);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_descriptor;
+      }
+
+      public letsencrypt.Proto.AccountConfig getDefaultInstanceForType() {
+        return letsencrypt.Proto.AccountConfig.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.AccountConfig build() {
+        letsencrypt.Proto.AccountConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public letsencrypt.Proto.AccountConfig buildPartial() {
+        letsencrypt.Proto.AccountConfig result = new letsencrypt.Proto.AccountConfig(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.accountUrl_ = accountUrl_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.accountEmail_ = accountEmail_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.keyDirectory_ = keyDirectory_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.accountPrivateKeyFilename_ = accountPrivateKeyFilename_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.accountPublicKeyFilename_ = accountPublicKeyFilename_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.certificateSigningRequestFilenameSpec_ = certificateSigningRequestFilenameSpec_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.certificateFilenameSpec_ = certificateFilenameSpec_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.bufferPeriodDays_ = bufferPeriodDays_;
+        if (domainBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) == 0x00000100)) {
+            domain_ = java.util.Collections.unmodifiableList(domain_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.domain_ = domain_;
+        } else {
+          result.domain_ = domainBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.consolidateOrders_ = consolidateOrders_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        if (accountRateLimitBuilder_ == null) {
+          result.accountRateLimit_ = accountRateLimit_;
+        } else {
+          result.accountRateLimit_ = accountRateLimitBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.sessionUrl_ = sessionUrl_;
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        if (failoverBuilder_ == null) {
+          result.failover_ = failover_;
+        } else {
+          result.failover_ = failoverBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        result.generateDomainKeys_ = generateDomainKeys_;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.domainKeyAlgorithm_ = domainKeyAlgorithm_;
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.domainKeySize_ = domainKeySize_;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.domainPrivateKeyFilenameSpec_ = domainPrivateKeyFilenameSpec_;
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00010000;
+        }
+        result.domainLockFilenameSpec_ = domainLockFilenameSpec_;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00020000;
+        }
+        result.renewalSpreadDays_ = renewalSpreadDays_;
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+          to_bitField0_ |= 0x00040000;
+        }
+        result.dailyRenewalBudget_ = dailyRenewalBudget_;
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+          to_bitField0_ |= 0x00080000;
+        }
+        result.useRenewalInfo_ = useRenewalInfo_;
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
+          to_bitField0_ |= 0x00100000;
+        }
+        result.renewalInfoFilenameSpec_ = renewalInfoFilenameSpec_;
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00200000;
+        }
+        result.selfCheckUrlSpec_ = selfCheckUrlSpec_;
+        if (((from_bitField0_ & 0x00800000) == 0x00800000)) {
+          to_bitField0_ |= 0x00400000;
+        }
+        result.selfCheckAttempts_ = selfCheckAttempts_;
+        if (((from_bitField0_ & 0x01000000) == 0x01000000)) {
+          to_bitField0_ |= 0x00800000;
+        }
+        result.selfCheckRetryMillis_ = selfCheckRetryMillis_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.AccountConfig) {
+          return mergeFrom((letsencrypt.Proto.AccountConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(letsencrypt.Proto.AccountConfig other) {
+        if (other == letsencrypt.Proto.AccountConfig.getDefaultInstance()) return this;
+        if (other.hasAccountUrl()) {
+          bitField0_ |= 0x00000001;
+          accountUrl_ = other.accountUrl_;
+          onChanged();
+        }
+        if (other.hasAccountEmail()) {
+          bitField0_ |= 0x00000002;
+          accountEmail_ = other.accountEmail_;
+          onChanged();
+        }
+        if (other.hasKeyDirectory()) {
+          bitField0_ |= 0x00000004;
+          keyDirectory_ = other.keyDirectory_;
+          onChanged();
+        }
+        if (other.hasAccountPrivateKeyFilename()) {
+          bitField0_ |= 0x00000008;
+          accountPrivateKeyFilename_ = other.accountPrivateKeyFilename_;
+          onChanged();
+        }
+        if (other.hasAccountPublicKeyFilename()) {
+          bitField0_ |= 0x00000010;
+          accountPublicKeyFilename_ = other.accountPublicKeyFilename_;
+          onChanged();
+        }
+        if (other.hasCertificateSigningRequestFilenameSpec()) {
+          bitField0_ |= 0x00000020;
+          certificateSigningRequestFilenameSpec_ = other.certificateSigningRequestFilenameSpec_;
+          onChanged();
+        }
+        if (other.hasCertificateFilenameSpec()) {
+          bitField0_ |= 0x00000040;
+          certificateFilenameSpec_ = other.certificateFilenameSpec_;
+          onChanged();
+        }
+        if (other.hasBufferPeriodDays()) {
+          setBufferPeriodDays(other.getBufferPeriodDays());
+        }
+        if (domainBuilder_ == null) {
+          if (!other.domain_.isEmpty()) {
+            if (domain_.isEmpty()) {
+              domain_ = other.domain_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureDomainIsMutable();
+              domain_.addAll(other.domain_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.domain_.isEmpty()) {
+            if (domainBuilder_.isEmpty()) {
+              domainBuilder_.dispose();
+              domainBuilder_ = null;
+              domain_ = other.domain_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              domainBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDomainFieldBuilder() : null;
+            } else {
+              domainBuilder_.addAllMessages(other.domain_);
+            }
+          }
+        }
+        if (other.hasConsolidateOrders()) {
+          setConsolidateOrders(other.getConsolidateOrders());
+        }
+        if (other.hasAccountRateLimit()) {
+          mergeAccountRateLimit(other.getAccountRateLimit());
+        }
+        if (other.hasSessionUrl()) {
+          bitField0_ |= 0x00000800;
+          sessionUrl_ = other.sessionUrl_;
+          onChanged();
+        }
+        if (other.hasFailover()) {
+          mergeFailover(other.getFailover());
+        }
+        if (other.hasGenerateDomainKeys()) {
+          setGenerateDomainKeys(other.getGenerateDomainKeys());
+        }
+        if (other.hasDomainKeyAlgorithm()) {
+          bitField0_ |= 0x00004000;
+          domainKeyAlgorithm_ = other.domainKeyAlgorithm_;
+          onChanged();
+        }
+        if (other.hasDomainKeySize()) {
+          setDomainKeySize(other.getDomainKeySize());
+        }
+        if (other.hasDomainPrivateKeyFilenameSpec()) {
+          bitField0_ |= 0x00010000;
+          domainPrivateKeyFilenameSpec_ = other.domainPrivateKeyFilenameSpec_;
+          onChanged();
+        }
+        if (other.hasDomainLockFilenameSpec()) {
+          bitField0_ |= 0x00020000;
+          domainLockFilenameSpec_ = other.domainLockFilenameSpec_;
+          onChanged();
+        }
+        if (other.hasRenewalSpreadDays()) {
+          setRenewalSpreadDays(other.getRenewalSpreadDays());
+        }
+        if (other.hasDailyRenewalBudget()) {
+          setDailyRenewalBudget(other.getDailyRenewalBudget());
+        }
+        if (other.hasUseRenewalInfo()) {
+          setUseRenewalInfo(other.getUseRenewalInfo());
+        }
+        if (other.hasRenewalInfoFilenameSpec()) {
+          bitField0_ |= 0x00200000;
+          renewalInfoFilenameSpec_ = other.renewalInfoFilenameSpec_;
+          onChanged();
+        }
+        if (other.hasSelfCheckUrlSpec()) {
+          bitField0_ |= 0x00400000;
+          selfCheckUrlSpec_ = other.selfCheckUrlSpec_;
+          onChanged();
+        }
+        if (other.hasSelfCheckAttempts()) {
+          setSelfCheckAttempts(other.getSelfCheckAttempts());
+        }
+        if (other.hasSelfCheckRetryMillis()) {
+          setSelfCheckRetryMillis(other.getSelfCheckRetryMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        letsencrypt.Proto.AccountConfig parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.AccountConfig) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object accountUrl_ = "";
+      /**
+       * <code>optional string account_url = 1;</code>
+       */
+      public boolean hasAccountUrl() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string account_url = 1;</code>
+       */
+      public java.lang.String getAccountUrl() {
+        java.lang.Object ref = accountUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            accountUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string account_url = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAccountUrlBytes() {
+        java.lang.Object ref = accountUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accountUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string account_url = 1;</code>
+       */
+      public Builder setAccountUrl(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        accountUrl_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_url = 1;</code>
+       */
+      public Builder clearAccountUrl() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        accountUrl_ = getDefaultInstance().getAccountUrl();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_url = 1;</code>
+       */
+      public Builder setAccountUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        accountUrl_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object accountEmail_ = "";
+      /**
+       * <code>optional string account_email = 2;</code>
+       */
+      public boolean hasAccountEmail() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string account_email = 2;</code>
+       */
+      public java.lang.String getAccountEmail() {
+        java.lang.Object ref = accountEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            accountEmail_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string account_email = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAccountEmailBytes() {
+        java.lang.Object ref = accountEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accountEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string account_email = 2;</code>
+       */
+      public Builder setAccountEmail(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        accountEmail_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_email = 2;</code>
+       */
+      public Builder clearAccountEmail() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        accountEmail_ = getDefaultInstance().getAccountEmail();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_email = 2;</code>
+       */
+      public Builder setAccountEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        accountEmail_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object keyDirectory_ = "";
+      /**
+       * <code>optional string key_directory = 3;</code>
+       */
+      public boolean hasKeyDirectory() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string key_directory = 3;</code>
+       */
+      public java.lang.String getKeyDirectory() {
+        java.lang.Object ref = keyDirectory_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            keyDirectory_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string key_directory = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyDirectoryBytes() {
+        java.lang.Object ref = keyDirectory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          keyDirectory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string key_directory = 3;</code>
+       */
+      public Builder setKeyDirectory(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        keyDirectory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string key_directory = 3;</code>
+       */
+      public Builder clearKeyDirectory() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        keyDirectory_ = getDefaultInstance().getKeyDirectory();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string key_directory = 3;</code>
+       */
+      public Builder setKeyDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        keyDirectory_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object accountPrivateKeyFilename_ = "account_private_key.pem";
+      /**
+       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       */
+      public boolean hasAccountPrivateKeyFilename() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       */
+      public java.lang.String getAccountPrivateKeyFilename() {
+        java.lang.Object ref = accountPrivateKeyFilename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            accountPrivateKeyFilename_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getAccountPrivateKeyFilenameBytes() {
+        java.lang.Object ref = accountPrivateKeyFilename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accountPrivateKeyFilename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       */
+      public Builder setAccountPrivateKeyFilename(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        accountPrivateKeyFilename_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       */
+      public Builder clearAccountPrivateKeyFilename() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        accountPrivateKeyFilename_ = getDefaultInstance().getAccountPrivateKeyFilename();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       */
+      public Builder setAccountPrivateKeyFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        accountPrivateKeyFilename_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object accountPublicKeyFilename_ = "account_public_key.pem";
+      /**
+       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       */
+      public boolean hasAccountPublicKeyFilename() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       */
+      public java.lang.String getAccountPublicKeyFilename() {
+        java.lang.Object ref = accountPublicKeyFilename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            accountPublicKeyFilename_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getAccountPublicKeyFilenameBytes() {
+        java.lang.Object ref = accountPublicKeyFilename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accountPublicKeyFilename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       */
+      public Builder setAccountPublicKeyFilename(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        accountPublicKeyFilename_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       */
+      public Builder clearAccountPublicKeyFilename() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        accountPublicKeyFilename_ = getDefaultInstance().getAccountPublicKeyFilename();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       */
+      public Builder setAccountPublicKeyFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        accountPublicKeyFilename_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object certificateSigningRequestFilenameSpec_ = "%s_csr.pem";
+      /**
+       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+       */
+      public boolean hasCertificateSigningRequestFilenameSpec() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+       */
+      public java.lang.String getCertificateSigningRequestFilenameSpec() {
+        java.lang.Object ref = certificateSigningRequestFilenameSpec_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            certificateSigningRequestFilenameSpec_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getCertificateSigningRequestFilenameSpecBytes() {
+        java.lang.Object ref = certificateSigningRequestFilenameSpec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          certificateSigningRequestFilenameSpec_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+       */
+      public Builder setCertificateSigningRequestFilenameSpec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        certificateSigningRequestFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+       */
+      public Builder clearCertificateSigningRequestFilenameSpec() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        certificateSigningRequestFilenameSpec_ = getDefaultInstance().getCertificateSigningRequestFilenameSpec();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
+       */
+      public Builder setCertificateSigningRequestFilenameSpecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        certificateSigningRequestFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object certificateFilenameSpec_ = "%s_signed.pem";
+      /**
+       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+       */
+      public boolean hasCertificateFilenameSpec() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+       */
+      public java.lang.String getCertificateFilenameSpec() {
+        java.lang.Object ref = certificateFilenameSpec_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            certificateFilenameSpec_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getCertificateFilenameSpecBytes() {
+        java.lang.Object ref = certificateFilenameSpec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          certificateFilenameSpec_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+       */
+      public Builder setCertificateFilenameSpec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        certificateFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+       */
+      public Builder clearCertificateFilenameSpec() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        certificateFilenameSpec_ = getDefaultInstance().getCertificateFilenameSpec();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+       */
+      public Builder setCertificateFilenameSpecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        certificateFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int bufferPeriodDays_ ;
+      /**
+       * <code>optional int32 buffer_period_days = 8;</code>
+       */
+      public boolean hasBufferPeriodDays() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int32 buffer_period_days = 8;</code>
+       */
+      public int getBufferPeriodDays() {
+        return bufferPeriodDays_;
+      }
+      /**
+       * <code>optional int32 buffer_period_days = 8;</code>
+       */
+      public Builder setBufferPeriodDays(int value) {
+        bitField0_ |= 0x00000080;
+        bufferPeriodDays_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 buffer_period_days = 8;</code>
+       */
+      public Builder clearBufferPeriodDays() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        bufferPeriodDays_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<letsencrypt.Proto.Domain> domain_ =
+        java.util.Collections.emptyList();
+      private void ensureDomainIsMutable() {
+        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
+          domain_ = new java.util.ArrayList<letsencrypt.Proto.Domain>(domain_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          letsencrypt.Proto.Domain, letsencrypt.Proto.Domain.Builder, letsencrypt.Proto.DomainOrBuilder> domainBuilder_;
+
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public java.util.List<letsencrypt.Proto.Domain> getDomainList() {
+        if (domainBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(domain_);
+        } else {
+          return domainBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public int getDomainCount() {
+        if (domainBuilder_ == null) {
+          return domain_.size();
+        } else {
+          return domainBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public letsencrypt.Proto.Domain getDomain(int index) {
+        if (domainBuilder_ == null) {
+          return domain_.get(index);
+        } else {
+          return domainBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder setDomain(
+          int index, letsencrypt.Proto.Domain value) {
+        if (domainBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomainIsMutable();
+          domain_.set(index, value);
+          onChanged();
+        } else {
+          domainBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder setDomain(
+          int index, letsencrypt.Proto.Domain.Builder builderForValue) {
+        if (domainBuilder_ == null) {
+          ensureDomainIsMutable();
+          domain_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          domainBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder addDomain(letsencrypt.Proto.Domain value) {
+        if (domainBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomainIsMutable();
+          domain_.add(value);
+          onChanged();
+        } else {
+          domainBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder addDomain(
+          int index, letsencrypt.Proto.Domain value) {
+        if (domainBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomainIsMutable();
+          domain_.add(index, value);
+          onChanged();
+        } else {
+          domainBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder addDomain(
+          letsencrypt.Proto.Domain.Builder builderForValue) {
+        if (domainBuilder_ == null) {
+          ensureDomainIsMutable();
+          domain_.add(builderForValue.build());
+          onChanged();
+        } else {
+          domainBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder addDomain(
+          int index, letsencrypt.Proto.Domain.Builder builderForValue) {
+        if (domainBuilder_ == null) {
+          ensureDomainIsMutable();
+          domain_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          domainBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder addAllDomain(
+          java.lang.Iterable<? extends letsencrypt.Proto.Domain> values) {
+        if (domainBuilder_ == null) {
+          ensureDomainIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, domain_);
+          onChanged();
+        } else {
+          domainBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder clearDomain() {
+        if (domainBuilder_ == null) {
+          domain_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          domainBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public Builder removeDomain(int index) {
+        if (domainBuilder_ == null) {
+          ensureDomainIsMutable();
+          domain_.remove(index);
+          onChanged();
+        } else {
+          domainBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public letsencrypt.Proto.Domain.Builder getDomainBuilder(
+          int index) {
+        return getDomainFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public letsencrypt.Proto.DomainOrBuilder getDomainOrBuilder(
+          int index) {
+        if (domainBuilder_ == null) {
+          return domain_.get(index);  } else {
+          return domainBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public java.util.List<? extends letsencrypt.Proto.DomainOrBuilder> 
+           getDomainOrBuilderList() {
+        if (domainBuilder_ != null) {
+          return domainBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(domain_);
+        }
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public letsencrypt.Proto.Domain.Builder addDomainBuilder() {
+        return getDomainFieldBuilder().addBuilder(
+            letsencrypt.Proto.Domain.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public letsencrypt.Proto.Domain.Builder addDomainBuilder(
+          int index) {
+        return getDomainFieldBuilder().addBuilder(
+            index, letsencrypt.Proto.Domain.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       */
+      public java.util.List<letsencrypt.Proto.Domain.Builder> 
+           getDomainBuilderList() {
+        return getDomainFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          letsencrypt.Proto.Domain, letsencrypt.Proto.Domain.Builder, letsencrypt.Proto.DomainOrBuilder> 
+          getDomainFieldBuilder() {
+        if (domainBuilder_ == null) {
+          domainBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              letsencrypt.Proto.Domain, letsencrypt.Proto.Domain.Builder, letsencrypt.Proto.DomainOrBuilder>(
+                  domain_,
+                  ((bitField0_ & 0x00000100) == 0x00000100),
+                  getParentForChildren(),
+                  isClean());
+          domain_ = null;
+        }
+        return domainBuilder_;
+      }
+
+      private boolean consolidateOrders_ ;
+      /**
+       * <code>optional bool consolidate_orders = 10 [default = false];</code>
+       *
+       * <pre>
+       * Combine domains sharing their web_root_directory into SAN orders of at most
+       * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+       * for the whole order and the key is written next to each certificate.
+       * </pre>
+       */
+      public boolean hasConsolidateOrders() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional bool consolidate_orders = 10 [default = false];</code>
+       *
+       * <pre>
+       * Combine domains sharing their web_root_directory into SAN orders of at most
+       * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+       * for the whole order and the key is written next to each certificate.
+       * </pre>
+       */
+      public boolean getConsolidateOrders() {
+        return consolidateOrders_;
+      }
+      /**
+       * <code>optional bool consolidate_orders = 10 [default = false];</code>
+       *
+       * <pre>
+       * Combine domains sharing their web_root_directory into SAN orders of at most
+       * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+       * for the whole order and the key is written next to each certificate.
+       * </pre>
+       */
+      public Builder setConsolidateOrders(boolean value) {
+        bitField0_ |= 0x00000200;
+        consolidateOrders_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool consolidate_orders = 10 [default = false];</code>
+       *
+       * <pre>
+       * Combine domains sharing their web_root_directory into SAN orders of at most
+       * 100 names.  Requires generate_domain_keys: one key and CSR are generated
+       * for the whole order and the key is written next to each certificate.
+       * </pre>
+       */
+      public Builder clearConsolidateOrders() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        consolidateOrders_ = false;
+        onChanged();
+        return this;
+      }
+
+      private letsencrypt.Proto.AccountRateLimit accountRateLimit_ = letsencrypt.Proto.AccountRateLimit.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          letsencrypt.Proto.AccountRateLimit, letsencrypt.Proto.AccountRateLimit.Builder, letsencrypt.Proto.AccountRateLimitOrBuilder> accountRateLimitBuilder_;
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public boolean hasAccountRateLimit() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public letsencrypt.Proto.AccountRateLimit getAccountRateLimit() {
+        if (accountRateLimitBuilder_ == null) {
+          return accountRateLimit_;
+        } else {
+          return accountRateLimitBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public Builder setAccountRateLimit(letsencrypt.Proto.AccountRateLimit value) {
+        if (accountRateLimitBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          accountRateLimit_ = value;
+          onChanged();
+        } else {
+          accountRateLimitBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public Builder setAccountRateLimit(
+          letsencrypt.Proto.AccountRateLimit.Builder builderForValue) {
+        if (accountRateLimitBuilder_ == null) {
+          accountRateLimit_ = builderForValue.build();
+          onChanged();
+        } else {
+          accountRateLimitBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public Builder mergeAccountRateLimit(letsencrypt.Proto.AccountRateLimit value) {
+        if (accountRateLimitBuilder_ == null) {
+          if (((bitField0_ & 0x00000400) == 0x00000400) &&
+              accountRateLimit_ != letsencrypt.Proto.AccountRateLimit.getDefaultInstance()) {
+            accountRateLimit_ =
+              letsencrypt.Proto.AccountRateLimit.newBuilder(accountRateLimit_).mergeFrom(value).buildPartial();
+          } else {
+            accountRateLimit_ = value;
+          }
+          onChanged();
+        } else {
+          accountRateLimitBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public Builder clearAccountRateLimit() {
+        if (accountRateLimitBuilder_ == null) {
+          accountRateLimit_ = letsencrypt.Proto.AccountRateLimit.getDefaultInstance();
+          onChanged();
+        } else {
+          accountRateLimitBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public letsencrypt.Proto.AccountRateLimit.Builder getAccountRateLimitBuilder() {
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return getAccountRateLimitFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      public letsencrypt.Proto.AccountRateLimitOrBuilder getAccountRateLimitOrBuilder() {
+        if (accountRateLimitBuilder_ != null) {
+          return accountRateLimitBuilder_.getMessageOrBuilder();
+        } else {
+          return accountRateLimit_;
+        }
+      }
+      /**
+       * <code>optional .letsencrypt.AccountRateLimit account_rate_limit = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          letsencrypt.Proto.AccountRateLimit, letsencrypt.Proto.AccountRateLimit.Builder, letsencrypt.Proto.AccountRateLimitOrBuilder> 
+          getAccountRateLimitFieldBuilder() {
+        if (accountRateLimitBuilder_ == null) {
+          accountRateLimitBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              letsencrypt.Proto.AccountRateLimit, letsencrypt.Proto.AccountRateLimit.Builder, letsencrypt.Proto.AccountRateLimitOrBuilder>(
+                  getAccountRateLimit(),
+                  getParentForChildren(),
+                  isClean());
+          accountRateLimit_ = null;
+        }
+        return accountRateLimitBuilder_;
+      }
+
+      private java.lang.Object sessionUrl_ = "";
+      /**
+       * <code>optional string session_url = 12;</code>
+       *
+       * <pre>
+       * Overrides Config.session_url for this account.  account_url belongs to
+       * this endpoint; on any other endpoint the account is looked up by its key.
+       * </pre>
+       */
+      public boolean hasSessionUrl() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional string session_url = 12;</code>
+       *
+       * <pre>
+       * Overrides Config.session_url for this account.  account_url belongs to
+       * this endpoint; on any other endpoint the account is looked up by its key.
+       * </pre>
+       */
+      public java.lang.String getSessionUrl() {
+        java.lang.Object ref = sessionUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            sessionUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string session_url = 12;</code>
+       *
+       * <pre>
+       * Overrides Config.session_url for this account.  account_url belongs to
+       * this endpoint; on any other endpoint the account is looked up by its key.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getSessionUrlBytes() {
+        java.lang.Object ref = sessionUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sessionUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string session_url = 12;</code>
+       *
+       * <pre>
+       * Overrides Config.session_url for this account.  account_url belongs to
+       * this endpoint; on any other endpoint the account is looked up by its key.
+       * </pre>
+       */
+      public Builder setSessionUrl(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        sessionUrl_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string session_url = 12;</code>
+       *
+       * <pre>
+       * Overrides Config.session_url for this account.  account_url belongs to
+       * this endpoint; on any other endpoint the account is looked up by its key.
+       * </pre>
+       */
+      public Builder clearSessionUrl() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        sessionUrl_ = getDefaultInstance().getSessionUrl();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string session_url = 12;</code>
+       *
+       * <pre>
+       * Overrides Config.session_url for this account.  account_url belongs to
+       * this endpoint; on any other endpoint the account is looked up by its key.
+       * </pre>
+       */
+      public Builder setSessionUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        sessionUrl_ = value;
+        onChanged();
+        return this;
+      }
+
+      private letsencrypt.Proto.Failover failover_ = letsencrypt.Proto.Failover.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          letsencrypt.Proto.Failover, letsencrypt.Proto.Failover.Builder, letsencrypt.Proto.FailoverOrBuilder> failoverBuilder_;
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public boolean hasFailover() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public letsencrypt.Proto.Failover getFailover() {
+        if (failoverBuilder_ == null) {
+          return failover_;
+        } else {
+          return failoverBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public Builder setFailover(letsencrypt.Proto.Failover value) {
+        if (failoverBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          failover_ = value;
+          onChanged();
+        } else {
+          failoverBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00001000;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public Builder setFailover(
+          letsencrypt.Proto.Failover.Builder builderForValue) {
+        if (failoverBuilder_ == null) {
+          failover_ = builderForValue.build();
+          onChanged();
+        } else {
+          failoverBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00001000;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public Builder mergeFailover(letsencrypt.Proto.Failover value) {
+        if (failoverBuilder_ == null) {
+          if (((bitField0_ & 0x00001000) == 0x00001000) &&
+              failover_ != letsencrypt.Proto.Failover.getDefaultInstance()) {
+            failover_ =
+              letsencrypt.Proto.Failover.newBuilder(failover_).mergeFrom(value).buildPartial();
+          } else {
+            failover_ = value;
+          }
+          onChanged();
+        } else {
+          failoverBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00001000;
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public Builder clearFailover() {
+        if (failoverBuilder_ == null) {
+          failover_ = letsencrypt.Proto.Failover.getDefaultInstance();
+          onChanged();
+        } else {
+          failoverBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00001000);
+        return this;
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public letsencrypt.Proto.Failover.Builder getFailoverBuilder() {
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return getFailoverFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      public letsencrypt.Proto.FailoverOrBuilder getFailoverOrBuilder() {
+        if (failoverBuilder_ != null) {
+          return failoverBuilder_.getMessageOrBuilder();
+        } else {
+          return failover_;
+        }
+      }
+      /**
+       * <code>optional .letsencrypt.Failover failover = 13;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          letsencrypt.Proto.Failover, letsencrypt.Proto.Failover.Builder, letsencrypt.Proto.FailoverOrBuilder> 
+          getFailoverFieldBuilder() {
+        if (failoverBuilder_ == null) {
+          failoverBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              letsencrypt.Proto.Failover, letsencrypt.Proto.Failover.Builder, letsencrypt.Proto.FailoverOrBuilder>(
+                  getFailover(),
+                  getParentForChildren(),
+                  isClean());
+          failover_ = null;
+        }
+        return failoverBuilder_;
+      }
+
+      private boolean generateDomainKeys_ ;
+      /**
+       * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+       *
+       * <pre>
+       * Generate each order's key and CSR in-process instead of reading the CSR
+       * from disk.  The private key is written next to the certificate.
+       * </pre>
+       */
+      public boolean hasGenerateDomainKeys() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+       *
+       * <pre>
+       * Generate each order's key and CSR in-process instead of reading the CSR
+       * from disk.  The private key is written next to the certificate.
+       * </pre>
+       */
+      public boolean getGenerateDomainKeys() {
+        return generateDomainKeys_;
+      }
+      /**
+       * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+       *
+       * <pre>
+       * Generate each order's key and CSR in-process instead of reading the CSR
+       * from disk.  The private key is written next to the certificate.
+       * </pre>
+       */
+      public Builder setGenerateDomainKeys(boolean value) {
+        bitField0_ |= 0x00002000;
+        generateDomainKeys_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool generate_domain_keys = 14 [default = false];</code>
+       *
+       * <pre>
+       * Generate each order's key and CSR in-process instead of reading the CSR
+       * from disk.  The private key is written next to the certificate.
+       * </pre>
+       */
+      public Builder clearGenerateDomainKeys() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        generateDomainKeys_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domainKeyAlgorithm_ = "RSA";
+      /**
+       * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+       */
+      public boolean hasDomainKeyAlgorithm() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+       */
+      public java.lang.String getDomainKeyAlgorithm() {
+        java.lang.Object ref = domainKeyAlgorithm_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            domainKeyAlgorithm_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getDomainKeyAlgorithmBytes() {
+        java.lang.Object ref = domainKeyAlgorithm_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainKeyAlgorithm_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+       */
+      public Builder setDomainKeyAlgorithm(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00004000;
+        domainKeyAlgorithm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+       */
+      public Builder clearDomainKeyAlgorithm() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        domainKeyAlgorithm_ = getDefaultInstance().getDomainKeyAlgorithm();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string domain_key_algorithm = 15 [default = "RSA"];</code>
+       */
+      public Builder setDomainKeyAlgorithmBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00004000;
+        domainKeyAlgorithm_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int domainKeySize_ = 2048;
+      /**
+       * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+       */
+      public boolean hasDomainKeySize() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+       */
+      public int getDomainKeySize() {
+        return domainKeySize_;
+      }
+      /**
+       * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+       */
+      public Builder setDomainKeySize(int value) {
+        bitField0_ |= 0x00008000;
+        domainKeySize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 domain_key_size = 16 [default = 2048];</code>
+       */
+      public Builder clearDomainKeySize() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        domainKeySize_ = 2048;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domainPrivateKeyFilenameSpec_ = "%s_key.pem";
+      /**
+       * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+       */
+      public boolean hasDomainPrivateKeyFilenameSpec() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+       */
+      public java.lang.String getDomainPrivateKeyFilenameSpec() {
+        java.lang.Object ref = domainPrivateKeyFilenameSpec_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            domainPrivateKeyFilenameSpec_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getDomainPrivateKeyFilenameSpecBytes() {
+        java.lang.Object ref = domainPrivateKeyFilenameSpec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainPrivateKeyFilenameSpec_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+       */
+      public Builder setDomainPrivateKeyFilenameSpec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00010000;
+        domainPrivateKeyFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+       */
+      public Builder clearDomainPrivateKeyFilenameSpec() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        domainPrivateKeyFilenameSpec_ = getDefaultInstance().getDomainPrivateKeyFilenameSpec();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string domain_private_key_filename_spec = 17 [default = "%s_key.pem"];</code>
+       */
+      public Builder setDomainPrivateKeyFilenameSpecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00010000;
+        domainPrivateKeyFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domainLockFilenameSpec_ = "%s.lock";
+      /**
+       * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+       *
+       * <pre>
+       * Lock file created next to the certificate while a domain is being renewed.
+       * </pre>
+       */
+      public boolean hasDomainLockFilenameSpec() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+       *
+       * <pre>
+       * Lock file created next to the certificate while a domain is being renewed.
+       * </pre>
+       */
+      public java.lang.String getDomainLockFilenameSpec() {
+        java.lang.Object ref = domainLockFilenameSpec_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            domainLockFilenameSpec_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+       *
+       * <pre>
+       * Lock file created next to the certificate while a domain is being renewed.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getDomainLockFilenameSpecBytes() {
+        java.lang.Object ref = domainLockFilenameSpec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainLockFilenameSpec_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+       *
+       * <pre>
+       * Lock file created next to the certificate while a domain is being renewed.
+       * </pre>
+       */
+      public Builder setDomainLockFilenameSpec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        domainLockFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+       *
+       * <pre>
+       * Lock file created next to the certificate while a domain is being renewed.
+       * </pre>
+       */
+      public Builder clearDomainLockFilenameSpec() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        domainLockFilenameSpec_ = getDefaultInstance().getDomainLockFilenameSpec();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string domain_lock_filename_spec = 18 [default = "%s.lock"];</code>
+       *
+       * <pre>
+       * Lock file created next to the certificate while a domain is being renewed.
+       * </pre>
+       */
+      public Builder setDomainLockFilenameSpecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        domainLockFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int renewalSpreadDays_ ;
+      /**
+       * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+       *
+       * <pre>
+       * Spread renewals over this many days before buffer_period_days: each domain
+       * becomes due at a fixed, name-derived point in the window.  Renewals due
+       * only because of the spread are limited to daily_renewal_budget domains per
+       * 24 hours (0 for no limit), counted from the certificates' notBefore.
+       * </pre>
+       */
+      public boolean hasRenewalSpreadDays() {
+        return ((bitField0_ & 0x00040000) == 0x00040000);
+      }
+      /**
+       * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+       *
+       * <pre>
+       * Spread renewals over this many days before buffer_period_days: each domain
+       * becomes due at a fixed, name-derived point in the window.  Renewals due
+       * only because of the spread are limited to daily_renewal_budget domains per
+       * 24 hours (0 for no limit), counted from the certificates' notBefore.
+       * </pre>
+       */
+      public int getRenewalSpreadDays() {
+        return renewalSpreadDays_;
+      }
+      /**
+       * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+       *
+       * <pre>
+       * Spread renewals over this many days before buffer_period_days: each domain
+       * becomes due at a fixed, name-derived point in the window.  Renewals due
+       * only because of the spread are limited to daily_renewal_budget domains per
+       * 24 hours (0 for no limit), counted from the certificates' notBefore.
+       * </pre>
+       */
+      public Builder setRenewalSpreadDays(int value) {
+        bitField0_ |= 0x00040000;
+        renewalSpreadDays_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 renewal_spread_days = 19 [default = 0];</code>
+       *
+       * <pre>
+       * Spread renewals over this many days before buffer_period_days: each domain
+       * becomes due at a fixed, name-derived point in the window.  Renewals due
+       * only because of the spread are limited to daily_renewal_budget domains per
+       * 24 hours (0 for no limit), counted from the certificates' notBefore.
+       * </pre>
+       */
+      public Builder clearRenewalSpreadDays() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        renewalSpreadDays_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int dailyRenewalBudget_ ;
+      /**
+       * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+       */
+      public boolean hasDailyRenewalBudget() {
+        return ((bitField0_ & 0x00080000) == 0x00080000);
+      }
+      /**
+       * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+       */
+      public int getDailyRenewalBudget() {
+        return dailyRenewalBudget_;
+      }
+      /**
+       * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+       */
+      public Builder setDailyRenewalBudget(int value) {
+        bitField0_ |= 0x00080000;
+        dailyRenewalBudget_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 daily_renewal_budget = 20 [default = 0];</code>
+       */
+      public Builder clearDailyRenewalBudget() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        dailyRenewalBudget_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean useRenewalInfo_ = true;
+      /**
+       * <code>optional bool use_renewal_info = 21 [default = true];</code>
+       *
+       * <pre>
+       * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+       * its directory offers them.  Windows are cached next to the certificate.
+       * </pre>
+       */
+      public boolean hasUseRenewalInfo() {
+        return ((bitField0_ & 0x00100000) == 0x00100000);
+      }
+      /**
+       * <code>optional bool use_renewal_info = 21 [default = true];</code>
+       *
+       * <pre>
+       * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+       * its directory offers them.  Windows are cached next to the certificate.
+       * </pre>
+       */
+      public boolean getUseRenewalInfo() {
+        return useRenewalInfo_;
+      }
+      /**
+       * <code>optional bool use_renewal_info = 21 [default = true];</code>
+       *
+       * <pre>
+       * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+       * its directory offers them.  Windows are cached next to the certificate.
+       * </pre>
+       */
+      public Builder setUseRenewalInfo(boolean value) {
+        bitField0_ |= 0x00100000;
+        useRenewalInfo_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool use_renewal_info = 21 [default = true];</code>
+       *
+       * <pre>
+       * Follow the CA's suggested renewal windows (ACME Renewal Information) when
+       * its directory offers them.  Windows are cached next to the certificate.
+       * </pre>
+       */
+      public Builder clearUseRenewalInfo() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        useRenewalInfo_ = true;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object renewalInfoFilenameSpec_ = "%s_renewal_info.bin";
+      /**
+       * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+       */
+      public boolean hasRenewalInfoFilenameSpec() {
+        return ((bitField0_ & 0x00200000) == 0x00200000);
+      }
+      /**
+       * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+       */
+      public java.lang.String getRenewalInfoFilenameSpec() {
+        java.lang.Object ref = renewalInfoFilenameSpec_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            renewalInfoFilenameSpec_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getRenewalInfoFilenameSpecBytes() {
+        java.lang.Object ref = renewalInfoFilenameSpec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          renewalInfoFilenameSpec_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+       */
+      public Builder setRenewalInfoFilenameSpec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00200000;
+        renewalInfoFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+       */
+      public Builder clearRenewalInfoFilenameSpec() {
+        bitField0_ = (bitField0_ & ~0x00200000);
+        renewalInfoFilenameSpec_ = getDefaultInstance().getRenewalInfoFilenameSpec();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string renewal_info_filename_spec = 22 [default = "%s_renewal_info.bin"];</code>
+       */
+      public Builder setRenewalInfoFilenameSpecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00200000;
+        renewalInfoFilenameSpec_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object selfCheckUrlSpec_ = "";
+      /**
+       * <code>optional string self_check_url_spec = 23;</code>
+       *
+       * <pre>
+       * When set, each challenge is fetched from this URL before it is triggered,
+       * and the order is abandoned without spending a failed validation if it is
+       * not served in time.  Formatted with the domain name and the token, e.g.
+       * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+       * the CA does, without checking certificates of https hops.
+       * </pre>
+       */
+      public boolean hasSelfCheckUrlSpec() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
+      }
+      /**
+       * <code>optional string self_check_url_spec = 23;</code>
+       *
+       * <pre>
+       * When set, each challenge is fetched from this URL before it is triggered,
+       * and the order is abandoned without spending a failed validation if it is
+       * not served in time.  Formatted with the domain name and the token, e.g.
+       * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+       * the CA does, without checking certificates of https hops.
+       * </pre>
+       */
+      public java.lang.String getSelfCheckUrlSpec() {
+        java.lang.Object ref = selfCheckUrlSpec_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            selfCheckUrlSpec_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string self_check_url_spec = 23;</code>
+       *
+       * <pre>
+       * When set, each challenge is fetched from this URL before it is triggered,
+       * and the order is abandoned without spending a failed validation if it is
+       * not served in time.  Formatted with the domain name and the token, e.g.
+       * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+       * the CA does, without checking certificates of https hops.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getSelfCheckUrlSpecBytes() {
+        java.lang.Object ref = selfCheckUrlSpec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          selfCheckUrlSpec_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string self_check_url_spec = 23;</code>
+       *
+       * <pre>
+       * When set, each challenge is fetched from this URL before it is triggered,
+       * and the order is abandoned without spending a failed validation if it is
+       * not served in time.  Formatted with the domain name and the token, e.g.
+       * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+       * the CA does, without checking certificates of https hops.
+       * </pre>
+       */
+      public Builder setSelfCheckUrlSpec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        selfCheckUrlSpec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string self_check_url_spec = 23;</code>
+       *
+       * <pre>
+       * When set, each challenge is fetched from this URL before it is triggered,
+       * and the order is abandoned without spending a failed validation if it is
+       * not served in time.  Formatted with the domain name and the token, e.g.
+       * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+       * the CA does, without checking certificates of https hops.
+       * </pre>
+       */
+      public Builder clearSelfCheckUrlSpec() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        selfCheckUrlSpec_ = getDefaultInstance().getSelfCheckUrlSpec();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string self_check_url_spec = 23;</code>
+       *
+       * <pre>
+       * When set, each challenge is fetched from this URL before it is triggered,
+       * and the order is abandoned without spending a failed validation if it is
+       * not served in time.  Formatted with the domain name and the token, e.g.
+       * "http://%s/.well-known/acme-challenge/%s".  Redirects are followed like
+       * the CA does, without checking certificates of https hops.
+       * </pre>
+       */
+      public Builder setSelfCheckUrlSpecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        selfCheckUrlSpec_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int selfCheckAttempts_ = 10;
+      /**
+       * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+       */
+      public boolean hasSelfCheckAttempts() {
+        return ((bitField0_ & 0x00800000) == 0x00800000);
+      }
+      /**
+       * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+       */
+      public int getSelfCheckAttempts() {
+        return selfCheckAttempts_;
+      }
+      /**
+       * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+       */
+      public Builder setSelfCheckAttempts(int value) {
+        bitField0_ |= 0x00800000;
+        selfCheckAttempts_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 self_check_attempts = 24 [default = 10];</code>
+       */
+      public Builder clearSelfCheckAttempts() {
+        bitField0_ = (bitField0_ & ~0x00800000);
+        selfCheckAttempts_ = 10;
+        onChanged();
+        return this;
+      }
+
+      private int selfCheckRetryMillis_ = 500;
+      /**
+       * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+       */
+      public boolean hasSelfCheckRetryMillis() {
+        return ((bitField0_ & 0x01000000) == 0x01000000);
+      }
+      /**
+       * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+       */
+      public int getSelfCheckRetryMillis() {
+        return selfCheckRetryMillis_;
+      }
+      /**
+       * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+       */
+      public Builder setSelfCheckRetryMillis(int value) {
+        bitField0_ |= 0x01000000;
+        selfCheckRetryMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 self_check_retry_millis = 25 [default = 500];</code>
+       */
+      public Builder clearSelfCheckRetryMillis() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        selfCheckRetryMillis_ = 500;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.AccountConfig)
+    }
+
+    static {
+      defaultInstance = new AccountConfig(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.AccountConfig)
+  }
+
+  public interface FailoverOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.Failover)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    com.google.protobuf.ProtocolStringList
+        getSessionUrlList();
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    int getSessionUrlCount();
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    java.lang.String getSessionUrl(int index);
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getSessionUrlBytes(int index);
+
+    /**
+     * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+     *
+     * <pre>
+     * An endpoint is unhealthy while the p95 of its recent newOrder or
+     * validation latencies exceeds these, or after repeated errors.
+     * </pre>
+     */
+    boolean hasNewOrderSloMillis();
+    /**
+     * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+     *
+     * <pre>
+     * An endpoint is unhealthy while the p95 of its recent newOrder or
+     * validation latencies exceeds these, or after repeated errors.
+     * </pre>
+     */
+    int getNewOrderSloMillis();
+
+    /**
+     * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+     */
+    boolean hasValidationSloMillis();
+    /**
+     * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+     */
+    int getValidationSloMillis();
+
+    /**
+     * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+     */
+    boolean hasMaxConsecutiveErrors();
+    /**
+     * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+     */
+    int getMaxConsecutiveErrors();
+
+    /**
+     * <code>optional int32 window_seconds = 5 [default = 900];</code>
+     *
+     * <pre>
+     * Samples and errors older than this are forgotten.
+     * </pre>
+     */
+    boolean hasWindowSeconds();
+    /**
+     * <code>optional int32 window_seconds = 5 [default = 900];</code>
+     *
+     * <pre>
+     * Samples and errors older than this are forgotten.
+     * </pre>
+     */
+    int getWindowSeconds();
+  }
+  /**
+   * Protobuf type {@code letsencrypt.Failover}
+   */
+  public static final class Failover extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.Failover)
+      FailoverOrBuilder {
+    // Use Failover.newBuilder() to construct.
+    private Failover(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Failover(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Failover defaultInstance;
+    public static Failover getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Failover getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Failover(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                sessionUrl_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              sessionUrl_.add(bs);
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              newOrderSloMillis_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              validationSloMillis_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000004;
+              maxConsecutiveErrors_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000008;
+              windowSeconds_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          sessionUrl_ = sessionUrl_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_Failover_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_Failover_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.Failover.class, letsencrypt.Proto.Failover.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Failover> PARSER =
+        new com.google.protobuf.AbstractParser<Failover>() {
+      public Failover parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Failover(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Failover> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int SESSION_URL_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList sessionUrl_;
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSessionUrlList() {
+      return sessionUrl_;
+    }
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    public int getSessionUrlCount() {
+      return sessionUrl_.size();
+    }
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    public java.lang.String getSessionUrl(int index) {
+      return sessionUrl_.get(index);
+    }
+    /**
+     * <code>repeated string session_url = 1;</code>
+     *
+     * <pre>
+     * Endpoints tried in order when the primary is unhealthy, or when it or the
+     * network to it fails.  Invalid authorizations and orders do not fail over.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getSessionUrlBytes(int index) {
+      return sessionUrl_.getByteString(index);
+    }
+
+    public static final int NEW_ORDER_SLO_MILLIS_FIELD_NUMBER = 2;
+    private int newOrderSloMillis_;
+    /**
+     * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+     *
+     * <pre>
+     * An endpoint is unhealthy while the p95 of its recent newOrder or
+     * validation latencies exceeds these, or after repeated errors.
+     * </pre>
+     */
+    public boolean hasNewOrderSloMillis() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+     *
+     * <pre>
+     * An endpoint is unhealthy while the p95 of its recent newOrder or
+     * validation latencies exceeds these, or after repeated errors.
+     * </pre>
+     */
+    public int getNewOrderSloMillis() {
+      return newOrderSloMillis_;
+    }
+
+    public static final int VALIDATION_SLO_MILLIS_FIELD_NUMBER = 3;
+    private int validationSloMillis_;
+    /**
+     * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+     */
+    public boolean hasValidationSloMillis() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+     */
+    public int getValidationSloMillis() {
+      return validationSloMillis_;
+    }
+
+    public static final int MAX_CONSECUTIVE_ERRORS_FIELD_NUMBER = 4;
+    private int maxConsecutiveErrors_;
+    /**
+     * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+     */
+    public boolean hasMaxConsecutiveErrors() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+     */
+    public int getMaxConsecutiveErrors() {
+      return maxConsecutiveErrors_;
+    }
+
+    public static final int WINDOW_SECONDS_FIELD_NUMBER = 5;
+    private int windowSeconds_;
+    /**
+     * <code>optional int32 window_seconds = 5 [default = 900];</code>
+     *
+     * <pre>
+     * Samples and errors older than this are forgotten.
+     * </pre>
+     */
+    public boolean hasWindowSeconds() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int32 window_seconds = 5 [default = 900];</code>
+     *
+     * <pre>
+     * Samples and errors older than this are forgotten.
+     * </pre>
+     */
+    public int getWindowSeconds() {
+      return windowSeconds_;
+    }
+
+    private void initFields() {
+      sessionUrl_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      newOrderSloMillis_ = 10000;
+      validationSloMillis_ = 120000;
+      maxConsecutiveErrors_ = 3;
+      windowSeconds_ = 900;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < sessionUrl_.size(); i++) {
+        output.writeBytes(1, sessionUrl_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(2, newOrderSloMillis_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(3, validationSloMillis_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(4, maxConsecutiveErrors_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(5, windowSeconds_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < sessionUrl_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(sessionUrl_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getSessionUrlList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, newOrderSloMillis_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, validationSloMillis_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, maxConsecutiveErrors_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, windowSeconds_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.Failover parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.Failover parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Failover parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.Failover parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Failover parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.Failover parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Failover parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.Failover parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Failover parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.Failover parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.Failover prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.Failover}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.Failover)
+        letsencrypt.Proto.FailoverOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_Failover_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_Failover_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.Failover.class, letsencrypt.Proto.Failover.Builder.class);
+      }
+
+      // Construct using letsencrypt.Proto.Failover.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sessionUrl_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        newOrderSloMillis_ = 10000;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        validationSloMillis_ = 120000;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        maxConsecutiveErrors_ = 3;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        windowSeconds_ = 900;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_Failover_descriptor;
+      }
+
+      public letsencrypt.Proto.Failover getDefaultInstanceForType() {
+        return letsencrypt.Proto.Failover.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.Failover build() {
+        letsencrypt.Proto.Failover result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public letsencrypt.Proto.Failover buildPartial() {
+        letsencrypt.Proto.Failover result = new letsencrypt.Proto.Failover(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          sessionUrl_ = sessionUrl_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.sessionUrl_ = sessionUrl_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.newOrderSloMillis_ = newOrderSloMillis_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.validationSloMillis_ = validationSloMillis_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.maxConsecutiveErrors_ = maxConsecutiveErrors_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.windowSeconds_ = windowSeconds_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.Failover) {
+          return mergeFrom((letsencrypt.Proto.Failover)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(letsencrypt.Proto.Failover other) {
+        if (other == letsencrypt.Proto.Failover.getDefaultInstance()) return this;
+        if (!other.sessionUrl_.isEmpty()) {
+          if (sessionUrl_.isEmpty()) {
+            sessionUrl_ = other.sessionUrl_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureSessionUrlIsMutable();
+            sessionUrl_.addAll(other.sessionUrl_);
+          }
+          onChanged();
+        }
+        if (other.hasNewOrderSloMillis()) {
+          setNewOrderSloMillis(other.getNewOrderSloMillis());
+        }
+        if (other.hasValidationSloMillis()) {
+          setValidationSloMillis(other.getValidationSloMillis());
+        }
+        if (other.hasMaxConsecutiveErrors()) {
+          setMaxConsecutiveErrors(other.getMaxConsecutiveErrors());
+        }
+        if (other.hasWindowSeconds()) {
+          setWindowSeconds(other.getWindowSeconds());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        letsencrypt.Proto.Failover parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.Failover) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList sessionUrl_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureSessionUrlIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          sessionUrl_ = new com.google.protobuf.LazyStringArrayList(sessionUrl_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSessionUrlList() {
+        return sessionUrl_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public int getSessionUrlCount() {
+        return sessionUrl_.size();
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public java.lang.String getSessionUrl(int index) {
+        return sessionUrl_.get(index);
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getSessionUrlBytes(int index) {
+        return sessionUrl_.getByteString(index);
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public Builder setSessionUrl(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSessionUrlIsMutable();
+        sessionUrl_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public Builder addSessionUrl(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSessionUrlIsMutable();
+        sessionUrl_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public Builder addAllSessionUrl(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSessionUrlIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, sessionUrl_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public Builder clearSessionUrl() {
+        sessionUrl_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string session_url = 1;</code>
+       *
+       * <pre>
+       * Endpoints tried in order when the primary is unhealthy, or when it or the
+       * network to it fails.  Invalid authorizations and orders do not fail over.
+       * </pre>
+       */
+      public Builder addSessionUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSessionUrlIsMutable();
+        sessionUrl_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private int newOrderSloMillis_ = 10000;
+      /**
+       * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+       *
+       * <pre>
+       * An endpoint is unhealthy while the p95 of its recent newOrder or
+       * validation latencies exceeds these, or after repeated errors.
+       * </pre>
+       */
+      public boolean hasNewOrderSloMillis() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+       *
+       * <pre>
+       * An endpoint is unhealthy while the p95 of its recent newOrder or
+       * validation latencies exceeds these, or after repeated errors.
+       * </pre>
+       */
+      public int getNewOrderSloMillis() {
+        return newOrderSloMillis_;
+      }
+      /**
+       * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+       *
+       * <pre>
+       * An endpoint is unhealthy while the p95 of its recent newOrder or
+       * validation latencies exceeds these, or after repeated errors.
+       * </pre>
+       */
+      public Builder setNewOrderSloMillis(int value) {
+        bitField0_ |= 0x00000002;
+        newOrderSloMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 new_order_slo_millis = 2 [default = 10000];</code>
+       *
+       * <pre>
+       * An endpoint is unhealthy while the p95 of its recent newOrder or
+       * validation latencies exceeds these, or after repeated errors.
+       * </pre>
+       */
+      public Builder clearNewOrderSloMillis() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        newOrderSloMillis_ = 10000;
+        onChanged();
+        return this;
+      }
+
+      private int validationSloMillis_ = 120000;
+      /**
+       * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+       */
+      public boolean hasValidationSloMillis() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+       */
+      public int getValidationSloMillis() {
+        return validationSloMillis_;
+      }
+      /**
+       * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+       */
+      public Builder setValidationSloMillis(int value) {
+        bitField0_ |= 0x00000004;
+        validationSloMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 validation_slo_millis = 3 [default = 120000];</code>
+       */
+      public Builder clearValidationSloMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        validationSloMillis_ = 120000;
+        onChanged();
+        return this;
+      }
+
+      private int maxConsecutiveErrors_ = 3;
+      /**
+       * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+       */
+      public boolean hasMaxConsecutiveErrors() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+       */
+      public int getMaxConsecutiveErrors() {
+        return maxConsecutiveErrors_;
+      }
+      /**
+       * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+       */
+      public Builder setMaxConsecutiveErrors(int value) {
+        bitField0_ |= 0x00000008;
+        maxConsecutiveErrors_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_consecutive_errors = 4 [default = 3];</code>
+       */
+      public Builder clearMaxConsecutiveErrors() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxConsecutiveErrors_ = 3;
+        onChanged();
+        return this;
+      }
+
+      private int windowSeconds_ = 900;
+      /**
+       * <code>optional int32 window_seconds = 5 [default = 900];</code>
+       *
+       * <pre>
+       * Samples and errors older than this are forgotten.
+       * </pre>
+       */
+      public boolean hasWindowSeconds() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int32 window_seconds = 5 [default = 900];</code>
+       *
+       * <pre>
+       * Samples and errors older than this are forgotten.
+       * </pre>
+       */
+      public int getWindowSeconds() {
+        return windowSeconds_;
+      }
+      /**
+       * <code>optional int32 window_seconds = 5 [default = 900];</code>
+       *
+       * <pre>
+       * Samples and errors older than this are forgotten.
+       * </pre>
+       */
+      public Builder setWindowSeconds(int value) {
+        bitField0_ |= 0x00000010;
+        windowSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 window_seconds = 5 [default = 900];</code>
+       *
+       * <pre>
+       * Samples and errors older than this are forgotten.
+       * </pre>
+       */
+      public Builder clearWindowSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        windowSeconds_ = 900;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.Failover)
+    }
+
+    static {
+      defaultInstance = new Failover(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.Failover)
+  }
+
+  public interface DomainOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.Domain)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getServerNameList();
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    int getServerNameCount();
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    java.lang.String getServerName(int index);
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getServerNameBytes(int index);
+
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    com.google.protobuf.ProtocolStringList
+        getWebRootDirectoryList();
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    int getWebRootDirectoryCount();
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    java.lang.String getWebRootDirectory(int index);
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getWebRootDirectoryBytes(int index);
+
+    /**
+     * <code>optional string session_url = 3;</code>
+     *
+     * <pre>
+     * Overrides the account's session_url for this domain.
+     * </pre>
+     */
+    boolean hasSessionUrl();
+    /**
+     * <code>optional string session_url = 3;</code>
+     *
+     * <pre>
+     * Overrides the account's session_url for this domain.
+     * </pre>
+     */
+    java.lang.String getSessionUrl();
+    /**
+     * <code>optional string session_url = 3;</code>
+     *
+     * <pre>
+     * Overrides the account's session_url for this domain.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getSessionUrlBytes();
+
+    /**
+     * <code>optional double priority = 4 [default = 1];</code>
+     *
+     * <pre>
+     * Renewals run most urgent first: time left before expiry divided by this.
+     * Orders which failed on the previous pass run after all the others.
+     * </pre>
+     */
+    boolean hasPriority();
+    /**
+     * <code>optional double priority = 4 [default = 1];</code>
+     *
+     * <pre>
+     * Renewals run most urgent first: time left before expiry divided by this.
+     * Orders which failed on the previous pass run after all the others.
+     * </pre>
+     */
+    double getPriority();
+  }
+  /**
+   * Protobuf type {@code letsencrypt.Domain}
+   */
+  public static final class Domain extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.Domain)
+      DomainOrBuilder {
+    // Use Domain.newBuilder() to construct.
+    private Domain(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Domain(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Domain defaultInstance;
+    public static Domain getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Domain getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Domain(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                serverName_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              serverName_.add(bs);
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                webRootDirectory_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              webRootDirectory_.add(bs);
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              sessionUrl_ = bs;
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000002;
+              priority_ = input.readDouble();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          serverName_ = serverName_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          webRootDirectory_ = webRootDirectory_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_Domain_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_Domain_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.Domain.class, letsencrypt.Proto.Domain.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Domain> PARSER =
+        new com.google.protobuf.AbstractParser<Domain>() {
+      public Domain parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Domain(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Domain> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int SERVER_NAME_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList serverName_;
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getServerNameList() {
+      return serverName_;
+    }
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    public int getServerNameCount() {
+      return serverName_.size();
+    }
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    public java.lang.String getServerName(int index) {
+      return serverName_.get(index);
+    }
+    /**
+     * <code>repeated string server_name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getServerNameBytes(int index) {
+      return serverName_.getByteString(index);
+    }
+
+    public static final int WEB_ROOT_DIRECTORY_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList webRootDirectory_;
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getWebRootDirectoryList() {
+      return webRootDirectory_;
+    }
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    public int getWebRootDirectoryCount() {
+      return webRootDirectory_.size();
+    }
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    public java.lang.String getWebRootDirectory(int index) {
+      return webRootDirectory_.get(index);
+    }
+    /**
+     * <code>repeated string web_root_directory = 2;</code>
+     *
+     * <pre>
+     * Challenge files are written under every web root before validation, so
+     * list each docroot the domain is served from.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getWebRootDirectoryBytes(int index) {
+      return webRootDirectory_.getByteString(index);
+    }
+
+    public static final int SESSION_URL_FIELD_NUMBER = 3;
+    private java.lang.Object sessionUrl_;
+    /**
+     * <code>optional string session_url = 3;</code>
+     *
+     * <pre>
+     * Overrides the account's session_url for this domain.
+     * </pre>
+     */
+    public boolean hasSessionUrl() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string session_url = 3;</code>
+     *
+     * <pre>
+     * Overrides the account's session_url for this domain.
+     * </pre>
+     */
+    public java.lang.String getSessionUrl() {
+      java.lang.Object ref = sessionUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          sessionUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string session_url = 3;</code>
+     *
+     * <pre>
+     * Overrides the account's session_url for this domain.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getSessionUrlBytes() {
+      java.lang.Object ref = sessionUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sessionUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PRIORITY_FIELD_NUMBER = 4;
+    private double priority_;
+    /**
+     * <code>optional double priority = 4 [default = 1];</code>
+     *
+     * <pre>
+     * Renewals run most urgent first: time left before expiry divided by this.
+     * Orders which failed on the previous pass run after all the others.
+     * </pre>
+     */
+    public boolean hasPriority() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional double priority = 4 [default = 1];</code>
+     *
+     * <pre>
+     * Renewals run most urgent first: time left before expiry divided by this.
+     * Orders which failed on the previous pass run after all the others.
+     * </pre>
+     */
+    public double getPriority() {
+      return priority_;
+    }
+
+    private void initFields() {
+      serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      webRootDirectory_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      sessionUrl_ = "";
+      priority_ = 1D;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < serverName_.size(); i++) {
+        output.writeBytes(1, serverName_.getByteString(i));
+      }
+      for (int i = 0; i < webRootDirectory_.size(); i++) {
+        output.writeBytes(2, webRootDirectory_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(3, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeDouble(4, priority_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < serverName_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(serverName_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getServerNameList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < webRootDirectory_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(webRootDirectory_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getWebRootDirectoryList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, priority_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.Domain parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.Domain parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Domain parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.Domain parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Domain parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.Domain parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Domain parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.Domain parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.Domain parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.Domain parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.Domain prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.Domain}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.Domain)
+        letsencrypt.Proto.DomainOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_Domain_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_Domain_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.Domain.class, letsencrypt.Proto.Domain.Builder.class);
+      }
+
+      // Construct using letsencrypt.Proto.Domain.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        webRootDirectory_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sessionUrl_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        priority_ = 1D;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_Domain_descriptor;
+      }
+
+      public letsencrypt.Proto.Domain getDefaultInstanceForType() {
+        return letsencrypt.Proto.Domain.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.Domain build() {
+        letsencrypt.Proto.Domain result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public letsencrypt.Proto.Domain buildPartial() {
+        letsencrypt.Proto.Domain result = new letsencrypt.Proto.Domain(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          serverName_ = serverName_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.serverName_ = serverName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          webRootDirectory_ = webRootDirectory_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.webRootDirectory_ = webRootDirectory_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionUrl_ = sessionUrl_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.priority_ = priority_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.Domain) {
+          return mergeFrom((letsencrypt.Proto.Domain)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(letsencrypt.Proto.Domain other) {
+        if (other == letsencrypt.Proto.Domain.getDefaultInstance()) return this;
+        if (!other.serverName_.isEmpty()) {
+          if (serverName_.isEmpty()) {
+            serverName_ = other.serverName_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureServerNameIsMutable();
+            serverName_.addAll(other.serverName_);
+          }
+          onChanged();
+        }
+        if (!other.webRootDirectory_.isEmpty()) {
+          if (webRootDirectory_.isEmpty()) {
+            webRootDirectory_ = other.webRootDirectory_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureWebRootDirectoryIsMutable();
+            webRootDirectory_.addAll(other.webRootDirectory_);
+          }
+          onChanged();
+        }
+        if (other.hasSessionUrl()) {
+          bitField0_ |= 0x00000004;
+          sessionUrl_ = other.sessionUrl_;
+          onChanged();
+        }
+        if (other.hasPriority()) {
+          setPriority(other.getPriority());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        letsencrypt.Proto.Domain parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.Domain) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureServerNameIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          serverName_ = new com.google.protobuf.LazyStringArrayList(serverName_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getServerNameList() {
+        return serverName_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public int getServerNameCount() {
+        return serverName_.size();
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public java.lang.String getServerName(int index) {
+        return serverName_.get(index);
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getServerNameBytes(int index) {
+        return serverName_.getByteString(index);
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public Builder setServerName(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureServerNameIsMutable();
+        serverName_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public Builder addServerName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureServerNameIsMutable();
+        serverName_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public Builder addAllServerName(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureServerNameIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, serverName_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public Builder clearServerName() {
+        serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string server_name = 1;</code>
+       */
+      public Builder addServerNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureServerNameIsMutable();
+        serverName_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList webRootDirectory_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureWebRootDirectoryIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          webRootDirectory_ = new com.google.protobuf.LazyStringArrayList(webRootDirectory_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getWebRootDirectoryList() {
+        return webRootDirectory_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public int getWebRootDirectoryCount() {
+        return webRootDirectory_.size();
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public java.lang.String getWebRootDirectory(int index) {
+        return webRootDirectory_.get(index);
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getWebRootDirectoryBytes(int index) {
+        return webRootDirectory_.getByteString(index);
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public Builder setWebRootDirectory(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureWebRootDirectoryIsMutable();
+        webRootDirectory_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public Builder addWebRootDirectory(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureWebRootDirectoryIsMutable();
+        webRootDirectory_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public Builder addAllWebRootDirectory(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureWebRootDirectoryIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, webRootDirectory_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public Builder clearWebRootDirectory() {
+        webRootDirectory_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string web_root_directory = 2;</code>
+       *
+       * <pre>
+       * Challenge files are written under every web root before validation, so
+       * list each docroot the domain is served from.
+       * </pre>
+       */
+      public Builder addWebRootDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureWebRootDirectoryIsMutable();
+        webRootDirectory_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sessionUrl_ = "";
+      /**
+       * <code>optional string session_url = 3;</code>
+       *
+       * <pre>
+       * Overrides the account's session_url for this domain.
+       * </pre>
+       */
+      public boolean hasSessionUrl() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string session_url = 3;</code>
+       *
+       * <pre>
+       * Overrides the account's session_url for this domain.
+       * </pre>
+       */
+      public java.lang.String getSessionUrl() {
+        java.lang.Object ref = sessionUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            sessionUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string session_url = 3;</code>
+       *
+       * <pre>
+       * Overrides the account's session_url for this domain.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getSessionUrlBytes() {
+        java.lang.Object ref = sessionUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sessionUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string session_url = 3;</code>
+       *
+       * <pre>
+       * Overrides the account's session_url for this domain.
+       * </pre>
+       */
+      public Builder setSessionUrl(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        sessionUrl_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string session_url = 3;</code>
+       *
+       * <pre>
+       * Overrides the account's session_url for this domain.
+       * </pre>
+       */
+      public Builder clearSessionUrl() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sessionUrl_ = getDefaultInstance().getSessionUrl();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string session_url = 3;</code>
+       *
+       * <pre>
+       * Overrides the account's session_url for this domain.
+       * </pre>
+       */
+      public Builder setSessionUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        sessionUrl_ = value;
+        onChanged();
+        return this;
+      }
+
+      private double priority_ = 1D;
+      /**
+       * <code>optional double priority = 4 [default = 1];</code>
+       *
+       * <pre>
+       * Renewals run most urgent first: time left before expiry divided by this.
+       * Orders which failed on the previous pass run after all the others.
+       * </pre>
+       */
+      public boolean hasPriority() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional double priority = 4 [default = 1];</code>
+       *
+       * <pre>
+       * Renewals run most urgent first: time left before expiry divided by this.
+       * Orders which failed on the previous pass run after all the others.
+       * </pre>
+       */
+      public double getPriority() {
+        return priority_;
+      }
+      /**
+       * <code>optional double priority = 4 [default = 1];</code>
+       *
+       * <pre>
+       * Renewals run most urgent first: time left before expiry divided by this.
+       * Orders which failed on the previous pass run after all the others.
+       * </pre>
+       */
+      public Builder setPriority(double value) {
+        bitField0_ |= 0x00000008;
+        priority_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double priority = 4 [default = 1];</code>
+       *
+       * <pre>
+       * Renewals run most urgent first: time left before expiry divided by this.
+       * Orders which failed on the previous pass run after all the others.
+       * </pre>
+       */
+      public Builder clearPriority() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        priority_ = 1D;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.Domain)
+    }
+
+    static {
+      defaultInstance = new Domain(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.Domain)
+  }
+
+  public interface DirectoryCacheEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.DirectoryCacheEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string session_url = 1;</code>
+     */
+    boolean hasSessionUrl();
+    /**
+     * <code>optional string session_url = 1;</code>
+     */
+    java.lang.String getSessionUrl();
+    /**
+     * <code>optional string session_url = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getSessionUrlBytes();
+
+    /**
+     * <code>optional string json = 2;</code>
+     */
+    boolean hasJson();
+    /**
+     * <code>optional string json = 2;</code>
+     */
+    java.lang.String getJson();
+    /**
+     * <code>optional string json = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getJsonBytes();
+
+    /**
+     * <code>optional int64 fetched_millis = 3;</code>
+     */
+    boolean hasFetchedMillis();
+    /**
+     * <code>optional int64 fetched_millis = 3;</code>
+     */
+    long getFetchedMillis();
+
+    /**
+     * <code>optional int64 last_modified_millis = 4;</code>
+     */
+    boolean hasLastModifiedMillis();
+    /**
+     * <code>optional int64 last_modified_millis = 4;</code>
+     */
+    long getLastModifiedMillis();
+  }
+  /**
+   * Protobuf type {@code letsencrypt.DirectoryCacheEntry}
+   */
+  public static final class DirectoryCacheEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.DirectoryCacheEntry)
+      DirectoryCacheEntryOrBuilder {
+    // Use DirectoryCacheEntry.newBuilder() to construct.
+    private DirectoryCacheEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DirectoryCacheEntry(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DirectoryCacheEntry defaultInstance;
+    public static DirectoryCacheEntry getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DirectoryCacheEntry getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DirectoryCacheEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              sessionUrl_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              json_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              fetchedMillis_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              lastModifiedMillis_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_DirectoryCacheEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_DirectoryCacheEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.DirectoryCacheEntry.class, letsencrypt.Proto.DirectoryCacheEntry.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DirectoryCacheEntry> PARSER =
+        new com.google.protobuf.AbstractParser<DirectoryCacheEntry>() {
+      public DirectoryCacheEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DirectoryCacheEntry(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DirectoryCacheEntry> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int SESSION_URL_FIELD_NUMBER = 1;
+    private java.lang.Object sessionUrl_;
+    /**
+     * <code>optional string session_url = 1;</code>
+     */
+    public boolean hasSessionUrl() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string session_url = 1;</code>
+     */
+    public java.lang.String getSessionUrl() {
+      java.lang.Object ref = sessionUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          sessionUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string session_url = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSessionUrlBytes() {
+      java.lang.Object ref = sessionUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sessionUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int JSON_FIELD_NUMBER = 2;
+    private java.lang.Object json_;
+    /**
+     * <code>optional string json = 2;</code>
+     */
+    public boolean hasJson() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string json = 2;</code>
+     */
+    public java.lang.String getJson() {
+      java.lang.Object ref = json_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          json_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string json = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getJsonBytes() {
+      java.lang.Object ref = json_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        json_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FETCHED_MILLIS_FIELD_NUMBER = 3;
+    private long fetchedMillis_;
     /**
-     * <code>optional string account_email = 2;</code>
+     * <code>optional int64 fetched_millis = 3;</code>
      */
-    boolean hasAccountEmail();
+    public boolean hasFetchedMillis() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
     /**
-     * <code>optional string account_email = 2;</code>
+     * <code>optional int64 fetched_millis = 3;</code>
      */
-    java.lang.String getAccountEmail();
+    public long getFetchedMillis() {
+      return fetchedMillis_;
+    }
+
+    public static final int LAST_MODIFIED_MILLIS_FIELD_NUMBER = 4;
+    private long lastModifiedMillis_;
     /**
-     * <code>optional string account_email = 2;</code>
+     * <code>optional int64 last_modified_millis = 4;</code>
      */
-    com.google.protobuf.ByteString
-        getAccountEmailBytes();
+    public boolean hasLastModifiedMillis() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 last_modified_millis = 4;</code>
+     */
+    public long getLastModifiedMillis() {
+      return lastModifiedMillis_;
+    }
+
+    private void initFields() {
+      sessionUrl_ = "";
+      json_ = "";
+      fetchedMillis_ = 0L;
+      lastModifiedMillis_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getJsonBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, fetchedMillis_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, lastModifiedMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSessionUrlBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getJsonBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, fetchedMillis_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, lastModifiedMillis_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.DirectoryCacheEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.DirectoryCacheEntry prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.DirectoryCacheEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.DirectoryCacheEntry)
+        letsencrypt.Proto.DirectoryCacheEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_DirectoryCacheEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_DirectoryCacheEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.DirectoryCacheEntry.class, letsencrypt.Proto.DirectoryCacheEntry.Builder.class);
+      }
+
+      // Construct using letsencrypt.Proto.DirectoryCacheEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sessionUrl_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        json_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fetchedMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lastModifiedMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_DirectoryCacheEntry_descriptor;
+      }
+
+      public letsencrypt.Proto.DirectoryCacheEntry getDefaultInstanceForType() {
+        return letsencrypt.Proto.DirectoryCacheEntry.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.DirectoryCacheEntry build() {
+        letsencrypt.Proto.DirectoryCacheEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public letsencrypt.Proto.DirectoryCacheEntry buildPartial() {
+        letsencrypt.Proto.DirectoryCacheEntry result = new letsencrypt.Proto.DirectoryCacheEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionUrl_ = sessionUrl_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.json_ = json_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.fetchedMillis_ = fetchedMillis_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.lastModifiedMillis_ = lastModifiedMillis_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.DirectoryCacheEntry) {
+          return mergeFrom((letsencrypt.Proto.DirectoryCacheEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(letsencrypt.Proto.DirectoryCacheEntry other) {
+        if (other == letsencrypt.Proto.DirectoryCacheEntry.getDefaultInstance()) return this;
+        if (other.hasSessionUrl()) {
+          bitField0_ |= 0x00000001;
+          sessionUrl_ = other.sessionUrl_;
+          onChanged();
+        }
+        if (other.hasJson()) {
+          bitField0_ |= 0x00000002;
+          json_ = other.json_;
+          onChanged();
+        }
+        if (other.hasFetchedMillis()) {
+          setFetchedMillis(other.getFetchedMillis());
+        }
+        if (other.hasLastModifiedMillis()) {
+          setLastModifiedMillis(other.getLastModifiedMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        letsencrypt.Proto.DirectoryCacheEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.DirectoryCacheEntry) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
 
-    /**
-     * <code>optional string key_directory = 3;</code>
-     */
-    boolean hasKeyDirectory();
-    /**
-     * <code>optional string key_directory = 3;</code>
-     */
-    java.lang.String getKeyDirectory();
-    /**
-     * <code>optional string key_directory = 3;</code>
-     */
-    com.google.protobuf.ByteString
-        getKeyDirectoryBytes();
+      private java.lang.Object sessionUrl_ = "";
+      /**
+       * <code>optional string session_url = 1;</code>
+       */
+      public boolean hasSessionUrl() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string session_url = 1;</code>
+       */
+      public java.lang.String getSessionUrl() {
+        java.lang.Object ref = sessionUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            sessionUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string session_url = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSessionUrlBytes() {
+        java.lang.Object ref = sessionUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sessionUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string session_url = 1;</code>
+       */
+      public Builder setSessionUrl(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionUrl_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string session_url = 1;</code>
+       */
+      public Builder clearSessionUrl() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionUrl_ = getDefaultInstance().getSessionUrl();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string session_url = 1;</code>
+       */
+      public Builder setSessionUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionUrl_ = value;
+        onChanged();
+        return this;
+      }
 
-    /**
-     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
-     */
-    boolean hasAccountPrivateKeyFilename();
-    /**
-     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
-     */
-    java.lang.String getAccountPrivateKeyFilename();
-    /**
-     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
-     */
-    com.google.protobuf.ByteString
-        getAccountPrivateKeyFilenameBytes();
+      private java.lang.Object json_ = "";
+      /**
+       * <code>optional string json = 2;</code>
+       */
+      public boolean hasJson() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string json = 2;</code>
+       */
+      public java.lang.String getJson() {
+        java.lang.Object ref = json_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            json_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string json = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getJsonBytes() {
+        java.lang.Object ref = json_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          json_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string json = 2;</code>
+       */
+      public Builder setJson(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        json_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string json = 2;</code>
+       */
+      public Builder clearJson() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        json_ = getDefaultInstance().getJson();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string json = 2;</code>
+       */
+      public Builder setJsonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        json_ = value;
+        onChanged();
+        return this;
+      }
 
-    /**
-     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
-     */
-    boolean hasAccountPublicKeyFilename();
-    /**
-     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
-     */
-    java.lang.String getAccountPublicKeyFilename();
-    /**
-     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
-     */
-    com.google.protobuf.ByteString
-        getAccountPublicKeyFilenameBytes();
+      private long fetchedMillis_ ;
+      /**
+       * <code>optional int64 fetched_millis = 3;</code>
+       */
+      public boolean hasFetchedMillis() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 fetched_millis = 3;</code>
+       */
+      public long getFetchedMillis() {
+        return fetchedMillis_;
+      }
+      /**
+       * <code>optional int64 fetched_millis = 3;</code>
+       */
+      public Builder setFetchedMillis(long value) {
+        bitField0_ |= 0x00000004;
+        fetchedMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 fetched_millis = 3;</code>
+       */
+      public Builder clearFetchedMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        fetchedMillis_ = 0L;
+        onChanged();
+        return this;
+      }
 
-    /**
-     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-     */
-    boolean hasCertificateSigningRequestFilenameSpec();
-    /**
-     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-     */
-    java.lang.String getCertificateSigningRequestFilenameSpec();
-    /**
-     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-     */
-    com.google.protobuf.ByteString
-        getCertificateSigningRequestFilenameSpecBytes();
+      private long lastModifiedMillis_ ;
+      /**
+       * <code>optional int64 last_modified_millis = 4;</code>
+       */
+      public boolean hasLastModifiedMillis() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 last_modified_millis = 4;</code>
+       */
+      public long getLastModifiedMillis() {
+        return lastModifiedMillis_;
+      }
+      /**
+       * <code>optional int64 last_modified_millis = 4;</code>
+       */
+      public Builder setLastModifiedMillis(long value) {
+        bitField0_ |= 0x00000008;
+        lastModifiedMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 last_modified_millis = 4;</code>
+       */
+      public Builder clearLastModifiedMillis() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        lastModifiedMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.DirectoryCacheEntry)
+    }
+
+    static {
+      defaultInstance = new DirectoryCacheEntry(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.DirectoryCacheEntry)
+  }
+
+  public interface RenewalInfoEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.RenewalInfoEntry)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     * <code>optional string cert_id = 1;</code>
      */
-    boolean hasCertificateFilenameSpec();
+    boolean hasCertId();
     /**
-     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     * <code>optional string cert_id = 1;</code>
      */
-    java.lang.String getCertificateFilenameSpec();
+    java.lang.String getCertId();
     /**
-     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
+     * <code>optional string cert_id = 1;</code>
      */
     com.google.protobuf.ByteString
-        getCertificateFilenameSpecBytes();
+        getCertIdBytes();
 
     /**
-     * <code>optional int32 buffer_period_days = 8;</code>
+     * <code>optional int64 window_start_millis = 2;</code>
+     *
+     * <pre>
+     * Absent when the CA had no window for the certificate.
+     * </pre>
      */
-    boolean hasBufferPeriodDays();
+    boolean hasWindowStartMillis();
     /**
-     * <code>optional int32 buffer_period_days = 8;</code>
+     * <code>optional int64 window_start_millis = 2;</code>
+     *
+     * <pre>
+     * Absent when the CA had no window for the certificate.
+     * </pre>
      */
-    int getBufferPeriodDays();
+    long getWindowStartMillis();
 
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
-     */
-    java.util.List<letsencrypt.Proto.Domain> 
-        getDomainList();
-    /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>optional int64 window_end_millis = 3;</code>
      */
-    letsencrypt.Proto.Domain getDomain(int index);
+    boolean hasWindowEndMillis();
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>optional int64 window_end_millis = 3;</code>
      */
-    int getDomainCount();
+    long getWindowEndMillis();
+
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>optional int64 next_fetch_millis = 4;</code>
      */
-    java.util.List<? extends letsencrypt.Proto.DomainOrBuilder> 
-        getDomainOrBuilderList();
+    boolean hasNextFetchMillis();
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>optional int64 next_fetch_millis = 4;</code>
      */
-    letsencrypt.Proto.DomainOrBuilder getDomainOrBuilder(
-        int index);
+    long getNextFetchMillis();
   }
   /**
-   * Protobuf type {@code letsencrypt.AccountConfig}
+   * Protobuf type {@code letsencrypt.RenewalInfoEntry}
    */
-  public static final class AccountConfig extends
+  public static final class RenewalInfoEntry extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:letsencrypt.AccountConfig)
-      AccountConfigOrBuilder {
-    // Use AccountConfig.newBuilder() to construct.
-    private AccountConfig(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:letsencrypt.RenewalInfoEntry)
+      RenewalInfoEntryOrBuilder {
+    // Use RenewalInfoEntry.newBuilder() to construct.
+    private RenewalInfoEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private AccountConfig(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private RenewalInfoEntry(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final AccountConfig defaultInstance;
-    public static AccountConfig getDefaultInstance() {
+    private static final RenewalInfoEntry defaultInstance;
+    public static RenewalInfoEntry getDefaultInstance() {
       return defaultInstance;
     }
 
-    public AccountConfig getDefaultInstanceForType() {
+    public RenewalInfoEntry getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -1400,7 +11740,7 @@ public final class Proto {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private AccountConfig(
+    private RenewalInfoEntry(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1426,455 +11766,807 @@ public final class Proto {
             case 10: {
               com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              accountUrl_ = bs;
+              certId_ = bs;
               break;
             }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 16: {
               bitField0_ |= 0x00000002;
-              accountEmail_ = bs;
+              windowStartMillis_ = input.readInt64();
               break;
             }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 24: {
               bitField0_ |= 0x00000004;
-              keyDirectory_ = bs;
+              windowEndMillis_ = input.readInt64();
               break;
             }
-            case 34: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 32: {
               bitField0_ |= 0x00000008;
-              accountPrivateKeyFilename_ = bs;
-              break;
-            }
-            case 42: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000010;
-              accountPublicKeyFilename_ = bs;
-              break;
-            }
-            case 50: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000020;
-              certificateSigningRequestFilenameSpec_ = bs;
-              break;
-            }
-            case 58: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000040;
-              certificateFilenameSpec_ = bs;
-              break;
-            }
-            case 64: {
-              bitField0_ |= 0x00000080;
-              bufferPeriodDays_ = input.readInt32();
-              break;
-            }
-            case 74: {
-              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
-                domain_ = new java.util.ArrayList<letsencrypt.Proto.Domain>();
-                mutable_bitField0_ |= 0x00000100;
-              }
-              domain_.add(input.readMessage(letsencrypt.Proto.Domain.PARSER, extensionRegistry));
+              nextFetchMillis_ = input.readInt64();
               break;
             }
           }
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
-          domain_ = java.util.Collections.unmodifiableList(domain_);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_RenewalInfoEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_RenewalInfoEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.RenewalInfoEntry.class, letsencrypt.Proto.RenewalInfoEntry.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RenewalInfoEntry> PARSER =
+        new com.google.protobuf.AbstractParser<RenewalInfoEntry>() {
+      public RenewalInfoEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RenewalInfoEntry(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RenewalInfoEntry> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int CERT_ID_FIELD_NUMBER = 1;
+    private java.lang.Object certId_;
+    /**
+     * <code>optional string cert_id = 1;</code>
+     */
+    public boolean hasCertId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string cert_id = 1;</code>
+     */
+    public java.lang.String getCertId() {
+      java.lang.Object ref = certId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          certId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string cert_id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCertIdBytes() {
+      java.lang.Object ref = certId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        certId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int WINDOW_START_MILLIS_FIELD_NUMBER = 2;
+    private long windowStartMillis_;
+    /**
+     * <code>optional int64 window_start_millis = 2;</code>
+     *
+     * <pre>
+     * Absent when the CA had no window for the certificate.
+     * </pre>
+     */
+    public boolean hasWindowStartMillis() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 window_start_millis = 2;</code>
+     *
+     * <pre>
+     * Absent when the CA had no window for the certificate.
+     * </pre>
+     */
+    public long getWindowStartMillis() {
+      return windowStartMillis_;
+    }
+
+    public static final int WINDOW_END_MILLIS_FIELD_NUMBER = 3;
+    private long windowEndMillis_;
+    /**
+     * <code>optional int64 window_end_millis = 3;</code>
+     */
+    public boolean hasWindowEndMillis() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 window_end_millis = 3;</code>
+     */
+    public long getWindowEndMillis() {
+      return windowEndMillis_;
+    }
+
+    public static final int NEXT_FETCH_MILLIS_FIELD_NUMBER = 4;
+    private long nextFetchMillis_;
+    /**
+     * <code>optional int64 next_fetch_millis = 4;</code>
+     */
+    public boolean hasNextFetchMillis() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 next_fetch_millis = 4;</code>
+     */
+    public long getNextFetchMillis() {
+      return nextFetchMillis_;
+    }
+
+    private void initFields() {
+      certId_ = "";
+      windowStartMillis_ = 0L;
+      windowEndMillis_ = 0L;
+      nextFetchMillis_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getCertIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, windowStartMillis_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, windowEndMillis_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, nextFetchMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getCertIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, windowStartMillis_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, windowEndMillis_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, nextFetchMillis_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.RenewalInfoEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.RenewalInfoEntry prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.RenewalInfoEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.RenewalInfoEntry)
+        letsencrypt.Proto.RenewalInfoEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_RenewalInfoEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_RenewalInfoEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.RenewalInfoEntry.class, letsencrypt.Proto.RenewalInfoEntry.Builder.class);
+      }
+
+      // Construct using letsencrypt.Proto.RenewalInfoEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        certId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        windowStartMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        windowEndMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        nextFetchMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_RenewalInfoEntry_descriptor;
+      }
+
+      public letsencrypt.Proto.RenewalInfoEntry getDefaultInstanceForType() {
+        return letsencrypt.Proto.RenewalInfoEntry.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.RenewalInfoEntry build() {
+        letsencrypt.Proto.RenewalInfoEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+        return result;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_descriptor;
-    }
 
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              letsencrypt.Proto.AccountConfig.class, letsencrypt.Proto.AccountConfig.Builder.class);
-    }
+      public letsencrypt.Proto.RenewalInfoEntry buildPartial() {
+        letsencrypt.Proto.RenewalInfoEntry result = new letsencrypt.Proto.RenewalInfoEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.certId_ = certId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.windowStartMillis_ = windowStartMillis_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.windowEndMillis_ = windowEndMillis_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.nextFetchMillis_ = nextFetchMillis_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
 
-    public static com.google.protobuf.Parser<AccountConfig> PARSER =
-        new com.google.protobuf.AbstractParser<AccountConfig>() {
-      public AccountConfig parsePartialFrom(
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.RenewalInfoEntry) {
+          return mergeFrom((letsencrypt.Proto.RenewalInfoEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(letsencrypt.Proto.RenewalInfoEntry other) {
+        if (other == letsencrypt.Proto.RenewalInfoEntry.getDefaultInstance()) return this;
+        if (other.hasCertId()) {
+          bitField0_ |= 0x00000001;
+          certId_ = other.certId_;
+          onChanged();
+        }
+        if (other.hasWindowStartMillis()) {
+          setWindowStartMillis(other.getWindowStartMillis());
+        }
+        if (other.hasWindowEndMillis()) {
+          setWindowEndMillis(other.getWindowEndMillis());
+        }
+        if (other.hasNextFetchMillis()) {
+          setNextFetchMillis(other.getNextFetchMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AccountConfig(input, extensionRegistry);
+          throws java.io.IOException {
+        letsencrypt.Proto.RenewalInfoEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.RenewalInfoEntry) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
-    };
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<AccountConfig> getParserForType() {
-      return PARSER;
-    }
+      private int bitField0_;
 
-    private int bitField0_;
-    public static final int ACCOUNT_URL_FIELD_NUMBER = 1;
-    private java.lang.Object accountUrl_;
-    /**
-     * <code>optional string account_url = 1;</code>
-     */
-    public boolean hasAccountUrl() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>optional string account_url = 1;</code>
-     */
-    public java.lang.String getAccountUrl() {
-      java.lang.Object ref = accountUrl_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          accountUrl_ = s;
+      private java.lang.Object certId_ = "";
+      /**
+       * <code>optional string cert_id = 1;</code>
+       */
+      public boolean hasCertId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string cert_id = 1;</code>
+       */
+      public java.lang.String getCertId() {
+        java.lang.Object ref = certId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            certId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return s;
       }
-    }
-    /**
-     * <code>optional string account_url = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getAccountUrlBytes() {
-      java.lang.Object ref = accountUrl_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        accountUrl_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+      /**
+       * <code>optional string cert_id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCertIdBytes() {
+        java.lang.Object ref = certId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          certId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string cert_id = 1;</code>
+       */
+      public Builder setCertId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        certId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cert_id = 1;</code>
+       */
+      public Builder clearCertId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        certId_ = getDefaultInstance().getCertId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cert_id = 1;</code>
+       */
+      public Builder setCertIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        certId_ = value;
+        onChanged();
+        return this;
       }
-    }
 
-    public static final int ACCOUNT_EMAIL_FIELD_NUMBER = 2;
-    private java.lang.Object accountEmail_;
-    /**
-     * <code>optional string account_email = 2;</code>
-     */
-    public boolean hasAccountEmail() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional string account_email = 2;</code>
-     */
-    public java.lang.String getAccountEmail() {
-      java.lang.Object ref = accountEmail_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          accountEmail_ = s;
-        }
-        return s;
+      private long windowStartMillis_ ;
+      /**
+       * <code>optional int64 window_start_millis = 2;</code>
+       *
+       * <pre>
+       * Absent when the CA had no window for the certificate.
+       * </pre>
+       */
+      public boolean hasWindowStartMillis() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 window_start_millis = 2;</code>
+       *
+       * <pre>
+       * Absent when the CA had no window for the certificate.
+       * </pre>
+       */
+      public long getWindowStartMillis() {
+        return windowStartMillis_;
+      }
+      /**
+       * <code>optional int64 window_start_millis = 2;</code>
+       *
+       * <pre>
+       * Absent when the CA had no window for the certificate.
+       * </pre>
+       */
+      public Builder setWindowStartMillis(long value) {
+        bitField0_ |= 0x00000002;
+        windowStartMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 window_start_millis = 2;</code>
+       *
+       * <pre>
+       * Absent when the CA had no window for the certificate.
+       * </pre>
+       */
+      public Builder clearWindowStartMillis() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        windowStartMillis_ = 0L;
+        onChanged();
+        return this;
       }
-    }
-    /**
-     * <code>optional string account_email = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getAccountEmailBytes() {
-      java.lang.Object ref = accountEmail_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        accountEmail_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+
+      private long windowEndMillis_ ;
+      /**
+       * <code>optional int64 window_end_millis = 3;</code>
+       */
+      public boolean hasWindowEndMillis() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 window_end_millis = 3;</code>
+       */
+      public long getWindowEndMillis() {
+        return windowEndMillis_;
+      }
+      /**
+       * <code>optional int64 window_end_millis = 3;</code>
+       */
+      public Builder setWindowEndMillis(long value) {
+        bitField0_ |= 0x00000004;
+        windowEndMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 window_end_millis = 3;</code>
+       */
+      public Builder clearWindowEndMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        windowEndMillis_ = 0L;
+        onChanged();
+        return this;
       }
-    }
 
-    public static final int KEY_DIRECTORY_FIELD_NUMBER = 3;
-    private java.lang.Object keyDirectory_;
-    /**
-     * <code>optional string key_directory = 3;</code>
-     */
-    public boolean hasKeyDirectory() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional string key_directory = 3;</code>
-     */
-    public java.lang.String getKeyDirectory() {
-      java.lang.Object ref = keyDirectory_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          keyDirectory_ = s;
-        }
-        return s;
+      private long nextFetchMillis_ ;
+      /**
+       * <code>optional int64 next_fetch_millis = 4;</code>
+       */
+      public boolean hasNextFetchMillis() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-    }
-    /**
-     * <code>optional string key_directory = 3;</code>
-     */
-    public com.google.protobuf.ByteString
-        getKeyDirectoryBytes() {
-      java.lang.Object ref = keyDirectory_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        keyDirectory_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+      /**
+       * <code>optional int64 next_fetch_millis = 4;</code>
+       */
+      public long getNextFetchMillis() {
+        return nextFetchMillis_;
+      }
+      /**
+       * <code>optional int64 next_fetch_millis = 4;</code>
+       */
+      public Builder setNextFetchMillis(long value) {
+        bitField0_ |= 0x00000008;
+        nextFetchMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 next_fetch_millis = 4;</code>
+       */
+      public Builder clearNextFetchMillis() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        nextFetchMillis_ = 0L;
+        onChanged();
+        return this;
       }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.RenewalInfoEntry)
     }
 
-    public static final int ACCOUNT_PRIVATE_KEY_FILENAME_FIELD_NUMBER = 4;
-    private java.lang.Object accountPrivateKeyFilename_;
-    /**
-     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
-     */
-    public boolean hasAccountPrivateKeyFilename() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    static {
+      defaultInstance = new RenewalInfoEntry(true);
+      defaultInstance.initFields();
     }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.RenewalInfoEntry)
+  }
+
+  public interface RateLimitStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.RateLimitState)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public java.lang.String getAccountPrivateKeyFilename() {
-      java.lang.Object ref = accountPrivateKeyFilename_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          accountPrivateKeyFilename_ = s;
-        }
-        return s;
-      }
-    }
+    java.util.List<letsencrypt.Proto.TokenBucketState> 
+        getBucketList();
     /**
-     * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getAccountPrivateKeyFilenameBytes() {
-      java.lang.Object ref = accountPrivateKeyFilename_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        accountPrivateKeyFilename_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int ACCOUNT_PUBLIC_KEY_FILENAME_FIELD_NUMBER = 5;
-    private java.lang.Object accountPublicKeyFilename_;
+    letsencrypt.Proto.TokenBucketState getBucket(int index);
     /**
-     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public boolean hasAccountPublicKeyFilename() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
-    }
+    int getBucketCount();
     /**
-     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public java.lang.String getAccountPublicKeyFilename() {
-      java.lang.Object ref = accountPublicKeyFilename_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          accountPublicKeyFilename_ = s;
-        }
-        return s;
-      }
-    }
+    java.util.List<? extends letsencrypt.Proto.TokenBucketStateOrBuilder> 
+        getBucketOrBuilderList();
     /**
-     * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getAccountPublicKeyFilenameBytes() {
-      java.lang.Object ref = accountPublicKeyFilename_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        accountPublicKeyFilename_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    letsencrypt.Proto.TokenBucketStateOrBuilder getBucketOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code letsencrypt.RateLimitState}
+   */
+  public static final class RateLimitState extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.RateLimitState)
+      RateLimitStateOrBuilder {
+    // Use RateLimitState.newBuilder() to construct.
+    private RateLimitState(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
     }
+    private RateLimitState(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    public static final int CERTIFICATE_SIGNING_REQUEST_FILENAME_SPEC_FIELD_NUMBER = 6;
-    private java.lang.Object certificateSigningRequestFilenameSpec_;
-    /**
-     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-     */
-    public boolean hasCertificateSigningRequestFilenameSpec() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
-    }
-    /**
-     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-     */
-    public java.lang.String getCertificateSigningRequestFilenameSpec() {
-      java.lang.Object ref = certificateSigningRequestFilenameSpec_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          certificateSigningRequestFilenameSpec_ = s;
-        }
-        return s;
-      }
+    private static final RateLimitState defaultInstance;
+    public static RateLimitState getDefaultInstance() {
+      return defaultInstance;
     }
-    /**
-     * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-     */
-    public com.google.protobuf.ByteString
-        getCertificateSigningRequestFilenameSpecBytes() {
-      java.lang.Object ref = certificateSigningRequestFilenameSpec_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        certificateSigningRequestFilenameSpec_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+
+    public RateLimitState getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
-    public static final int CERTIFICATE_FILENAME_SPEC_FIELD_NUMBER = 7;
-    private java.lang.Object certificateFilenameSpec_;
-    /**
-     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-     */
-    public boolean hasCertificateFilenameSpec() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
     }
-    /**
-     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-     */
-    public java.lang.String getCertificateFilenameSpec() {
-      java.lang.Object ref = certificateFilenameSpec_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          certificateFilenameSpec_ = s;
+    private RateLimitState(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                bucket_ = new java.util.ArrayList<letsencrypt.Proto.TokenBucketState>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              bucket_.add(input.readMessage(letsencrypt.Proto.TokenBucketState.PARSER, extensionRegistry));
+              break;
+            }
+          }
         }
-        return s;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          bucket_ = java.util.Collections.unmodifiableList(bucket_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
     }
-    /**
-     * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-     */
-    public com.google.protobuf.ByteString
-        getCertificateFilenameSpecBytes() {
-      java.lang.Object ref = certificateFilenameSpec_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        certificateFilenameSpec_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_RateLimitState_descriptor;
     }
 
-    public static final int BUFFER_PERIOD_DAYS_FIELD_NUMBER = 8;
-    private int bufferPeriodDays_;
-    /**
-     * <code>optional int32 buffer_period_days = 8;</code>
-     */
-    public boolean hasBufferPeriodDays() {
-      return ((bitField0_ & 0x00000080) == 0x00000080);
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_RateLimitState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.RateLimitState.class, letsencrypt.Proto.RateLimitState.Builder.class);
     }
-    /**
-     * <code>optional int32 buffer_period_days = 8;</code>
-     */
-    public int getBufferPeriodDays() {
-      return bufferPeriodDays_;
+
+    public static com.google.protobuf.Parser<RateLimitState> PARSER =
+        new com.google.protobuf.AbstractParser<RateLimitState>() {
+      public RateLimitState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RateLimitState(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RateLimitState> getParserForType() {
+      return PARSER;
     }
 
-    public static final int DOMAIN_FIELD_NUMBER = 9;
-    private java.util.List<letsencrypt.Proto.Domain> domain_;
+    public static final int BUCKET_FIELD_NUMBER = 1;
+    private java.util.List<letsencrypt.Proto.TokenBucketState> bucket_;
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public java.util.List<letsencrypt.Proto.Domain> getDomainList() {
-      return domain_;
+    public java.util.List<letsencrypt.Proto.TokenBucketState> getBucketList() {
+      return bucket_;
     }
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public java.util.List<? extends letsencrypt.Proto.DomainOrBuilder> 
-        getDomainOrBuilderList() {
-      return domain_;
+    public java.util.List<? extends letsencrypt.Proto.TokenBucketStateOrBuilder> 
+        getBucketOrBuilderList() {
+      return bucket_;
     }
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public int getDomainCount() {
-      return domain_.size();
+    public int getBucketCount() {
+      return bucket_.size();
     }
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public letsencrypt.Proto.Domain getDomain(int index) {
-      return domain_.get(index);
+    public letsencrypt.Proto.TokenBucketState getBucket(int index) {
+      return bucket_.get(index);
     }
     /**
-     * <code>repeated .letsencrypt.Domain domain = 9;</code>
+     * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
      */
-    public letsencrypt.Proto.DomainOrBuilder getDomainOrBuilder(
+    public letsencrypt.Proto.TokenBucketStateOrBuilder getBucketOrBuilder(
         int index) {
-      return domain_.get(index);
+      return bucket_.get(index);
     }
 
     private void initFields() {
-      accountUrl_ = "";
-      accountEmail_ = "";
-      keyDirectory_ = "";
-      accountPrivateKeyFilename_ = "account_private_key.pem";
-      accountPublicKeyFilename_ = "account_public_key.pem";
-      certificateSigningRequestFilenameSpec_ = "%s_csr.pem";
-      certificateFilenameSpec_ = "%s_signed.pem";
-      bufferPeriodDays_ = 0;
-      domain_ = java.util.Collections.emptyList();
+      bucket_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1889,32 +12581,8 @@ public final class Proto {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getAccountUrlBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getAccountEmailBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, getKeyDirectoryBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(4, getAccountPrivateKeyFilenameBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeBytes(5, getAccountPublicKeyFilenameBytes());
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeBytes(6, getCertificateSigningRequestFilenameSpecBytes());
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeBytes(7, getCertificateFilenameSpecBytes());
-      }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
-        output.writeInt32(8, bufferPeriodDays_);
-      }
-      for (int i = 0; i < domain_.size(); i++) {
-        output.writeMessage(9, domain_.get(i));
+      for (int i = 0; i < bucket_.size(); i++) {
+        output.writeMessage(1, bucket_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -1925,41 +12593,9 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getAccountUrlBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getAccountEmailBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getKeyDirectoryBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getAccountPrivateKeyFilenameBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(5, getAccountPublicKeyFilenameBytes());
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(6, getCertificateSigningRequestFilenameSpecBytes());
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(7, getCertificateFilenameSpecBytes());
-      }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(8, bufferPeriodDays_);
-      }
-      for (int i = 0; i < domain_.size(); i++) {
+      for (int i = 0; i < bucket_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(9, domain_.get(i));
+          .computeMessageSize(1, bucket_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -1973,53 +12609,53 @@ public final class Proto {
       return super.writeReplace();
     }
 
-    public static letsencrypt.Proto.AccountConfig parseFrom(
+    public static letsencrypt.Proto.RateLimitState parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static letsencrypt.Proto.AccountConfig parseFrom(
+    public static letsencrypt.Proto.RateLimitState parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static letsencrypt.Proto.AccountConfig parseFrom(byte[] data)
+    public static letsencrypt.Proto.RateLimitState parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static letsencrypt.Proto.AccountConfig parseFrom(
+    public static letsencrypt.Proto.RateLimitState parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static letsencrypt.Proto.AccountConfig parseFrom(java.io.InputStream input)
+    public static letsencrypt.Proto.RateLimitState parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static letsencrypt.Proto.AccountConfig parseFrom(
+    public static letsencrypt.Proto.RateLimitState parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static letsencrypt.Proto.AccountConfig parseDelimitedFrom(java.io.InputStream input)
+    public static letsencrypt.Proto.RateLimitState parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static letsencrypt.Proto.AccountConfig parseDelimitedFrom(
+    public static letsencrypt.Proto.RateLimitState parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static letsencrypt.Proto.AccountConfig parseFrom(
+    public static letsencrypt.Proto.RateLimitState parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static letsencrypt.Proto.AccountConfig parseFrom(
+    public static letsencrypt.Proto.RateLimitState parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2028,7 +12664,7 @@ public final class Proto {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(letsencrypt.Proto.AccountConfig prototype) {
+    public static Builder newBuilder(letsencrypt.Proto.RateLimitState prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -2040,25 +12676,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code letsencrypt.AccountConfig}
+     * Protobuf type {@code letsencrypt.RateLimitState}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:letsencrypt.AccountConfig)
-        letsencrypt.Proto.AccountConfigOrBuilder {
+        // @@protoc_insertion_point(builder_implements:letsencrypt.RateLimitState)
+        letsencrypt.Proto.RateLimitStateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_descriptor;
+        return letsencrypt.Proto.internal_static_letsencrypt_RateLimitState_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_fieldAccessorTable
+        return letsencrypt.Proto.internal_static_letsencrypt_RateLimitState_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                letsencrypt.Proto.AccountConfig.class, letsencrypt.Proto.AccountConfig.Builder.class);
+                letsencrypt.Proto.RateLimitState.class, letsencrypt.Proto.RateLimitState.Builder.class);
       }
 
-      // Construct using letsencrypt.Proto.AccountConfig.newBuilder()
+      // Construct using letsencrypt.Proto.RateLimitState.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2070,183 +12706,95 @@ public final class Proto {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getDomainFieldBuilder();
-        }
-      }
-      private static Builder create() {
-        return new Builder();
-      }
-
-      public Builder clear() {
-        super.clear();
-        accountUrl_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        accountEmail_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        keyDirectory_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
-        accountPrivateKeyFilename_ = "account_private_key.pem";
-        bitField0_ = (bitField0_ & ~0x00000008);
-        accountPublicKeyFilename_ = "account_public_key.pem";
-        bitField0_ = (bitField0_ & ~0x00000010);
-        certificateSigningRequestFilenameSpec_ = "%s_csr.pem";
-        bitField0_ = (bitField0_ & ~0x00000020);
-        certificateFilenameSpec_ = "%s_signed.pem";
-        bitField0_ = (bitField0_ & ~0x00000040);
-        bufferPeriodDays_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000080);
-        if (domainBuilder_ == null) {
-          domain_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000100);
-        } else {
-          domainBuilder_.clear();
-        }
-        return this;
-      }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return letsencrypt.Proto.internal_static_letsencrypt_AccountConfig_descriptor;
-      }
-
-      public letsencrypt.Proto.AccountConfig getDefaultInstanceForType() {
-        return letsencrypt.Proto.AccountConfig.getDefaultInstance();
-      }
-
-      public letsencrypt.Proto.AccountConfig build() {
-        letsencrypt.Proto.AccountConfig result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+          getBucketFieldBuilder();
         }
-        return result;
       }
-
-      public letsencrypt.Proto.AccountConfig buildPartial() {
-        letsencrypt.Proto.AccountConfig result = new letsencrypt.Proto.AccountConfig(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.accountUrl_ = accountUrl_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.accountEmail_ = accountEmail_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.keyDirectory_ = keyDirectory_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.accountPrivateKeyFilename_ = accountPrivateKeyFilename_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        result.accountPublicKeyFilename_ = accountPublicKeyFilename_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
-        }
-        result.certificateSigningRequestFilenameSpec_ = certificateSigningRequestFilenameSpec_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (bucketBuilder_ == null) {
+          bucket_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          bucketBuilder_.clear();
         }
-        result.certificateFilenameSpec_ = certificateFilenameSpec_;
-        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
-          to_bitField0_ |= 0x00000080;
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_RateLimitState_descriptor;
+      }
+
+      public letsencrypt.Proto.RateLimitState getDefaultInstanceForType() {
+        return letsencrypt.Proto.RateLimitState.getDefaultInstance();
+      }
+
+      public letsencrypt.Proto.RateLimitState build() {
+        letsencrypt.Proto.RateLimitState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        result.bufferPeriodDays_ = bufferPeriodDays_;
-        if (domainBuilder_ == null) {
-          if (((bitField0_ & 0x00000100) == 0x00000100)) {
-            domain_ = java.util.Collections.unmodifiableList(domain_);
-            bitField0_ = (bitField0_ & ~0x00000100);
+        return result;
+      }
+
+      public letsencrypt.Proto.RateLimitState buildPartial() {
+        letsencrypt.Proto.RateLimitState result = new letsencrypt.Proto.RateLimitState(this);
+        int from_bitField0_ = bitField0_;
+        if (bucketBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            bucket_ = java.util.Collections.unmodifiableList(bucket_);
+            bitField0_ = (bitField0_ & ~0x00000001);
           }
-          result.domain_ = domain_;
+          result.bucket_ = bucket_;
         } else {
-          result.domain_ = domainBuilder_.build();
+          result.bucket_ = bucketBuilder_.build();
         }
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof letsencrypt.Proto.AccountConfig) {
-          return mergeFrom((letsencrypt.Proto.AccountConfig)other);
+        if (other instanceof letsencrypt.Proto.RateLimitState) {
+          return mergeFrom((letsencrypt.Proto.RateLimitState)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(letsencrypt.Proto.AccountConfig other) {
-        if (other == letsencrypt.Proto.AccountConfig.getDefaultInstance()) return this;
-        if (other.hasAccountUrl()) {
-          bitField0_ |= 0x00000001;
-          accountUrl_ = other.accountUrl_;
-          onChanged();
-        }
-        if (other.hasAccountEmail()) {
-          bitField0_ |= 0x00000002;
-          accountEmail_ = other.accountEmail_;
-          onChanged();
-        }
-        if (other.hasKeyDirectory()) {
-          bitField0_ |= 0x00000004;
-          keyDirectory_ = other.keyDirectory_;
-          onChanged();
-        }
-        if (other.hasAccountPrivateKeyFilename()) {
-          bitField0_ |= 0x00000008;
-          accountPrivateKeyFilename_ = other.accountPrivateKeyFilename_;
-          onChanged();
-        }
-        if (other.hasAccountPublicKeyFilename()) {
-          bitField0_ |= 0x00000010;
-          accountPublicKeyFilename_ = other.accountPublicKeyFilename_;
-          onChanged();
-        }
-        if (other.hasCertificateSigningRequestFilenameSpec()) {
-          bitField0_ |= 0x00000020;
-          certificateSigningRequestFilenameSpec_ = other.certificateSigningRequestFilenameSpec_;
-          onChanged();
-        }
-        if (other.hasCertificateFilenameSpec()) {
-          bitField0_ |= 0x00000040;
-          certificateFilenameSpec_ = other.certificateFilenameSpec_;
-          onChanged();
-        }
-        if (other.hasBufferPeriodDays()) {
-          setBufferPeriodDays(other.getBufferPeriodDays());
-        }
-        if (domainBuilder_ == null) {
-          if (!other.domain_.isEmpty()) {
-            if (domain_.isEmpty()) {
-              domain_ = other.domain_;
-              bitField0_ = (bitField0_ & ~0x00000100);
+      public Builder mergeFrom(letsencrypt.Proto.RateLimitState other) {
+        if (other == letsencrypt.Proto.RateLimitState.getDefaultInstance()) return this;
+        if (bucketBuilder_ == null) {
+          if (!other.bucket_.isEmpty()) {
+            if (bucket_.isEmpty()) {
+              bucket_ = other.bucket_;
+              bitField0_ = (bitField0_ & ~0x00000001);
             } else {
-              ensureDomainIsMutable();
-              domain_.addAll(other.domain_);
+              ensureBucketIsMutable();
+              bucket_.addAll(other.bucket_);
             }
             onChanged();
           }
         } else {
-          if (!other.domain_.isEmpty()) {
-            if (domainBuilder_.isEmpty()) {
-              domainBuilder_.dispose();
-              domainBuilder_ = null;
-              domain_ = other.domain_;
-              bitField0_ = (bitField0_ & ~0x00000100);
-              domainBuilder_ = 
+          if (!other.bucket_.isEmpty()) {
+            if (bucketBuilder_.isEmpty()) {
+              bucketBuilder_.dispose();
+              bucketBuilder_ = null;
+              bucket_ = other.bucket_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              bucketBuilder_ = 
                 com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getDomainFieldBuilder() : null;
+                   getBucketFieldBuilder() : null;
             } else {
-              domainBuilder_.addAllMessages(other.domain_);
+              bucketBuilder_.addAllMessages(other.bucket_);
             }
           }
         }
@@ -2262,11 +12810,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        letsencrypt.Proto.AccountConfig parsedMessage = null;
+        letsencrypt.Proto.RateLimitState parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (letsencrypt.Proto.AccountConfig) e.getUnfinishedMessage();
+          parsedMessage = (letsencrypt.Proto.RateLimitState) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -2277,878 +12825,1026 @@ public final class Proto {
       }
       private int bitField0_;
 
-      private java.lang.Object accountUrl_ = "";
-      /**
-       * <code>optional string account_url = 1;</code>
-       */
-      public boolean hasAccountUrl() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      private java.util.List<letsencrypt.Proto.TokenBucketState> bucket_ =
+        java.util.Collections.emptyList();
+      private void ensureBucketIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          bucket_ = new java.util.ArrayList<letsencrypt.Proto.TokenBucketState>(bucket_);
+          bitField0_ |= 0x00000001;
+         }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          letsencrypt.Proto.TokenBucketState, letsencrypt.Proto.TokenBucketState.Builder, letsencrypt.Proto.TokenBucketStateOrBuilder> bucketBuilder_;
+
       /**
-       * <code>optional string account_url = 1;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public java.lang.String getAccountUrl() {
-        java.lang.Object ref = accountUrl_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            accountUrl_ = s;
-          }
-          return s;
+      public java.util.List<letsencrypt.Proto.TokenBucketState> getBucketList() {
+        if (bucketBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(bucket_);
         } else {
-          return (java.lang.String) ref;
+          return bucketBuilder_.getMessageList();
         }
       }
       /**
-       * <code>optional string account_url = 1;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getAccountUrlBytes() {
-        java.lang.Object ref = accountUrl_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          accountUrl_ = b;
-          return b;
+      public int getBucketCount() {
+        if (bucketBuilder_ == null) {
+          return bucket_.size();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return bucketBuilder_.getCount();
         }
       }
       /**
-       * <code>optional string account_url = 1;</code>
-       */
-      public Builder setAccountUrl(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        accountUrl_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string account_url = 1;</code>
-       */
-      public Builder clearAccountUrl() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        accountUrl_ = getDefaultInstance().getAccountUrl();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string account_url = 1;</code>
-       */
-      public Builder setAccountUrlBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        accountUrl_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object accountEmail_ = "";
-      /**
-       * <code>optional string account_email = 2;</code>
-       */
-      public boolean hasAccountEmail() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional string account_email = 2;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public java.lang.String getAccountEmail() {
-        java.lang.Object ref = accountEmail_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            accountEmail_ = s;
-          }
-          return s;
+      public letsencrypt.Proto.TokenBucketState getBucket(int index) {
+        if (bucketBuilder_ == null) {
+          return bucket_.get(index);
         } else {
-          return (java.lang.String) ref;
+          return bucketBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional string account_email = 2;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getAccountEmailBytes() {
-        java.lang.Object ref = accountEmail_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          accountEmail_ = b;
-          return b;
+      public Builder setBucket(
+          int index, letsencrypt.Proto.TokenBucketState value) {
+        if (bucketBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBucketIsMutable();
+          bucket_.set(index, value);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          bucketBuilder_.setMessage(index, value);
         }
-      }
-      /**
-       * <code>optional string account_email = 2;</code>
-       */
-      public Builder setAccountEmail(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        accountEmail_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string account_email = 2;</code>
-       */
-      public Builder clearAccountEmail() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        accountEmail_ = getDefaultInstance().getAccountEmail();
-        onChanged();
         return this;
       }
       /**
-       * <code>optional string account_email = 2;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public Builder setAccountEmailBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        accountEmail_ = value;
-        onChanged();
+      public Builder setBucket(
+          int index, letsencrypt.Proto.TokenBucketState.Builder builderForValue) {
+        if (bucketBuilder_ == null) {
+          ensureBucketIsMutable();
+          bucket_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          bucketBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
-
-      private java.lang.Object keyDirectory_ = "";
-      /**
-       * <code>optional string key_directory = 3;</code>
-       */
-      public boolean hasKeyDirectory() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
       /**
-       * <code>optional string key_directory = 3;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public java.lang.String getKeyDirectory() {
-        java.lang.Object ref = keyDirectory_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            keyDirectory_ = s;
+      public Builder addBucket(letsencrypt.Proto.TokenBucketState value) {
+        if (bucketBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return s;
+          ensureBucketIsMutable();
+          bucket_.add(value);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          bucketBuilder_.addMessage(value);
         }
+        return this;
       }
       /**
-       * <code>optional string key_directory = 3;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getKeyDirectoryBytes() {
-        java.lang.Object ref = keyDirectory_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          keyDirectory_ = b;
-          return b;
+      public Builder addBucket(
+          int index, letsencrypt.Proto.TokenBucketState value) {
+        if (bucketBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBucketIsMutable();
+          bucket_.add(index, value);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          bucketBuilder_.addMessage(index, value);
         }
+        return this;
       }
       /**
-       * <code>optional string key_directory = 3;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public Builder setKeyDirectory(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        keyDirectory_ = value;
-        onChanged();
+      public Builder addBucket(
+          letsencrypt.Proto.TokenBucketState.Builder builderForValue) {
+        if (bucketBuilder_ == null) {
+          ensureBucketIsMutable();
+          bucket_.add(builderForValue.build());
+          onChanged();
+        } else {
+          bucketBuilder_.addMessage(builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string key_directory = 3;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public Builder clearKeyDirectory() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        keyDirectory_ = getDefaultInstance().getKeyDirectory();
-        onChanged();
+      public Builder addBucket(
+          int index, letsencrypt.Proto.TokenBucketState.Builder builderForValue) {
+        if (bucketBuilder_ == null) {
+          ensureBucketIsMutable();
+          bucket_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          bucketBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string key_directory = 3;</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public Builder setKeyDirectoryBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        keyDirectory_ = value;
-        onChanged();
+      public Builder addAllBucket(
+          java.lang.Iterable<? extends letsencrypt.Proto.TokenBucketState> values) {
+        if (bucketBuilder_ == null) {
+          ensureBucketIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, bucket_);
+          onChanged();
+        } else {
+          bucketBuilder_.addAllMessages(values);
+        }
         return this;
       }
-
-      private java.lang.Object accountPrivateKeyFilename_ = "account_private_key.pem";
       /**
-       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public boolean hasAccountPrivateKeyFilename() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public Builder clearBucket() {
+        if (bucketBuilder_ == null) {
+          bucket_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          bucketBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public java.lang.String getAccountPrivateKeyFilename() {
-        java.lang.Object ref = accountPrivateKeyFilename_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            accountPrivateKeyFilename_ = s;
-          }
-          return s;
+      public Builder removeBucket(int index) {
+        if (bucketBuilder_ == null) {
+          ensureBucketIsMutable();
+          bucket_.remove(index);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          bucketBuilder_.remove(index);
         }
+        return this;
       }
       /**
-       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getAccountPrivateKeyFilenameBytes() {
-        java.lang.Object ref = accountPrivateKeyFilename_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          accountPrivateKeyFilename_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public letsencrypt.Proto.TokenBucketState.Builder getBucketBuilder(
+          int index) {
+        return getBucketFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public Builder setAccountPrivateKeyFilename(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        accountPrivateKeyFilename_ = value;
-        onChanged();
-        return this;
+      public letsencrypt.Proto.TokenBucketStateOrBuilder getBucketOrBuilder(
+          int index) {
+        if (bucketBuilder_ == null) {
+          return bucket_.get(index);  } else {
+          return bucketBuilder_.getMessageOrBuilder(index);
+        }
       }
       /**
-       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public Builder clearAccountPrivateKeyFilename() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        accountPrivateKeyFilename_ = getDefaultInstance().getAccountPrivateKeyFilename();
-        onChanged();
-        return this;
+      public java.util.List<? extends letsencrypt.Proto.TokenBucketStateOrBuilder> 
+           getBucketOrBuilderList() {
+        if (bucketBuilder_ != null) {
+          return bucketBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(bucket_);
+        }
       }
       /**
-       * <code>optional string account_private_key_filename = 4 [default = "account_private_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public Builder setAccountPrivateKeyFilenameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        accountPrivateKeyFilename_ = value;
-        onChanged();
-        return this;
+      public letsencrypt.Proto.TokenBucketState.Builder addBucketBuilder() {
+        return getBucketFieldBuilder().addBuilder(
+            letsencrypt.Proto.TokenBucketState.getDefaultInstance());
       }
-
-      private java.lang.Object accountPublicKeyFilename_ = "account_public_key.pem";
       /**
-       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public boolean hasAccountPublicKeyFilename() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public letsencrypt.Proto.TokenBucketState.Builder addBucketBuilder(
+          int index) {
+        return getBucketFieldBuilder().addBuilder(
+            index, letsencrypt.Proto.TokenBucketState.getDefaultInstance());
       }
       /**
-       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
+       * <code>repeated .letsencrypt.TokenBucketState bucket = 1;</code>
        */
-      public java.lang.String getAccountPublicKeyFilename() {
-        java.lang.Object ref = accountPublicKeyFilename_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            accountPublicKeyFilename_ = s;
+      public java.util.List<letsencrypt.Proto.TokenBucketState.Builder> 
+           getBucketBuilderList() {
+        return getBucketFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          letsencrypt.Proto.TokenBucketState, letsencrypt.Proto.TokenBucketState.Builder, letsencrypt.Proto.TokenBucketStateOrBuilder> 
+          getBucketFieldBuilder() {
+        if (bucketBuilder_ == null) {
+          bucketBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              letsencrypt.Proto.TokenBucketState, letsencrypt.Proto.TokenBucketState.Builder, letsencrypt.Proto.TokenBucketStateOrBuilder>(
+                  bucket_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          bucket_ = null;
+        }
+        return bucketBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:letsencrypt.RateLimitState)
+    }
+
+    static {
+      defaultInstance = new RateLimitState(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:letsencrypt.RateLimitState)
+  }
+
+  public interface TokenBucketStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.TokenBucketState)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    boolean hasKey();
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    java.lang.String getKey();
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>optional double tokens = 2;</code>
+     */
+    boolean hasTokens();
+    /**
+     * <code>optional double tokens = 2;</code>
+     */
+    double getTokens();
+
+    /**
+     * <code>optional int64 updated_millis = 3;</code>
+     */
+    boolean hasUpdatedMillis();
+    /**
+     * <code>optional int64 updated_millis = 3;</code>
+     */
+    long getUpdatedMillis();
+
+    /**
+     * <code>optional int64 blocked_until_millis = 4;</code>
+     */
+    boolean hasBlockedUntilMillis();
+    /**
+     * <code>optional int64 blocked_until_millis = 4;</code>
+     */
+    long getBlockedUntilMillis();
+  }
+  /**
+   * Protobuf type {@code letsencrypt.TokenBucketState}
+   */
+  public static final class TokenBucketState extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:letsencrypt.TokenBucketState)
+      TokenBucketStateOrBuilder {
+    // Use TokenBucketState.newBuilder() to construct.
+    private TokenBucketState(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TokenBucketState(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TokenBucketState defaultInstance;
+    public static TokenBucketState getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TokenBucketState getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TokenBucketState(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              key_ = bs;
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              tokens_ = input.readDouble();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              updatedMillis_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              blockedUntilMillis_ = input.readInt64();
+              break;
+            }
           }
-          return s;
-        } else {
-          return (java.lang.String) ref;
         }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return letsencrypt.Proto.internal_static_letsencrypt_TokenBucketState_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return letsencrypt.Proto.internal_static_letsencrypt_TokenBucketState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              letsencrypt.Proto.TokenBucketState.class, letsencrypt.Proto.TokenBucketState.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TokenBucketState> PARSER =
+        new com.google.protobuf.AbstractParser<TokenBucketState>() {
+      public TokenBucketState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TokenBucketState(input, extensionRegistry);
       }
-      /**
-       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
-       */
-      public com.google.protobuf.ByteString
-          getAccountPublicKeyFilenameBytes() {
-        java.lang.Object ref = accountPublicKeyFilename_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          accountPublicKeyFilename_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TokenBucketState> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private java.lang.Object key_;
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          key_ = s;
         }
+        return s;
       }
-      /**
-       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
-       */
-      public Builder setAccountPublicKeyFilename(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        accountPublicKeyFilename_ = value;
-        onChanged();
-        return this;
+    }
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      /**
-       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
-       */
-      public Builder clearAccountPublicKeyFilename() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        accountPublicKeyFilename_ = getDefaultInstance().getAccountPublicKeyFilename();
-        onChanged();
-        return this;
+    }
+
+    public static final int TOKENS_FIELD_NUMBER = 2;
+    private double tokens_;
+    /**
+     * <code>optional double tokens = 2;</code>
+     */
+    public boolean hasTokens() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional double tokens = 2;</code>
+     */
+    public double getTokens() {
+      return tokens_;
+    }
+
+    public static final int UPDATED_MILLIS_FIELD_NUMBER = 3;
+    private long updatedMillis_;
+    /**
+     * <code>optional int64 updated_millis = 3;</code>
+     */
+    public boolean hasUpdatedMillis() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 updated_millis = 3;</code>
+     */
+    public long getUpdatedMillis() {
+      return updatedMillis_;
+    }
+
+    public static final int BLOCKED_UNTIL_MILLIS_FIELD_NUMBER = 4;
+    private long blockedUntilMillis_;
+    /**
+     * <code>optional int64 blocked_until_millis = 4;</code>
+     */
+    public boolean hasBlockedUntilMillis() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 blocked_until_millis = 4;</code>
+     */
+    public long getBlockedUntilMillis() {
+      return blockedUntilMillis_;
+    }
+
+    private void initFields() {
+      key_ = "";
+      tokens_ = 0D;
+      updatedMillis_ = 0L;
+      blockedUntilMillis_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getKeyBytes());
       }
-      /**
-       * <code>optional string account_public_key_filename = 5 [default = "account_public_key.pem"];</code>
-       */
-      public Builder setAccountPublicKeyFilenameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        accountPublicKeyFilename_ = value;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeDouble(2, tokens_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, updatedMillis_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, blockedUntilMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-      private java.lang.Object certificateSigningRequestFilenameSpec_ = "%s_csr.pem";
-      /**
-       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-       */
-      public boolean hasCertificateSigningRequestFilenameSpec() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getKeyBytes());
       }
-      /**
-       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-       */
-      public java.lang.String getCertificateSigningRequestFilenameSpec() {
-        java.lang.Object ref = certificateSigningRequestFilenameSpec_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            certificateSigningRequestFilenameSpec_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, tokens_);
       }
-      /**
-       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-       */
-      public com.google.protobuf.ByteString
-          getCertificateSigningRequestFilenameSpecBytes() {
-        java.lang.Object ref = certificateSigningRequestFilenameSpec_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          certificateSigningRequestFilenameSpec_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, updatedMillis_);
       }
-      /**
-       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-       */
-      public Builder setCertificateSigningRequestFilenameSpec(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
-        certificateSigningRequestFilenameSpec_ = value;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, blockedUntilMillis_);
       }
-      /**
-       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-       */
-      public Builder clearCertificateSigningRequestFilenameSpec() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        certificateSigningRequestFilenameSpec_ = getDefaultInstance().getCertificateSigningRequestFilenameSpec();
-        onChanged();
-        return this;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static letsencrypt.Proto.TokenBucketState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static letsencrypt.Proto.TokenBucketState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(letsencrypt.Proto.TokenBucketState prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code letsencrypt.TokenBucketState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:letsencrypt.TokenBucketState)
+        letsencrypt.Proto.TokenBucketStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return letsencrypt.Proto.internal_static_letsencrypt_TokenBucketState_descriptor;
       }
-      /**
-       * <code>optional string certificate_signing_request_filename_spec = 6 [default = "%s_csr.pem"];</code>
-       */
-      public Builder setCertificateSigningRequestFilenameSpecBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
-        certificateSigningRequestFilenameSpec_ = value;
-        onChanged();
-        return this;
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return letsencrypt.Proto.internal_static_letsencrypt_TokenBucketState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                letsencrypt.Proto.TokenBucketState.class, letsencrypt.Proto.TokenBucketState.Builder.class);
       }
 
-      private java.lang.Object certificateFilenameSpec_ = "%s_signed.pem";
-      /**
-       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-       */
-      public boolean hasCertificateFilenameSpec() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+      // Construct using letsencrypt.Proto.TokenBucketState.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-       */
-      public java.lang.String getCertificateFilenameSpec() {
-        java.lang.Object ref = certificateFilenameSpec_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            certificateFilenameSpec_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-       */
-      public com.google.protobuf.ByteString
-          getCertificateFilenameSpecBytes() {
-        java.lang.Object ref = certificateFilenameSpec_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          certificateFilenameSpec_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
       }
-      /**
-       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-       */
-      public Builder setCertificateFilenameSpec(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000040;
-        certificateFilenameSpec_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-       */
-      public Builder clearCertificateFilenameSpec() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        certificateFilenameSpec_ = getDefaultInstance().getCertificateFilenameSpec();
-        onChanged();
-        return this;
+      private static Builder create() {
+        return new Builder();
       }
-      /**
-       * <code>optional string certificate_filename_spec = 7 [default = "%s_signed.pem"];</code>
-       */
-      public Builder setCertificateFilenameSpecBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000040;
-        certificateFilenameSpec_ = value;
-        onChanged();
+
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        tokens_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        updatedMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        blockedUntilMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
-      private int bufferPeriodDays_ ;
-      /**
-       * <code>optional int32 buffer_period_days = 8;</code>
-       */
-      public boolean hasBufferPeriodDays() {
-        return ((bitField0_ & 0x00000080) == 0x00000080);
-      }
-      /**
-       * <code>optional int32 buffer_period_days = 8;</code>
-       */
-      public int getBufferPeriodDays() {
-        return bufferPeriodDays_;
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
-      /**
-       * <code>optional int32 buffer_period_days = 8;</code>
-       */
-      public Builder setBufferPeriodDays(int value) {
-        bitField0_ |= 0x00000080;
-        bufferPeriodDays_ = value;
-        onChanged();
-        return this;
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return letsencrypt.Proto.internal_static_letsencrypt_TokenBucketState_descriptor;
       }
-      /**
-       * <code>optional int32 buffer_period_days = 8;</code>
-       */
-      public Builder clearBufferPeriodDays() {
-        bitField0_ = (bitField0_ & ~0x00000080);
-        bufferPeriodDays_ = 0;
-        onChanged();
-        return this;
+
+      public letsencrypt.Proto.TokenBucketState getDefaultInstanceForType() {
+        return letsencrypt.Proto.TokenBucketState.getDefaultInstance();
       }
 
-      private java.util.List<letsencrypt.Proto.Domain> domain_ =
-        java.util.Collections.emptyList();
-      private void ensureDomainIsMutable() {
-        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
-          domain_ = new java.util.ArrayList<letsencrypt.Proto.Domain>(domain_);
-          bitField0_ |= 0x00000100;
-         }
+      public letsencrypt.Proto.TokenBucketState build() {
+        letsencrypt.Proto.TokenBucketState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
 
-      private com.google.protobuf.RepeatedFieldBuilder<
-          letsencrypt.Proto.Domain, letsencrypt.Proto.Domain.Builder, letsencrypt.Proto.DomainOrBuilder> domainBuilder_;
+      public letsencrypt.Proto.TokenBucketState buildPartial() {
+        letsencrypt.Proto.TokenBucketState result = new letsencrypt.Proto.TokenBucketState(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.tokens_ = tokens_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.updatedMillis_ = updatedMillis_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.blockedUntilMillis_ = blockedUntilMillis_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
 
-      /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
-       */
-      public java.util.List<letsencrypt.Proto.Domain> getDomainList() {
-        if (domainBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(domain_);
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof letsencrypt.Proto.TokenBucketState) {
+          return mergeFrom((letsencrypt.Proto.TokenBucketState)other);
         } else {
-          return domainBuilder_.getMessageList();
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
-       */
-      public int getDomainCount() {
-        if (domainBuilder_ == null) {
-          return domain_.size();
-        } else {
-          return domainBuilder_.getCount();
+
+      public Builder mergeFrom(letsencrypt.Proto.TokenBucketState other) {
+        if (other == letsencrypt.Proto.TokenBucketState.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.hasTokens()) {
+          setTokens(other.getTokens());
+        }
+        if (other.hasUpdatedMillis()) {
+          setUpdatedMillis(other.getUpdatedMillis());
+        }
+        if (other.hasBlockedUntilMillis()) {
+          setBlockedUntilMillis(other.getBlockedUntilMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        letsencrypt.Proto.TokenBucketState parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (letsencrypt.Proto.TokenBucketState) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
+        return this;
       }
+      private int bitField0_;
+
+      private java.lang.Object key_ = "";
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional string key = 1;</code>
        */
-      public letsencrypt.Proto.Domain getDomain(int index) {
-        if (domainBuilder_ == null) {
-          return domain_.get(index);
-        } else {
-          return domainBuilder_.getMessage(index);
-        }
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder setDomain(
-          int index, letsencrypt.Proto.Domain value) {
-        if (domainBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            key_ = s;
           }
-          ensureDomainIsMutable();
-          domain_.set(index, value);
-          onChanged();
+          return s;
         } else {
-          domainBuilder_.setMessage(index, value);
+          return (java.lang.String) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder setDomain(
-          int index, letsencrypt.Proto.Domain.Builder builderForValue) {
-        if (domainBuilder_ == null) {
-          ensureDomainIsMutable();
-          domain_.set(index, builderForValue.build());
-          onChanged();
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
         } else {
-          domainBuilder_.setMessage(index, builderForValue.build());
+          return (com.google.protobuf.ByteString) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder addDomain(letsencrypt.Proto.Domain value) {
-        if (domainBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDomainIsMutable();
-          domain_.add(value);
-          onChanged();
-        } else {
-          domainBuilder_.addMessage(value);
-        }
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder addDomain(
-          int index, letsencrypt.Proto.Domain value) {
-        if (domainBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDomainIsMutable();
-          domain_.add(index, value);
-          onChanged();
-        } else {
-          domainBuilder_.addMessage(index, value);
-        }
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder addDomain(
-          letsencrypt.Proto.Domain.Builder builderForValue) {
-        if (domainBuilder_ == null) {
-          ensureDomainIsMutable();
-          domain_.add(builderForValue.build());
-          onChanged();
-        } else {
-          domainBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
         return this;
       }
+
+      private double tokens_ ;
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional double tokens = 2;</code>
        */
-      public Builder addDomain(
-          int index, letsencrypt.Proto.Domain.Builder builderForValue) {
-        if (domainBuilder_ == null) {
-          ensureDomainIsMutable();
-          domain_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          domainBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
+      public boolean hasTokens() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional double tokens = 2;</code>
        */
-      public Builder addAllDomain(
-          java.lang.Iterable<? extends letsencrypt.Proto.Domain> values) {
-        if (domainBuilder_ == null) {
-          ensureDomainIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, domain_);
-          onChanged();
-        } else {
-          domainBuilder_.addAllMessages(values);
-        }
-        return this;
+      public double getTokens() {
+        return tokens_;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional double tokens = 2;</code>
        */
-      public Builder clearDomain() {
-        if (domainBuilder_ == null) {
-          domain_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000100);
-          onChanged();
-        } else {
-          domainBuilder_.clear();
-        }
+      public Builder setTokens(double value) {
+        bitField0_ |= 0x00000002;
+        tokens_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional double tokens = 2;</code>
        */
-      public Builder removeDomain(int index) {
-        if (domainBuilder_ == null) {
-          ensureDomainIsMutable();
-          domain_.remove(index);
-          onChanged();
-        } else {
-          domainBuilder_.remove(index);
-        }
+      public Builder clearTokens() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        tokens_ = 0D;
+        onChanged();
         return this;
       }
+
+      private long updatedMillis_ ;
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional int64 updated_millis = 3;</code>
        */
-      public letsencrypt.Proto.Domain.Builder getDomainBuilder(
-          int index) {
-        return getDomainFieldBuilder().getBuilder(index);
+      public boolean hasUpdatedMillis() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional int64 updated_millis = 3;</code>
        */
-      public letsencrypt.Proto.DomainOrBuilder getDomainOrBuilder(
-          int index) {
-        if (domainBuilder_ == null) {
-          return domain_.get(index);  } else {
-          return domainBuilder_.getMessageOrBuilder(index);
-        }
+      public long getUpdatedMillis() {
+        return updatedMillis_;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional int64 updated_millis = 3;</code>
        */
-      public java.util.List<? extends letsencrypt.Proto.DomainOrBuilder> 
-           getDomainOrBuilderList() {
-        if (domainBuilder_ != null) {
-          return domainBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(domain_);
-        }
+      public Builder setUpdatedMillis(long value) {
+        bitField0_ |= 0x00000004;
+        updatedMillis_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional int64 updated_millis = 3;</code>
        */
-      public letsencrypt.Proto.Domain.Builder addDomainBuilder() {
-        return getDomainFieldBuilder().addBuilder(
-            letsencrypt.Proto.Domain.getDefaultInstance());
+      public Builder clearUpdatedMillis() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        updatedMillis_ = 0L;
+        onChanged();
+        return this;
       }
+
+      private long blockedUntilMillis_ ;
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional int64 blocked_until_millis = 4;</code>
        */
-      public letsencrypt.Proto.Domain.Builder addDomainBuilder(
-          int index) {
-        return getDomainFieldBuilder().addBuilder(
-            index, letsencrypt.Proto.Domain.getDefaultInstance());
+      public boolean hasBlockedUntilMillis() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>repeated .letsencrypt.Domain domain = 9;</code>
+       * <code>optional int64 blocked_until_millis = 4;</code>
        */
-      public java.util.List<letsencrypt.Proto.Domain.Builder> 
-           getDomainBuilderList() {
-        return getDomainFieldBuilder().getBuilderList();
+      public long getBlockedUntilMillis() {
+        return blockedUntilMillis_;
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          letsencrypt.Proto.Domain, letsencrypt.Proto.Domain.Builder, letsencrypt.Proto.DomainOrBuilder> 
-          getDomainFieldBuilder() {
-        if (domainBuilder_ == null) {
-          domainBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              letsencrypt.Proto.Domain, letsencrypt.Proto.Domain.Builder, letsencrypt.Proto.DomainOrBuilder>(
-                  domain_,
-                  ((bitField0_ & 0x00000100) == 0x00000100),
-                  getParentForChildren(),
-                  isClean());
-          domain_ = null;
-        }
-        return domainBuilder_;
+      /**
+       * <code>optional int64 blocked_until_millis = 4;</code>
+       */
+      public Builder setBlockedUntilMillis(long value) {
+        bitField0_ |= 0x00000008;
+        blockedUntilMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 blocked_until_millis = 4;</code>
+       */
+      public Builder clearBlockedUntilMillis() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        blockedUntilMillis_ = 0L;
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:letsencrypt.AccountConfig)
+      // @@protoc_insertion_point(builder_scope:letsencrypt.TokenBucketState)
     }
 
     static {
-      defaultInstance = new AccountConfig(true);
+      defaultInstance = new TokenBucketState(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:letsencrypt.AccountConfig)
+    // @@protoc_insertion_point(class_scope:letsencrypt.TokenBucketState)
   }
 
-  public interface DomainOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:letsencrypt.Domain)
+  public interface ConfigSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:letsencrypt.ConfigSnapshot)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated string server_name = 1;</code>
+     * <code>optional bytes text_sha256 = 1;</code>
      */
-    com.google.protobuf.ProtocolStringList
-        getServerNameList();
+    boolean hasTextSha256();
     /**
-     * <code>repeated string server_name = 1;</code>
+     * <code>optional bytes text_sha256 = 1;</code>
      */
-    int getServerNameCount();
+    com.google.protobuf.ByteString getTextSha256();
+
     /**
-     * <code>repeated string server_name = 1;</code>
+     * <code>optional int64 text_modified_millis = 2;</code>
      */
-    java.lang.String getServerName(int index);
+    boolean hasTextModifiedMillis();
     /**
-     * <code>repeated string server_name = 1;</code>
+     * <code>optional int64 text_modified_millis = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getServerNameBytes(int index);
+    long getTextModifiedMillis();
 
     /**
-     * <code>optional string web_root_directory = 2;</code>
-     */
-    boolean hasWebRootDirectory();
-    /**
-     * <code>optional string web_root_directory = 2;</code>
+     * <code>optional bytes message = 3;</code>
+     *
+     * <pre>
+     * The parsed Config or AccountConfig fragment.
+     * </pre>
      */
-    java.lang.String getWebRootDirectory();
+    boolean hasMessage();
     /**
-     * <code>optional string web_root_directory = 2;</code>
+     * <code>optional bytes message = 3;</code>
+     *
+     * <pre>
+     * The parsed Config or AccountConfig fragment.
+     * </pre>
      */
-    com.google.protobuf.ByteString
-        getWebRootDirectoryBytes();
+    com.google.protobuf.ByteString getMessage();
   }
   /**
-   * Protobuf type {@code letsencrypt.Domain}
+   * Protobuf type {@code letsencrypt.ConfigSnapshot}
    */
-  public static final class Domain extends
+  public static final class ConfigSnapshot extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:letsencrypt.Domain)
-      DomainOrBuilder {
-    // Use Domain.newBuilder() to construct.
-    private Domain(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:letsencrypt.ConfigSnapshot)
+      ConfigSnapshotOrBuilder {
+    // Use ConfigSnapshot.newBuilder() to construct.
+    private ConfigSnapshot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Domain(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ConfigSnapshot(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Domain defaultInstance;
-    public static Domain getDefaultInstance() {
+    private static final ConfigSnapshot defaultInstance;
+    public static ConfigSnapshot getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Domain getDefaultInstanceForType() {
+    public ConfigSnapshot getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -3158,7 +13854,7 @@ public final class Proto {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Domain(
+    private ConfigSnapshot(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3182,18 +13878,18 @@ public final class Proto {
               break;
             }
             case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                serverName_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              serverName_.add(bs);
+              bitField0_ |= 0x00000001;
+              textSha256_ = input.readBytes();
               break;
             }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              webRootDirectory_ = bs;
+            case 16: {
+              bitField0_ |= 0x00000002;
+              textModifiedMillis_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              message_ = input.readBytes();
               break;
             }
           }
@@ -3204,115 +13900,95 @@ public final class Proto {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          serverName_ = serverName_.getUnmodifiableView();
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return letsencrypt.Proto.internal_static_letsencrypt_Domain_descriptor;
+      return letsencrypt.Proto.internal_static_letsencrypt_ConfigSnapshot_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return letsencrypt.Proto.internal_static_letsencrypt_Domain_fieldAccessorTable
+      return letsencrypt.Proto.internal_static_letsencrypt_ConfigSnapshot_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              letsencrypt.Proto.Domain.class, letsencrypt.Proto.Domain.Builder.class);
+              letsencrypt.Proto.ConfigSnapshot.class, letsencrypt.Proto.ConfigSnapshot.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Domain> PARSER =
-        new com.google.protobuf.AbstractParser<Domain>() {
-      public Domain parsePartialFrom(
+    public static com.google.protobuf.Parser<ConfigSnapshot> PARSER =
+        new com.google.protobuf.AbstractParser<ConfigSnapshot>() {
+      public ConfigSnapshot parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Domain(input, extensionRegistry);
+        return new ConfigSnapshot(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Domain> getParserForType() {
+    public com.google.protobuf.Parser<ConfigSnapshot> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int SERVER_NAME_FIELD_NUMBER = 1;
-    private com.google.protobuf.LazyStringList serverName_;
-    /**
-     * <code>repeated string server_name = 1;</code>
-     */
-    public com.google.protobuf.ProtocolStringList
-        getServerNameList() {
-      return serverName_;
-    }
+    public static final int TEXT_SHA256_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString textSha256_;
     /**
-     * <code>repeated string server_name = 1;</code>
+     * <code>optional bytes text_sha256 = 1;</code>
      */
-    public int getServerNameCount() {
-      return serverName_.size();
+    public boolean hasTextSha256() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated string server_name = 1;</code>
+     * <code>optional bytes text_sha256 = 1;</code>
      */
-    public java.lang.String getServerName(int index) {
-      return serverName_.get(index);
+    public com.google.protobuf.ByteString getTextSha256() {
+      return textSha256_;
     }
+
+    public static final int TEXT_MODIFIED_MILLIS_FIELD_NUMBER = 2;
+    private long textModifiedMillis_;
     /**
-     * <code>repeated string server_name = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getServerNameBytes(int index) {
-      return serverName_.getByteString(index);
+     * <code>optional int64 text_modified_millis = 2;</code>
+     */
+    public boolean hasTextModifiedMillis() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
-    public static final int WEB_ROOT_DIRECTORY_FIELD_NUMBER = 2;
-    private java.lang.Object webRootDirectory_;
     /**
-     * <code>optional string web_root_directory = 2;</code>
+     * <code>optional int64 text_modified_millis = 2;</code>
      */
-    public boolean hasWebRootDirectory() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public long getTextModifiedMillis() {
+      return textModifiedMillis_;
     }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString message_;
     /**
-     * <code>optional string web_root_directory = 2;</code>
+     * <code>optional bytes message = 3;</code>
+     *
+     * <pre>
+     * The parsed Config or AccountConfig fragment.
+     * </pre>
      */
-    public java.lang.String getWebRootDirectory() {
-      java.lang.Object ref = webRootDirectory_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          webRootDirectory_ = s;
-        }
-        return s;
-      }
+    public boolean hasMessage() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>optional string web_root_directory = 2;</code>
+     * <code>optional bytes message = 3;</code>
+     *
+     * <pre>
+     * The parsed Config or AccountConfig fragment.
+     * </pre>
      */
-    public com.google.protobuf.ByteString
-        getWebRootDirectoryBytes() {
-      java.lang.Object ref = webRootDirectory_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        webRootDirectory_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getMessage() {
+      return message_;
     }
 
     private void initFields() {
-      serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      webRootDirectory_ = "";
+      textSha256_ = com.google.protobuf.ByteString.EMPTY;
+      textModifiedMillis_ = 0L;
+      message_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -3327,11 +14003,14 @@ public final class Proto {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      for (int i = 0; i < serverName_.size(); i++) {
-        output.writeBytes(1, serverName_.getByteString(i));
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(2, getWebRootDirectoryBytes());
+        output.writeBytes(1, textSha256_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, textModifiedMillis_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, message_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -3342,18 +14021,17 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      {
-        int dataSize = 0;
-        for (int i = 0; i < serverName_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(serverName_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getServerNameList().size();
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getWebRootDirectoryBytes());
+          .computeBytesSize(1, textSha256_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, textModifiedMillis_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, message_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -3367,53 +14045,53 @@ public final class Proto {
       return super.writeReplace();
     }
 
-    public static letsencrypt.Proto.Domain parseFrom(
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static letsencrypt.Proto.Domain parseFrom(
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static letsencrypt.Proto.Domain parseFrom(byte[] data)
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static letsencrypt.Proto.Domain parseFrom(
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static letsencrypt.Proto.Domain parseFrom(java.io.InputStream input)
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static letsencrypt.Proto.Domain parseFrom(
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static letsencrypt.Proto.Domain parseDelimitedFrom(java.io.InputStream input)
+    public static letsencrypt.Proto.ConfigSnapshot parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static letsencrypt.Proto.Domain parseDelimitedFrom(
+    public static letsencrypt.Proto.ConfigSnapshot parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static letsencrypt.Proto.Domain parseFrom(
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static letsencrypt.Proto.Domain parseFrom(
+    public static letsencrypt.Proto.ConfigSnapshot parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3422,7 +14100,7 @@ public final class Proto {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(letsencrypt.Proto.Domain prototype) {
+    public static Builder newBuilder(letsencrypt.Proto.ConfigSnapshot prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3434,25 +14112,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code letsencrypt.Domain}
+     * Protobuf type {@code letsencrypt.ConfigSnapshot}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:letsencrypt.Domain)
-        letsencrypt.Proto.DomainOrBuilder {
+        // @@protoc_insertion_point(builder_implements:letsencrypt.ConfigSnapshot)
+        letsencrypt.Proto.ConfigSnapshotOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return letsencrypt.Proto.internal_static_letsencrypt_Domain_descriptor;
+        return letsencrypt.Proto.internal_static_letsencrypt_ConfigSnapshot_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return letsencrypt.Proto.internal_static_letsencrypt_Domain_fieldAccessorTable
+        return letsencrypt.Proto.internal_static_letsencrypt_ConfigSnapshot_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                letsencrypt.Proto.Domain.class, letsencrypt.Proto.Domain.Builder.class);
+                letsencrypt.Proto.ConfigSnapshot.class, letsencrypt.Proto.ConfigSnapshot.Builder.class);
       }
 
-      // Construct using letsencrypt.Proto.Domain.newBuilder()
+      // Construct using letsencrypt.Proto.ConfigSnapshot.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3472,10 +14150,12 @@ public final class Proto {
 
       public Builder clear() {
         super.clear();
-        serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        textSha256_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
-        webRootDirectory_ = "";
+        textModifiedMillis_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
+        message_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -3485,64 +14165,61 @@ public final class Proto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return letsencrypt.Proto.internal_static_letsencrypt_Domain_descriptor;
+        return letsencrypt.Proto.internal_static_letsencrypt_ConfigSnapshot_descriptor;
       }
 
-      public letsencrypt.Proto.Domain getDefaultInstanceForType() {
-        return letsencrypt.Proto.Domain.getDefaultInstance();
+      public letsencrypt.Proto.ConfigSnapshot getDefaultInstanceForType() {
+        return letsencrypt.Proto.ConfigSnapshot.getDefaultInstance();
       }
 
-      public letsencrypt.Proto.Domain build() {
-        letsencrypt.Proto.Domain result = buildPartial();
+      public letsencrypt.Proto.ConfigSnapshot build() {
+        letsencrypt.Proto.ConfigSnapshot result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public letsencrypt.Proto.Domain buildPartial() {
-        letsencrypt.Proto.Domain result = new letsencrypt.Proto.Domain(this);
+      public letsencrypt.Proto.ConfigSnapshot buildPartial() {
+        letsencrypt.Proto.ConfigSnapshot result = new letsencrypt.Proto.ConfigSnapshot(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          serverName_ = serverName_.getUnmodifiableView();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        result.serverName_ = serverName_;
+        result.textSha256_ = textSha256_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000001;
+          to_bitField0_ |= 0x00000002;
         }
-        result.webRootDirectory_ = webRootDirectory_;
+        result.textModifiedMillis_ = textModifiedMillis_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.message_ = message_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof letsencrypt.Proto.Domain) {
-          return mergeFrom((letsencrypt.Proto.Domain)other);
+        if (other instanceof letsencrypt.Proto.ConfigSnapshot) {
+          return mergeFrom((letsencrypt.Proto.ConfigSnapshot)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(letsencrypt.Proto.Domain other) {
-        if (other == letsencrypt.Proto.Domain.getDefaultInstance()) return this;
-        if (!other.serverName_.isEmpty()) {
-          if (serverName_.isEmpty()) {
-            serverName_ = other.serverName_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensureServerNameIsMutable();
-            serverName_.addAll(other.serverName_);
-          }
-          onChanged();
+      public Builder mergeFrom(letsencrypt.Proto.ConfigSnapshot other) {
+        if (other == letsencrypt.Proto.ConfigSnapshot.getDefaultInstance()) return this;
+        if (other.hasTextSha256()) {
+          setTextSha256(other.getTextSha256());
         }
-        if (other.hasWebRootDirectory()) {
-          bitField0_ |= 0x00000002;
-          webRootDirectory_ = other.webRootDirectory_;
-          onChanged();
+        if (other.hasTextModifiedMillis()) {
+          setTextModifiedMillis(other.getTextModifiedMillis());
+        }
+        if (other.hasMessage()) {
+          setMessage(other.getMessage());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -3556,11 +14233,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        letsencrypt.Proto.Domain parsedMessage = null;
+        letsencrypt.Proto.ConfigSnapshot parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (letsencrypt.Proto.Domain) e.getUnfinishedMessage();
+          parsedMessage = (letsencrypt.Proto.ConfigSnapshot) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3571,184 +14248,133 @@ public final class Proto {
       }
       private int bitField0_;
 
-      private com.google.protobuf.LazyStringList serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureServerNameIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          serverName_ = new com.google.protobuf.LazyStringArrayList(serverName_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-      /**
-       * <code>repeated string server_name = 1;</code>
-       */
-      public com.google.protobuf.ProtocolStringList
-          getServerNameList() {
-        return serverName_.getUnmodifiableView();
-      }
+      private com.google.protobuf.ByteString textSha256_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated string server_name = 1;</code>
-       */
-      public int getServerNameCount() {
-        return serverName_.size();
-      }
-      /**
-       * <code>repeated string server_name = 1;</code>
+       * <code>optional bytes text_sha256 = 1;</code>
        */
-      public java.lang.String getServerName(int index) {
-        return serverName_.get(index);
+      public boolean hasTextSha256() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated string server_name = 1;</code>
+       * <code>optional bytes text_sha256 = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getServerNameBytes(int index) {
-        return serverName_.getByteString(index);
+      public com.google.protobuf.ByteString getTextSha256() {
+        return textSha256_;
       }
       /**
-       * <code>repeated string server_name = 1;</code>
+       * <code>optional bytes text_sha256 = 1;</code>
        */
-      public Builder setServerName(
-          int index, java.lang.String value) {
+      public Builder setTextSha256(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  ensureServerNameIsMutable();
-        serverName_.set(index, value);
+  bitField0_ |= 0x00000001;
+        textSha256_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string server_name = 1;</code>
+       * <code>optional bytes text_sha256 = 1;</code>
        */
-      public Builder addServerName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureServerNameIsMutable();
-        serverName_.add(value);
+      public Builder clearTextSha256() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        textSha256_ = getDefaultInstance().getTextSha256();
         onChanged();
         return this;
       }
+
+      private long textModifiedMillis_ ;
       /**
-       * <code>repeated string server_name = 1;</code>
+       * <code>optional int64 text_modified_millis = 2;</code>
        */
-      public Builder addAllServerName(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureServerNameIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, serverName_);
-        onChanged();
-        return this;
+      public boolean hasTextModifiedMillis() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated string server_name = 1;</code>
+       * <code>optional int64 text_modified_millis = 2;</code>
        */
-      public Builder clearServerName() {
-        serverName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
-        return this;
+      public long getTextModifiedMillis() {
+        return textModifiedMillis_;
       }
       /**
-       * <code>repeated string server_name = 1;</code>
+       * <code>optional int64 text_modified_millis = 2;</code>
        */
-      public Builder addServerNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureServerNameIsMutable();
-        serverName_.add(value);
+      public Builder setTextModifiedMillis(long value) {
+        bitField0_ |= 0x00000002;
+        textModifiedMillis_ = value;
         onChanged();
         return this;
       }
-
-      private java.lang.Object webRootDirectory_ = "";
       /**
-       * <code>optional string web_root_directory = 2;</code>
+       * <code>optional int64 text_modified_millis = 2;</code>
        */
-      public boolean hasWebRootDirectory() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder clearTextModifiedMillis() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        textModifiedMillis_ = 0L;
+        onChanged();
+        return this;
       }
+
+      private com.google.protobuf.ByteString message_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional string web_root_directory = 2;</code>
+       * <code>optional bytes message = 3;</code>
+       *
+       * <pre>
+       * The parsed Config or AccountConfig fragment.
+       * </pre>
        */
-      public java.lang.String getWebRootDirectory() {
-        java.lang.Object ref = webRootDirectory_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            webRootDirectory_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public boolean hasMessage() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional string web_root_directory = 2;</code>
+       * <code>optional bytes message = 3;</code>
+       *
+       * <pre>
+       * The parsed Config or AccountConfig fragment.
+       * </pre>
        */
-      public com.google.protobuf.ByteString
-          getWebRootDirectoryBytes() {
-        java.lang.Object ref = webRootDirectory_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          webRootDirectory_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getMessage() {
+        return message_;
       }
       /**
-       * <code>optional string web_root_directory = 2;</code>
+       * <code>optional bytes message = 3;</code>
+       *
+       * <pre>
+       * The parsed Config or AccountConfig fragment.
+       * </pre>
        */
-      public Builder setWebRootDirectory(
-          java.lang.String value) {
+      public Builder setMessage(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        webRootDirectory_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string web_root_directory = 2;</code>
-       */
-      public Builder clearWebRootDirectory() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        webRootDirectory_ = getDefaultInstance().getWebRootDirectory();
+  bitField0_ |= 0x00000004;
+        message_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string web_root_directory = 2;</code>
+       * <code>optional bytes message = 3;</code>
+       *
+       * <pre>
+       * The parsed Config or AccountConfig fragment.
+       * </pre>
        */
-      public Builder setWebRootDirectoryBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        webRootDirectory_ = value;
+      public Builder clearMessage() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        message_ = getDefaultInstance().getMessage();
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:letsencrypt.Domain)
+      // @@protoc_insertion_point(builder_scope:letsencrypt.ConfigSnapshot)
     }
 
     static {
-      defaultInstance = new Domain(true);
+      defaultInstance = new ConfigSnapshot(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:letsencrypt.Domain)
+    // @@protoc_insertion_point(class_scope:letsencrypt.ConfigSnapshot)
   }
 
   private static final com.google.protobuf.Descriptors.Descriptor
@@ -3756,16 +14382,56 @@ public final class Proto {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_letsencrypt_Config_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_SessionRateLimit_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_SessionRateLimit_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_AccountRateLimit_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_AccountRateLimit_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_letsencrypt_AccountConfig_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_letsencrypt_AccountConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_Failover_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_Failover_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_letsencrypt_Domain_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_letsencrypt_Domain_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_DirectoryCacheEntry_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_DirectoryCacheEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_RenewalInfoEntry_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_RenewalInfoEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_RateLimitState_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_RateLimitState_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_TokenBucketState_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_TokenBucketState_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_letsencrypt_ConfigSnapshot_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_letsencrypt_ConfigSnapshot_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -3775,24 +14441,76 @@ public final class Proto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\014config.proto\022\013letsencrypt\"\334\001\n\006Config\022\023" +
+      "\n\014config.proto\022\013letsencrypt\"\260\005\n\006Config\022\023" +
       "\n\013session_url\030\001 \001(\t\022\'\n\033poll_sleep_durati" +
       "on_seconds\030\002 \001(\005:\00210\0229\n\025acme_directory_p" +
       "refix\030\003 \001(\t:\032.well-known/acme-challenge\022" +
       "%\n\035restart_notification_filename\030\004 \001(\t\0222" +
       "\n\016account_config\030\005 \003(\0132\032.letsencrypt.Acc" +
-      "ountConfig\"\200\003\n\rAccountConfig\022\023\n\013account_" +
-      "url\030\001 \001(\t\022\025\n\raccount_email\030\002 \001(\t\022\025\n\rkey_" +
-      "directory\030\003 \001(\t\022=\n\034account_private_key_f" +
-      "ilename\030\004 \001(\t:\027account_private_key.pem\022;",
-      "\n\033account_public_key_filename\030\005 \001(\t:\026acc" +
-      "ount_public_key.pem\022=\n)certificate_signi" +
-      "ng_request_filename_spec\030\006 \001(\t:\n%s_csr.p" +
-      "em\0220\n\031certificate_filename_spec\030\007 \001(\t:\r%" +
-      "s_signed.pem\022\032\n\022buffer_period_days\030\010 \001(\005" +
-      "\022#\n\006domain\030\t \003(\0132\023.letsencrypt.Domain\"9\n" +
-      "\006Domain\022\023\n\013server_name\030\001 \003(\t\022\032\n\022web_root" +
-      "_directory\030\002 \001(\tB\024\n\013letsencryptB\005Proto"
+      "ountConfig\0229\n\022session_rate_limit\030\006 \001(\0132\035" +
+      ".letsencrypt.SessionRateLimit\022!\n\031rate_li" +
+      "mit_state_filename\030\007 \001(\t\022\"\n\026max_pooled_c" +
+      "onnections\030\010 \001(\005:\00220\022!\n\031directory_cache_",
+      "directory\030\t \001(\t\022*\n\033directory_cache_ttl_s" +
+      "econds\030\n \001(\005:\00586400\022\037\n\024domain_key_pool_s" +
+      "ize\030\013 \001(\005:\0014\022\017\n\007include\030\014 \003(\t\022%\n\027daemon_" +
+      "interval_seconds\030\r \001(\005:\0043600\022\034\n\024leader_l" +
+      "ock_filename\030\016 \001(\t\022\036\n\023leader_poll_second" +
+      "s\030\017 \001(\005:\0012\022\'\n\031domain_lock_stale_seconds\030" +
+      "\020 \001(\005:\0043600\022\035\n\017log_buffer_size\030\021 \001(\005:\00481" +
+      "92\022\"\n\032renewal_event_log_filename\030\022 \001(\t\"N" +
+      "\n\020SessionRateLimit\022\037\n\023requests_per_secon" +
+      "d\030\001 \001(\001:\00210\022\031\n\rrequest_burst\030\002 \001(\005:\00220\"\330",
+      "\001\n\020AccountRateLimit\022\"\n\025new_orders_per_wi" +
+      "ndow\030\001 \001(\005:\003300\022\'\n\030new_order_window_seco" +
+      "nds\030\002 \001(\005:\00510800\022(\n\035failed_validations_p" +
+      "er_window\030\003 \001(\005:\0015\022.\n failed_validation_" +
+      "window_seconds\030\004 \001(\005:\0043600\022\035\n\020max_wait_s" +
+      "econds\030\005 \001(\005:\003300\"\343\007\n\rAccountConfig\022\023\n\013a" +
+      "ccount_url\030\001 \001(\t\022\025\n\raccount_email\030\002 \001(\t\022" +
+      "\025\n\rkey_directory\030\003 \001(\t\022=\n\034account_privat" +
+      "e_key_filename\030\004 \001(\t:\027account_private_ke" +
+      "y.pem\022;\n\033account_public_key_filename\030\005 \001",
+      "(\t:\026account_public_key.pem\022=\n)certificat" +
+      "e_signing_request_filename_spec\030\006 \001(\t:\n%" +
+      "s_csr.pem\0220\n\031certificate_filename_spec\030\007" +
+      " \001(\t:\r%s_signed.pem\022\032\n\022buffer_period_day" +
+      "s\030\010 \001(\005\022#\n\006domain\030\t \003(\0132\023.letsencrypt.Do" +
+      "main\022!\n\022consolidate_orders\030\n \001(\010:\005false\022" +
+      "9\n\022account_rate_limit\030\013 \001(\0132\035.letsencryp" +
+      "t.AccountRateLimit\022\023\n\013session_url\030\014 \001(\t\022" +
+      "\'\n\010failover\030\r \001(\0132\025.letsencrypt.Failover" +
+      "\022#\n\024generate_domain_keys\030\016 \001(\010:\005false\022!\n",
+      "\024domain_key_algorithm\030\017 \001(\t:\003RSA\022\035\n\017doma" +
+      "in_key_size\030\020 \001(\005:\0042048\0224\n domain_privat" +
+      "e_key_filename_spec\030\021 \001(\t:\n%s_key.pem\022*\n" +
+      "\031domain_lock_filename_spec\030\022 \001(\t:\007%s.loc" +
+      "k\022\036\n\023renewal_spread_days\030\023 \001(\005:\0010\022\037\n\024dai" +
+      "ly_renewal_budget\030\024 \001(\005:\0010\022\036\n\020use_renewa" +
+      "l_info\030\025 \001(\010:\004true\0227\n\032renewal_info_filen" +
+      "ame_spec\030\026 \001(\t:\023%s_renewal_info.bin\022\033\n\023s" +
+      "elf_check_url_spec\030\027 \001(\t\022\037\n\023self_check_a" +
+      "ttempts\030\030 \001(\005:\00210\022$\n\027self_check_retry_mi",
+      "llis\030\031 \001(\005:\003500\"\253\001\n\010Failover\022\023\n\013session_" +
+      "url\030\001 \003(\t\022#\n\024new_order_slo_millis\030\002 \001(\005:" +
+      "\00510000\022%\n\025validation_slo_millis\030\003 \001(\005:\0061" +
+      "20000\022!\n\026max_consecutive_errors\030\004 \001(\005:\0013" +
+      "\022\033\n\016window_seconds\030\005 \001(\005:\003900\"c\n\006Domain\022" +
+      "\023\n\013server_name\030\001 \003(\t\022\032\n\022web_root_directo" +
+      "ry\030\002 \003(\t\022\023\n\013session_url\030\003 \001(\t\022\023\n\010priorit" +
+      "y\030\004 \001(\001:\0011\"n\n\023DirectoryCacheEntry\022\023\n\013ses" +
+      "sion_url\030\001 \001(\t\022\014\n\004json\030\002 \001(\t\022\026\n\016fetched_" +
+      "millis\030\003 \001(\003\022\034\n\024last_modified_millis\030\004 \001",
+      "(\003\"v\n\020RenewalInfoEntry\022\017\n\007cert_id\030\001 \001(\t\022" +
+      "\033\n\023window_start_millis\030\002 \001(\003\022\031\n\021window_e" +
+      "nd_millis\030\003 \001(\003\022\031\n\021next_fetch_millis\030\004 \001" +
+      "(\003\"?\n\016RateLimitState\022-\n\006bucket\030\001 \003(\0132\035.l" +
+      "etsencrypt.TokenBucketState\"e\n\020TokenBuck" +
+      "etState\022\013\n\003key\030\001 \001(\t\022\016\n\006tokens\030\002 \001(\001\022\026\n\016" +
+      "updated_millis\030\003 \001(\003\022\034\n\024blocked_until_mi" +
+      "llis\030\004 \001(\003\"T\n\016ConfigSnapshot\022\023\n\013text_sha" +
+      "256\030\001 \001(\014\022\034\n\024text_modified_millis\030\002 \001(\003\022" +
+      "\017\n\007message\030\003 \001(\014B\024\n\013letsencryptB\005Proto"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3811,19 +14529,67 @@ public final class Proto {
     internal_static_letsencrypt_Config_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_letsencrypt_Config_descriptor,
-        new java.lang.String[] { "SessionUrl", "PollSleepDurationSeconds", "AcmeDirectoryPrefix", "RestartNotificationFilename", "AccountConfig", });
-    internal_static_letsencrypt_AccountConfig_descriptor =
+        new java.lang.String[] { "SessionUrl", "PollSleepDurationSeconds", "AcmeDirectoryPrefix", "RestartNotificationFilename", "AccountConfig", "SessionRateLimit", "RateLimitStateFilename", "MaxPooledConnections", "DirectoryCacheDirectory", "DirectoryCacheTtlSeconds", "DomainKeyPoolSize", "Include", "DaemonIntervalSeconds", "LeaderLockFilename", "LeaderPollSeconds", "DomainLockStaleSeconds", "LogBufferSize", "RenewalEventLogFilename", });
+    internal_static_letsencrypt_SessionRateLimit_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_letsencrypt_SessionRateLimit_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_SessionRateLimit_descriptor,
+        new java.lang.String[] { "RequestsPerSecond", "RequestBurst", });
+    internal_static_letsencrypt_AccountRateLimit_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_letsencrypt_AccountRateLimit_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_AccountRateLimit_descriptor,
+        new java.lang.String[] { "NewOrdersPerWindow", "NewOrderWindowSeconds", "FailedValidationsPerWindow", "FailedValidationWindowSeconds", "MaxWaitSeconds", });
+    internal_static_letsencrypt_AccountConfig_descriptor =
+      getDescriptor().getMessageTypes().get(3);
     internal_static_letsencrypt_AccountConfig_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_letsencrypt_AccountConfig_descriptor,
-        new java.lang.String[] { "AccountUrl", "AccountEmail", "KeyDirectory", "AccountPrivateKeyFilename", "AccountPublicKeyFilename", "CertificateSigningRequestFilenameSpec", "CertificateFilenameSpec", "BufferPeriodDays", "Domain", });
+        new java.lang.String[] { "AccountUrl", "AccountEmail", "KeyDirectory", "AccountPrivateKeyFilename", "AccountPublicKeyFilename", "CertificateSigningRequestFilenameSpec", "CertificateFilenameSpec", "BufferPeriodDays", "Domain", "ConsolidateOrders", "AccountRateLimit", "SessionUrl", "Failover", "GenerateDomainKeys", "DomainKeyAlgorithm", "DomainKeySize", "DomainPrivateKeyFilenameSpec", "DomainLockFilenameSpec", "RenewalSpreadDays", "DailyRenewalBudget", "UseRenewalInfo", "RenewalInfoFilenameSpec", "SelfCheckUrlSpec", "SelfCheckAttempts", "SelfCheckRetryMillis", });
+    internal_static_letsencrypt_Failover_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_letsencrypt_Failover_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_Failover_descriptor,
+        new java.lang.String[] { "SessionUrl", "NewOrderSloMillis", "ValidationSloMillis", "MaxConsecutiveErrors", "WindowSeconds", });
     internal_static_letsencrypt_Domain_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_letsencrypt_Domain_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_letsencrypt_Domain_descriptor,
-        new java.lang.String[] { "ServerName", "WebRootDirectory", });
+        new java.lang.String[] { "ServerName", "WebRootDirectory", "SessionUrl", "Priority", });
+    internal_static_letsencrypt_DirectoryCacheEntry_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_letsencrypt_DirectoryCacheEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_DirectoryCacheEntry_descriptor,
+        new java.lang.String[] { "SessionUrl", "Json", "FetchedMillis", "LastModifiedMillis", });
+    internal_static_letsencrypt_RenewalInfoEntry_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_letsencrypt_RenewalInfoEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_RenewalInfoEntry_descriptor,
+        new java.lang.String[] { "CertId", "WindowStartMillis", "WindowEndMillis", "NextFetchMillis", });
+    internal_static_letsencrypt_RateLimitState_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_letsencrypt_RateLimitState_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_RateLimitState_descriptor,
+        new java.lang.String[] { "Bucket", });
+    internal_static_letsencrypt_TokenBucketState_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_letsencrypt_TokenBucketState_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_TokenBucketState_descriptor,
+        new java.lang.String[] { "Key", "Tokens", "UpdatedMillis", "BlockedUntilMillis", });
+    internal_static_letsencrypt_ConfigSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_letsencrypt_ConfigSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_letsencrypt_ConfigSnapshot_descriptor,
+        new java.lang.String[] { "TextSha256", "TextModifiedMillis", "Message", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
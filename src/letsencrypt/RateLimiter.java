@@ -0,0 +1,119 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.io.Files;
+import com.google.protobuf.TextFormat;
+
+/**
+ * Client-side token buckets mirroring the CA's limits: requests per second per
+ * session_url, and new orders and failed validations per account.
+ */
+// @formatter:off
+public class RateLimiter {
+  private final Logger logger = Logger.getLogger(RateLimiter.class.getName());
+  private final Proto.Config config;
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final Map<String, Proto.TokenBucketState> savedStates = new ConcurrentHashMap<>();
+
+  public RateLimiter(Proto.Config config) {
+    this.config = config;
+  }
+
+  public TokenBucket requests(String sessionUrl) {
+    Proto.SessionRateLimit limit = config.getSessionRateLimit();
+    return bucket("requests:" + sessionUrl, () -> new TokenBucket("requests:" + sessionUrl,
+        limit.getRequestBurst(),
+        Duration.ofMillis((long) (1000 * limit.getRequestBurst() / limit.getRequestsPerSecond()))));
+  }
+
+  public TokenBucket newOrders(String sessionUrl, Proto.AccountConfig accountConfig) {
+    Proto.AccountRateLimit limit = accountConfig.getAccountRateLimit();
+    String key = "new-orders:" + getAccountKey(sessionUrl, accountConfig);
+    return bucket(key, () -> new TokenBucket(key, limit.getNewOrdersPerWindow(),
+        Duration.ofSeconds(limit.getNewOrderWindowSeconds())));
+  }
+
+  public TokenBucket failedValidations(String sessionUrl, Proto.AccountConfig accountConfig) {
+    Proto.AccountRateLimit limit = accountConfig.getAccountRateLimit();
+    String key = "failed-validations:" + getAccountKey(sessionUrl, accountConfig);
+    return bucket(key, () -> new TokenBucket(key, limit.getFailedValidationsPerWindow(),
+        Duration.ofSeconds(limit.getFailedValidationWindowSeconds())));
+  }
+
+  public void load() throws IOException {
+    if (config.getRateLimitStateFilename().isEmpty()) {
+      return;
+    }
+    File file = new File(config.getRateLimitStateFilename());
+    if (!file.exists()) {
+      return;
+    }
+    Proto.RateLimitState.Builder state = Proto.RateLimitState.newBuilder();
+    TextFormat.getParser().merge(Files.toString(file, StandardCharsets.UTF_8), state);
+    for (Proto.TokenBucketState bucketState : state.getBucketList()) {
+      savedStates.put(bucketState.getKey(), bucketState);
+    }
+    logger.log(Level.INFO, "Loaded {0} rate limit buckets from {1}", new Object[] { state.getBucketCount(), file });
+  }
+
+  public void save() throws IOException {
+    if (config.getRateLimitStateFilename().isEmpty()) {
+      return;
+    }
+    Map<String, Proto.TokenBucketState> states = new ConcurrentHashMap<>(savedStates);
+    for (TokenBucket bucket : buckets.values()) {
+      states.put(bucket.getKey(), bucket.toState());
+    }
+    Proto.RateLimitState.Builder state = Proto.RateLimitState.newBuilder();
+    states.keySet().stream().sorted().forEach(key -> state.addBucket(states.get(key)));
+    File file = new File(config.getRateLimitStateFilename());
+    File tempFile = new File(file.getPath() + ".tmp");
+    Files.write(TextFormat.printToString(state.build()), tempFile, StandardCharsets.UTF_8);
+    Files.move(tempFile, file);
+  }
+
+  private TokenBucket bucket(String key, Supplier<TokenBucket> factory) {
+    return buckets.computeIfAbsent(key, k -> {
+      TokenBucket bucket = factory.get();
+      Proto.TokenBucketState state = savedStates.get(k);
+      if (state != null) {
+        bucket.restore(state);
+      }
+      return bucket;
+    });
+  }
+
+  private static String getAccountKey(String sessionUrl, Proto.AccountConfig accountConfig) {
+    return sessionUrl + " "
+        + new File(accountConfig.getKeyDirectory(), accountConfig.getAccountPrivateKeyFilename()).getPath();
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package letsencrypt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.shredzone.acme4j.toolbox.JSONBuilder;
+
+/**
+ * Appends one JSON line per renewal attempt to renewal_event_log_filename.
+ * Lines are buffered and written at the end of each pass, or sooner when the
+ * buffer fills.  Does nothing when no file is configured.
+ */
+// @formatter:off
+public class RenewalEventLog implements AutoCloseable {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Logger logger = Logger.getLogger(RenewalEventLog.class.getName());
+  private final File file;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private FileChannel channel;
+
+  public RenewalEventLog(Proto.Config config) {
+    this.file = config.getRenewalEventLogFilename().isEmpty()
+        ? null : new File(config.getRenewalEventLogFilename());
+  }
+
+  public synchronized void append(JSONBuilder event) {
+    if (file == null) {
+      return;
+    }
+    byte[] line = (event.toString() + "\n").getBytes(StandardCharsets.UTF_8);
+    try {
+      if (line.length > buffer.remaining()) {
+        writeBuffer();
+      }
+      if (line.length > buffer.remaining()) {
+        write(ByteBuffer.wrap(line));
+      } else {
+        buffer.put(line);
+      }
+      Metrics.increment("renewal_events.appended");
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Could not append to renewal event log " + file, e);
+    }
+  }
+
+  public synchronized void flush() {
+    try {
+      writeBuffer();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Could not write renewal event log " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    flush();
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Could not close renewal event log " + file, e);
+      }
+      channel = null;
+    }
+  }
+
+  private void writeBuffer() throws IOException {
+    if (buffer.position() == 0) {
+      return;
+    }
+    buffer.flip();
+    try {
+      write(buffer);
+    } finally {
+      buffer.clear();
+    }
+  }
+
+  private void write(ByteBuffer bytes) throws IOException {
+    if (channel == null) {
+      channel = FileChannel.open(file.toPath(),
+          StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.shredzone.acme4j.Session;
+import org.shredzone.acme4j.connector.Connection;
+import org.shredzone.acme4j.exception.AcmeException;
+import org.shredzone.acme4j.exception.AcmeRetryAfterException;
+import org.shredzone.acme4j.toolbox.JSON;
+
+import com.google.common.io.Files;
+
+/**
+ * The CA's suggested renewal window for a certificate, from the ACME Renewal
+ * Information extension.  Windows are cached next to the certificate until the
+ * CA's Retry-After, and the last known window is kept if a refresh fails.
+ */
+// @formatter:off
+public class RenewalInfo {
+  private static final Duration DEFAULT_RETRY = Duration.ofHours(6);
+  private static final Duration MIN_RETRY = Duration.ofMinutes(1);
+  private static final Duration MAX_RETRY = Duration.ofDays(1);
+
+  private final Logger logger = Logger.getLogger(RenewalInfo.class.getName());
+  private final SessionRouter sessionRouter;
+  private final RateLimiter rateLimiter;
+
+  public RenewalInfo(SessionRouter sessionRouter, RateLimiter rateLimiter) {
+    this.sessionRouter = sessionRouter;
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * Returns the suggested window for the domain's certificate, or null if the CA
+   * does not offer one.
+   */
+  public Proto.RenewalInfoEntry get(String sessionUrl, Proto.AccountConfig accountConfig,
+      String domainName, CertificateSummary summary) {
+    if (!accountConfig.getUseRenewalInfo() || summary.getRenewalInfoId() == null) {
+      return null;
+    }
+    File file = getFile(accountConfig, domainName);
+    Proto.RenewalInfoEntry cached = read(file, summary.getRenewalInfoId());
+    Proto.RenewalInfoEntry entry = cached;
+    if (cached != null && System.currentTimeMillis() < cached.getNextFetchMillis()) {
+      Metrics.increment("renewal_info.cache_hits");
+    } else {
+      try {
+        entry = fetch(sessionUrl, summary.getRenewalInfoId());
+        if (entry != null) {
+          write(file, entry);
+        }
+      } catch (AcmeException | IOException | RuntimeException e) {
+        logger.log(Level.WARNING, "Could not fetch renewal information for " + domainName, e);
+        Metrics.increment("renewal_info.failures");
+        // Keep any cached window, but wait before asking again.
+        Proto.RenewalInfoEntry.Builder retry = cached == null
+            ? Proto.RenewalInfoEntry.newBuilder().setCertId(summary.getRenewalInfoId())
+            : cached.toBuilder();
+        write(file, retry.setNextFetchMillis(Instant.now().plus(DEFAULT_RETRY).toEpochMilli()).build());
+      }
+    }
+    return entry != null && entry.hasWindowStartMillis() ? entry : null;
+  }
+
+  /** Like {@link #get} but only from the cache, never fetching. */
+  public Proto.RenewalInfoEntry getCached(Proto.AccountConfig accountConfig, String domainName,
+      CertificateSummary summary) {
+    if (!accountConfig.getUseRenewalInfo() || summary.getRenewalInfoId() == null) {
+      return null;
+    }
+    Proto.RenewalInfoEntry cached = read(getFile(accountConfig, domainName), summary.getRenewalInfoId());
+    return cached != null && cached.hasWindowStartMillis() ? cached : null;
+  }
+
+  /** Whether {@link #get} would ask the CA rather than answer from the cache. */
+  public boolean isFetchDue(Proto.AccountConfig accountConfig, String domainName, CertificateSummary summary) {
+    if (!accountConfig.getUseRenewalInfo() || summary.getRenewalInfoId() == null) {
+      return false;
+    }
+    Proto.RenewalInfoEntry cached = read(getFile(accountConfig, domainName), summary.getRenewalInfoId());
+    return cached == null || System.currentTimeMillis() >= cached.getNextFetchMillis();
+  }
+
+  /** When the domain is due inside the suggested window. */
+  public static Instant getDue(Proto.RenewalInfoEntry entry, String domainName) {
+    long start = entry.getWindowStartMillis();
+    long end = Math.max(start, entry.getWindowEndMillis());
+    return Instant.ofEpochMilli(start + (long) ((end - start) * RenewalSchedule.getJitterFraction(domainName)));
+  }
+
+  /** Whether now is past the domain's fixed point in the suggested window. */
+  public static boolean isDue(Proto.RenewalInfoEntry entry, String domainName, Instant now) {
+    return !now.isBefore(getDue(entry, domainName));
+  }
+
+  private Proto.RenewalInfoEntry fetch(String sessionUrl, String certId) throws AcmeException, IOException {
+    SessionSupplier sessionSupplier = sessionRouter.forUrl(sessionUrl);
+    Session session = sessionSupplier.get();
+    sessionSupplier.getLock().lock();
+    try {
+      return fetch(session, sessionUrl, certId);
+    } finally {
+      sessionSupplier.getLock().unlock();
+    }
+  }
+
+  private Proto.RenewalInfoEntry fetch(Session session, String sessionUrl, String certId)
+      throws AcmeException, IOException {
+    URL base = PooledAcmeProvider.getDirectoryUrl(session, "renewalInfo");
+    if (base == null) {
+      return null;
+    }
+    rateLimiter.requests(sessionUrl).acquire();
+    Metrics.increment("renewal_info.fetches");
+    URL url = new URL(base.toString().replaceFirst("/*$", "/") + certId);
+    Instant now = Instant.now();
+    Instant nextFetch = now.plus(DEFAULT_RETRY);
+    JSON window;
+    try (Connection conn = session.connect()) {
+      conn.sendRequest(url, session, null);
+      window = conn.readJsonResponse().get("suggestedWindow").asObject();
+      try {
+        conn.handleRetryAfter("renewalInfo");
+      } catch (AcmeRetryAfterException e) {
+        nextFetch = clamp(e.getRetryAfter(), now.plus(MIN_RETRY), now.plus(MAX_RETRY));
+      }
+    }
+    return Proto.RenewalInfoEntry.newBuilder()
+        .setCertId(certId)
+        .setWindowStartMillis(window.get("start").asInstant().toEpochMilli())
+        .setWindowEndMillis(window.get("end").asInstant().toEpochMilli())
+        .setNextFetchMillis(nextFetch.toEpochMilli())
+        .build();
+  }
+
+  private Proto.RenewalInfoEntry read(File file, String certId) {
+    if (!file.exists()) {
+      return null;
+    }
+    try {
+      Proto.RenewalInfoEntry entry = Proto.RenewalInfoEntry.parseFrom(Files.toByteArray(file));
+      return entry.getCertId().equals(certId) ? entry : null;
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Ignoring unreadable renewal information " + file, e);
+      return null;
+    }
+  }
+
+  private void write(File file, Proto.RenewalInfoEntry entry) {
+    File tempFile = new File(file.getPath() + ".tmp");
+    try {
+      Files.write(entry.toByteArray(), tempFile);
+      Files.move(tempFile, file);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Could not write renewal information " + file, e);
+    }
+  }
+
+  private static File getFile(Proto.AccountConfig accountConfig, String domainName) {
+    return new File(accountConfig.getKeyDirectory(),
+        String.format(accountConfig.getRenewalInfoFilenameSpec(), domainName));
+  }
+
+  private static Instant clamp(Instant instant, Instant min, Instant max) {
+    return instant.isBefore(min) ? min : instant.isAfter(max) ? max : instant;
+  }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dry run of the renewal schedule from the config and the certificates on disk,
+ * without touching the network.  Reports the orders and domains that would
+ * renew now and on each of the next days, per account.  Cached renewal
+ * windows are used; daily budgets are applied as the renewal runs would.
+ * Certificates renewed within the horizon are not followed to their next renewal.
+ */
+// @formatter:off
+public class RenewalPlanner {
+  private static final int MAX_LISTED = 1000;
+
+  private final Logger logger = Logger.getLogger(RenewalPlanner.class.getName());
+  private final Proto.Config config;
+  private final int days;
+  private final Function<Proto.AccountConfig, List<List<Proto.Domain>>> orderPlanner;
+  private final Function<Proto.AccountConfig, KeyLoader> keyLoaders;
+  private final RenewalInfo renewalInfo;
+
+  public RenewalPlanner(Proto.Config config, int days,
+      Function<Proto.AccountConfig, List<List<Proto.Domain>>> orderPlanner,
+      Function<Proto.AccountConfig, KeyLoader> keyLoaders, RenewalInfo renewalInfo) {
+    this.config = config;
+    this.days = days;
+    this.orderPlanner = orderPlanner;
+    this.keyLoaders = keyLoaders;
+    this.renewalInfo = renewalInfo;
+  }
+
+  public void print(PrintStream out) {
+    Instant now = Instant.now();
+    // Per-file messages would dominate a plan over the whole fleet.
+    Logger keyLoaderLogger = Logger.getLogger(KeyLoader.class.getName());
+    Level keyLoaderLevel = keyLoaderLogger.getLevel();
+    keyLoaderLogger.setLevel(Level.WARNING);
+    List<List<PlannedOrder>> ordersByAccount = new ArrayList<>();
+    List<RenewalSchedule> schedules = new ArrayList<>();
+    List<PlannedOrder> orders = new ArrayList<>();
+    for (Proto.AccountConfig accountConfig : config.getAccountConfigList()) {
+      RenewalSchedule schedule = new RenewalSchedule(accountConfig);
+      KeyLoader keyLoader = keyLoaders.apply(accountConfig);
+      List<PlannedOrder> accountOrders = new ArrayList<>();
+      for (List<Proto.Domain> domains : orderPlanner.apply(accountConfig)) {
+        accountOrders.add(new PlannedOrder(accountConfig, schedule, keyLoader, domains));
+      }
+      ordersByAccount.add(accountOrders);
+      schedules.add(schedule);
+      orders.addAll(accountOrders);
+    }
+    try {
+      orders.parallelStream().forEach(order -> order.load(now));
+    } finally {
+      keyLoaderLogger.setLevel(keyLoaderLevel);
+    }
+
+    int[][] ordersByAccountAndDay = new int[config.getAccountConfigCount()][days + 1];
+    int[] ordersByDay = new int[days + 1];
+    int[] domainsByDay = new int[days + 1];
+    List<String> dueNow = new ArrayList<>();
+    int totalDomains = 0;
+    for (int account = 0; account < config.getAccountConfigCount(); account++) {
+      List<PlannedOrder> accountOrders = ordersByAccount.get(account);
+      for (PlannedOrder order : accountOrders) {
+        totalDomains += order.domains.size();
+      }
+      simulate(accountOrders, schedules.get(account), now);
+      for (PlannedOrder order : accountOrders) {
+        if (order.day < 0) {
+          continue;
+        }
+        ordersByAccountAndDay[account][order.day]++;
+        ordersByDay[order.day]++;
+        domainsByDay[order.day] += order.domains.size();
+        if (order.day == 0) {
+          for (Proto.Domain domain : order.domains) {
+            dueNow.add(domain.getServerName(0));
+          }
+        }
+      }
+    }
+
+    out.println("Renewal plan as of " + now + ": " + totalDomains + " domains in " + orders.size()
+        + " orders, next " + days + " days");
+    out.println(String.format("  %-12s %10s %10s", "day", "orders", "domains"));
+    LocalDate today = now.atZone(ZoneOffset.UTC).toLocalDate();
+    for (int day = 0; day <= days; day++) {
+      if (day == 0 || ordersByDay[day] > 0) {
+        out.println(String.format("  %-12s %10d %10d", day == 0 ? "now" : today.plusDays(day),
+            ordersByDay[day], domainsByDay[day]));
+      }
+    }
+    out.println("Orders per account (now / next " + days + " days):");
+    for (int account = 0; account < config.getAccountConfigCount(); account++) {
+      int total = 0;
+      for (int count : ordersByAccountAndDay[account]) {
+        total += count;
+      }
+      out.println("  " + config.getAccountConfig(account).getKeyDirectory() + ": "
+          + ordersByAccountAndDay[account][0] + " / " + total);
+    }
+    out.println("Due now:");
+    for (String name : dueNow.subList(0, Math.min(dueNow.size(), MAX_LISTED))) {
+      out.println("  " + name);
+    }
+    if (dueNow.size() > MAX_LISTED) {
+      out.println("  ... and " + (dueNow.size() - MAX_LISTED) + " more");
+    }
+  }
+
+  /**
+   * Assigns each order the day its renewal would run: at its deadline, or from
+   * its spread point onwards while the account's daily budget allows.
+   */
+  private void simulate(List<PlannedOrder> orders, RenewalSchedule schedule, Instant now) {
+    PriorityQueue<PlannedOrder> byDeadline =
+        new PriorityQueue<>(Comparator.comparing((PlannedOrder order) -> order.deadline));
+    PriorityQueue<PlannedOrder> bySpread =
+        new PriorityQueue<>(Comparator.comparing((PlannedOrder order) -> order.spreadDue));
+    byDeadline.addAll(orders);
+    for (PlannedOrder order : orders) {
+      if (order.spreadDue != null && order.spreadDue.isBefore(order.deadline)) {
+        bySpread.add(order);
+      }
+    }
+    for (int day = 0; day <= days; day++) {
+      Instant end = now.plus(Duration.ofDays(day));
+      int used = day == 0 ? schedule.getIssuedInWindow() : 0;
+      while (!byDeadline.isEmpty() && !byDeadline.peek().deadline.isAfter(end)) {
+        PlannedOrder order = byDeadline.poll();
+        if (order.day < 0) {
+          order.day = day;
+          used += order.domains.size();
+        }
+      }
+      List<PlannedOrder> deferred = new ArrayList<>();
+      while (!bySpread.isEmpty() && !bySpread.peek().spreadDue.isAfter(end)) {
+        PlannedOrder order = bySpread.poll();
+        if (order.day >= 0) {
+          continue;
+        }
+        if (schedule.getBudget() > 0 && used + order.domains.size() > schedule.getBudget()) {
+          deferred.add(order);
+          continue;
+        }
+        order.day = day;
+        used += order.domains.size();
+      }
+      bySpread.addAll(deferred);
+    }
+  }
+
+  private class PlannedOrder {
+    final Proto.AccountConfig accountConfig;
+    final RenewalSchedule schedule;
+    final KeyLoader keyLoader;
+    final List<Proto.Domain> domains;
+    Instant deadline;
+    Instant spreadDue;
+    int day = -1;
+
+    PlannedOrder(Proto.AccountConfig accountConfig, RenewalSchedule schedule, KeyLoader keyLoader,
+        List<Proto.Domain> domains) {
+      this.accountConfig = accountConfig;
+      this.schedule = schedule;
+      this.keyLoader = keyLoader;
+      this.domains = domains;
+    }
+
+    void load(Instant now) {
+      Duration buffer = Duration.ofDays(accountConfig.getBufferPeriodDays());
+      List<CertificateSummary> summaries = new ArrayList<>();
+      deadline = Instant.MAX;
+      for (Proto.Domain domain : domains) {
+        String name = domain.getServerName(0);
+        CertificateSummary summary = null;
+        try {
+          summary = keyLoader.loadCertificateSummary(name);
+        } catch (Exception e) {
+          logger.log(Level.WARNING, "Cannot read certificate for " + name, e);
+        }
+        summaries.add(summary);
+        if (summary == null) {
+          deadline = now;
+          continue;
+        }
+        Instant due = summary.getEarliestNotAfter().minus(buffer);
+        Proto.RenewalInfoEntry window = renewalInfo.getCached(accountConfig, name, summary);
+        if (window != null) {
+          due = min(due, RenewalInfo.getDue(window, name));
+        } else {
+          Instant spread = schedule.getSpreadDue(domain, summary, buffer);
+          if (spread != null) {
+            spreadDue = spreadDue == null ? spread : min(spreadDue, spread);
+          }
+        }
+        deadline = min(deadline, due);
+      }
+      schedule.countIssued(summaries, now);
+    }
+  }
+
+  private static Instant min(Instant a, Instant b) {
+    return a.isBefore(b) ? a : b;
+  }
+}
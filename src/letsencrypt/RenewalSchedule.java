@@ -0,0 +1,117 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Spreads an account's renewals so that certificates issued on the same day do
+ * not all fall due on the same day again.  Each domain is due a stable,
+ * name-derived fraction of renewal_spread_days ahead of buffer_period_days; such
+ * early renewals are capped by daily_renewal_budget.  Renewals inside the
+ * buffer period are never held back.
+ */
+// @formatter:off
+public class RenewalSchedule {
+  private static final Duration BUDGET_WINDOW = Duration.ofDays(1);
+
+  private final Logger logger = Logger.getLogger(RenewalSchedule.class.getName());
+  private final Duration spread;
+  private final int budget;
+  private final AtomicInteger issuedInWindow = new AtomicInteger();
+
+  public RenewalSchedule(Proto.AccountConfig accountConfig) {
+    this.spread = Duration.ofDays(accountConfig.getRenewalSpreadDays());
+    this.budget = accountConfig.getDailyRenewalBudget();
+  }
+
+  /** Counts the certificates among these issued within the last day against the budget. */
+  public void countIssued(List<CertificateSummary> summaries, Instant now) {
+    Instant windowStart = now.minus(BUDGET_WINDOW);
+    for (CertificateSummary summary : summaries) {
+      if (summary != null && summary.getNotBefore().isAfter(windowStart)) {
+        issuedInWindow.incrementAndGet();
+      }
+    }
+  }
+
+  /** Counts renewals due inside the buffer period, which go ahead regardless of the budget. */
+  public void countRequired(int domains) {
+    issuedInWindow.addAndGet(domains);
+  }
+
+  /** Whether the domain has reached its point in the spread window ahead of the buffer period. */
+  public boolean isInSpreadWindow(Proto.Domain domain, CertificateSummary summary, Duration buffer,
+      Instant now) {
+    Instant due = getSpreadDue(domain, summary, buffer);
+    return due != null && !now.isBefore(due);
+  }
+
+  /** When the domain reaches its point in the spread window, or null without a spread. */
+  public Instant getSpreadDue(Proto.Domain domain, CertificateSummary summary, Duration buffer) {
+    if (spread.isZero()) {
+      return null;
+    }
+    long jitterSeconds = (long) (spread.getSeconds() * getJitterFraction(domain.getServerName(0)));
+    return summary.getEarliestNotAfter().minus(buffer).minusSeconds(jitterSeconds);
+  }
+
+  public int getBudget() {
+    return budget;
+  }
+
+  public int getIssuedInWindow() {
+    return issuedInWindow.get();
+  }
+
+  /** Takes budget for renewing this many domains early, or none and returns false. */
+  public boolean tryConsume(int domains, String name) {
+    if (budget <= 0) {
+      Metrics.add("schedule.early_renewals", domains);
+      return true;
+    }
+    int issued;
+    do {
+      issued = issuedInWindow.get();
+      if (issued + domains > budget) {
+        logger.log(Level.INFO, "Deferring early renewal of {0}, daily budget of {1} used", new Object[] { name, budget });
+        Metrics.increment("schedule.deferred_by_budget");
+        return false;
+      }
+    } while (!issuedInWindow.compareAndSet(issued, issued + domains));
+    Metrics.add("schedule.early_renewals", domains);
+    return true;
+  }
+
+  /** A fraction in [0, 1) fixed by the name, so a domain keeps its place across runs. */
+  static double getJitterFraction(String name) {
+    long bits = Hashing.sha256().hashString(name, StandardCharsets.UTF_8).asLong() >>> 11;
+    return bits / (double) (1L << 53);
+  }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.shredzone.acme4j.connector.HttpConnector;
+
+/**
+ * Keeps one {@link SessionSupplier} per ACME endpoint, all sharing a connector
+ * and directory cache.
+ */
+// @formatter:off
+public class SessionRouter {
+  private final HttpConnector connector;
+  private final DirectoryCache directoryCache;
+  private final Map<String, SessionSupplier> sessionSuppliers = new ConcurrentHashMap<>();
+
+  public SessionRouter(HttpConnector connector, DirectoryCache directoryCache) {
+    this.connector = connector;
+    this.directoryCache = directoryCache;
+  }
+
+  public SessionSupplier forUrl(String sessionUrl) {
+    return sessionSuppliers.computeIfAbsent(sessionUrl,
+        url -> new SessionSupplier(url, connector, directoryCache));
+  }
+
+  public static String getSessionUrl(Proto.Config config, Proto.AccountConfig accountConfig) {
+    return accountConfig.hasSessionUrl() ? accountConfig.getSessionUrl() : config.getSessionUrl();
+  }
+
+  public static String getSessionUrl(Proto.Config config, Proto.AccountConfig accountConfig,
+      Proto.Domain domain) {
+    return domain.hasSessionUrl() ? domain.getSessionUrl() : getSessionUrl(config, accountConfig);
+  }
+}
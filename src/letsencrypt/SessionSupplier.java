@@ -19,28 +19,66 @@
 
 package letsencrypt;
 
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.shredzone.acme4j.Session;
+import org.shredzone.acme4j.connector.HttpConnector;
+import org.shredzone.acme4j.exception.AcmeException;
 
-import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
 
+/**
+ * One endpoint's session.  acme4j keeps a single nonce per session, which
+ * concurrent requests would spend twice, so callers hold {@link #getLock()}
+ * while using it.
+ */
 // @formatter:off
 public class SessionSupplier implements Supplier<Session> {
   private final String url;
-  private Session session;
+  private final HttpConnector connector;
+  private final DirectoryCache directoryCache;
+  private final Supplier<Session> session = Suppliers.memoize(this::createSession);
+  private final Lock lock = new ReentrantLock();
 
-  public SessionSupplier(String url) {
+  public SessionSupplier(String url, HttpConnector connector, DirectoryCache directoryCache) {
     this.url = url;
-    this.session = null;
+    this.connector = connector;
+    this.directoryCache = directoryCache;
   }
 
   @Override
   public Session get() {
-    if (session == null) {
-     session = new Session(url);
-    }
-    return Preconditions.checkNotNull(session, "Could not create session");
+    return session.get();
+  }
+
+  /** Held while making requests on the session; reentrant. */
+  public Lock getLock() {
+    return lock;
   }
 
+  /** Creates the session and loads its directory in the background. */
+  public CompletableFuture<Session> warmUp(Executor executor) {
+    return CompletableFuture.supplyAsync(() -> {
+      Session session = get();
+      lock.lock();
+      try {
+        session.getMetadata();
+      } catch (AcmeException e) {
+        throw new IllegalStateException("Could not load directory of " + url, e);
+      } finally {
+        lock.unlock();
+      }
+      return session;
+    }, executor);
+  }
+
+  private Session createSession() {
+    URI serverUri = URI.create(url);
+    return new Session(serverUri, PooledAcmeProvider.forUri(serverUri, connector, directoryCache));
+  }
 }
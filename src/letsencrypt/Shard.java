@@ -0,0 +1,63 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+
+/**
+ * The part of the config this node is responsible for.  Domains are assigned by
+ * consistent hash of their first server_name, so growing the cluster from n to
+ * n + 1 nodes moves only about 1 / (n + 1) of them.
+ */
+// @formatter:off
+public class Shard {
+  public static final Shard ALL = new Shard(0, 1);
+
+  private final int index;
+  private final int count;
+
+  public Shard(int index, int count) {
+    Preconditions.checkArgument(count > 0 && index >= 0 && index < count,
+        "Shard %s/%s out of range", index, count);
+    this.index = index;
+    this.count = count;
+  }
+
+  /** Parses "i/n", where i counts from 0. */
+  public static Shard parse(String spec) {
+    String[] parts = spec.split("/");
+    Preconditions.checkArgument(parts.length == 2, "Shard must be given as index/count: %s", spec);
+    return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+  }
+
+  public boolean claims(Proto.Domain domain) {
+    return count == 1 || Hashing.consistentHash(
+        Hashing.sha256().hashString(domain.getServerName(0), StandardCharsets.UTF_8), count) == index;
+  }
+
+  @Override
+  public String toString() {
+    return index + "/" + count;
+  }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package letsencrypt;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A token bucket which refills continuously up to its capacity.  The server may
+ * additionally block the bucket until a Retry-After instant.
+ */
+// @formatter:off
+public class TokenBucket {
+  private final String key;
+  private final double capacity;
+  private final double refillPerMilli;
+  private double tokens;
+  private long updatedMillis;
+  private long blockedUntilMillis;
+
+  public TokenBucket(String key, double capacity, Duration refillPeriod) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive: %s", key);
+    Preconditions.checkArgument(!refillPeriod.isNegative() && !refillPeriod.isZero(),
+        "refill period must be positive: %s", key);
+    this.key = key;
+    this.capacity = capacity;
+    this.refillPerMilli = capacity / refillPeriod.toMillis();
+    this.tokens = capacity;
+    this.updatedMillis = System.currentTimeMillis();
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  /** Takes a token, waiting as long as necessary. */
+  public void acquire() {
+    sleep(reserve(Long.MAX_VALUE));
+  }
+
+  /** Takes a token unless that would mean waiting longer than {@code maxWait}. */
+  public boolean tryAcquire(Duration maxWait) {
+    long waitMillis = reserve(maxWait.toMillis());
+    if (waitMillis < 0) {
+      return false;
+    }
+    sleep(waitMillis);
+    return true;
+  }
+
+  /** Waits until a token is available without taking it. */
+  public boolean awaitAvailable(Duration maxWait) {
+    long waitMillis;
+    synchronized (this) {
+      waitMillis = millisUntilAvailable(System.currentTimeMillis());
+    }
+    if (waitMillis > maxWait.toMillis()) {
+      return false;
+    }
+    sleep(waitMillis);
+    return true;
+  }
+
+  /** Takes a token after the fact, e.g. once a validation has failed. */
+  public synchronized void consume() {
+    refill(System.currentTimeMillis());
+    tokens -= 1;
+  }
+
+  public synchronized void blockUntil(Instant instant) {
+    blockedUntilMillis = Math.max(blockedUntilMillis, instant.toEpochMilli());
+  }
+
+  public synchronized Proto.TokenBucketState toState() {
+    refill(System.currentTimeMillis());
+    return Proto.TokenBucketState.newBuilder()
+        .setKey(key)
+        .setTokens(tokens)
+        .setUpdatedMillis(updatedMillis)
+        .setBlockedUntilMillis(blockedUntilMillis)
+        .build();
+  }
+
+  public synchronized void restore(Proto.TokenBucketState state) {
+    tokens = Math.min(capacity, state.getTokens());
+    updatedMillis = state.getUpdatedMillis();
+    blockedUntilMillis = state.getBlockedUntilMillis();
+    refill(System.currentTimeMillis());
+  }
+
+  private synchronized long reserve(long maxWaitMillis) {
+    long now = System.currentTimeMillis();
+    long waitMillis = millisUntilAvailable(now);
+    if (waitMillis > maxWaitMillis) {
+      return -1;
+    }
+    tokens -= 1;
+    return waitMillis;
+  }
+
+  private long millisUntilAvailable(long now) {
+    refill(now);
+    long tokenWait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / refillPerMilli);
+    return Math.max(tokenWait, blockedUntilMillis - now);
+  }
+
+  private void refill(long now) {
+    if (now > updatedMillis) {
+      tokens = Math.min(capacity, tokens + (now - updatedMillis) * refillPerMilli);
+      updatedMillis = now;
+    }
+  }
+
+  private void sleep(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for " + key, e);
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package letsencrypt;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import com.google.common.io.Files;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+/**
+ * Self-checks challenges against an in-process web server, and an https one
+ * with a self-signed certificate for a host name other than localhost.  Run
+ * by the test target; exits non-zero on failure.
+ */
+// @formatter:off
+public class ChallengeSelfCheckTest {
+  private static final String TOKEN = "token";
+  private static final String CONTENT = "token.thumbprint";
+  private static final char[] PASSWORD = "changeit".toCharArray();
+
+  private final File keyStoreDirectory = Files.createTempDir();
+  private final HttpServer http;
+  private final HttpsServer https;
+  private final AtomicInteger requests = new AtomicInteger();
+  private volatile int servedFromAttempt;
+
+  public static void main(String[] args) throws Exception {
+    ChallengeSelfCheckTest test = new ChallengeSelfCheckTest();
+    try {
+      test.followsRedirectsToHttps();
+      test.retriesUntilServed();
+      test.failsAfterSelfCheckAttempts();
+      test.failsAfterMaxRedirects();
+    } finally {
+      test.close();
+    }
+    System.out.println("ChallengeSelfCheckTest passed");
+  }
+
+  private ChallengeSelfCheckTest() throws Exception {
+    http = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    https = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+    https.setHttpsConfigurator(new HttpsConfigurator(createSelfSignedContext()));
+
+    http.createContext("/start/", exchange -> redirect(exchange, 302, "/moved/" + getToken(exchange)));
+    http.createContext("/moved/", exchange -> redirect(exchange, 301,
+        "https://localhost:" + https.getAddress().getPort() + "/.well-known/acme-challenge/" + getToken(exchange)));
+    http.createContext("/loop/", exchange -> {
+      requests.incrementAndGet();
+      redirect(exchange, 307, exchange.getRequestURI().getPath());
+    });
+    http.createContext("/missing/", exchange -> {
+      requests.incrementAndGet();
+      reply(exchange, 404, "not found");
+    });
+    http.createContext("/.well-known/acme-challenge/", exchange -> {
+      reply(exchange, requests.incrementAndGet() >= servedFromAttempt ? 200 : 404, CONTENT + "\n");
+    });
+    https.createContext("/.well-known/acme-challenge/", exchange -> {
+      requests.incrementAndGet();
+      reply(exchange, 200, CONTENT + "\n");
+    });
+    http.start();
+    https.start();
+  }
+
+  /** http redirects to http and on to https, whose certificate is neither trusted nor for localhost. */
+  private void followsRedirectsToHttps() {
+    requests.set(0);
+    newSelfCheck("/start/%2$s", 1).await("localhost", TOKEN, CONTENT);
+    check(requests.get() == 1, "Challenge fetched " + requests.get() + " times");
+  }
+
+  private void retriesUntilServed() {
+    requests.set(0);
+    servedFromAttempt = 3;
+    long passed = Metrics.get("self_check.passed");
+    newSelfCheck("/.well-known/acme-challenge/%2$s", 5).await("localhost", TOKEN, CONTENT);
+    check(requests.get() == 3, "Expected 3 attempts, made " + requests.get());
+    check(Metrics.get("self_check.passed") == passed + 1, "Pass not counted");
+  }
+
+  /**
+   * A challenge which is never served fails after self_check_attempts, with
+   * an error which does not fail over to another CA, so the order is skipped
+   * before its challenge is triggered.
+   */
+  private void failsAfterSelfCheckAttempts() {
+    requests.set(0);
+    long failed = Metrics.get("self_check.failed");
+    IllegalStateException e = expectFailure(newSelfCheck("/missing/%2$s", 3));
+    check(e.getMessage().contains("HTTP 404"), "Unexpected message " + e.getMessage());
+    check(requests.get() == 3, "Expected 3 attempts, made " + requests.get());
+    check(Metrics.get("self_check.failed") == failed + 1, "Failure not counted");
+    check(!Main.isEndpointFailure(e), "Failed self-check would fail over");
+  }
+
+  private void failsAfterMaxRedirects() {
+    requests.set(0);
+    IllegalStateException e = expectFailure(newSelfCheck("/loop/%2$s", 2));
+    check(e.getMessage().contains("More than 10 redirects"), "Unexpected message " + e.getMessage());
+    check(requests.get() == 2 * 11, "Expected 22 requests, made " + requests.get());
+  }
+
+  private ChallengeSelfCheck newSelfCheck(String path, int attempts) {
+    return new ChallengeSelfCheck(Proto.AccountConfig.newBuilder()
+        .setSelfCheckUrlSpec("http://%1$s:" + http.getAddress().getPort() + path)
+        .setSelfCheckAttempts(attempts)
+        .setSelfCheckRetryMillis(1)
+        .build());
+  }
+
+  private static IllegalStateException expectFailure(ChallengeSelfCheck selfCheck) {
+    try {
+      selfCheck.await("localhost", TOKEN, CONTENT);
+    } catch (IllegalStateException e) {
+      check(e.getMessage().endsWith("not triggering it"), "Unexpected message " + e.getMessage());
+      return e;
+    }
+    throw new AssertionError("Self-check passed");
+  }
+
+  /** A TLS context serving a fresh self-signed certificate for another host. */
+  private SSLContext createSelfSignedContext() throws Exception {
+    File keyStoreFile = new File(keyStoreDirectory, "self-signed.p12");
+    Process keytool = new ProcessBuilder(
+        new File(System.getProperty("java.home"), "bin/keytool").getPath(),
+        "-genkeypair", "-keyalg", "EC", "-alias", "self-signed", "-dname", "CN=elsewhere.example",
+        "-validity", "1", "-storetype", "PKCS12", "-keystore", keyStoreFile.getPath(),
+        "-storepass", new String(PASSWORD), "-keypass", new String(PASSWORD))
+        .redirectErrorStream(true).redirectOutput(new File(keyStoreDirectory, "keytool.log")).start();
+    check(keytool.waitFor() == 0, "keytool failed");
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    try (InputStream in = new FileInputStream(keyStoreFile)) {
+      keyStore.load(in, PASSWORD);
+    }
+    KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagers.init(keyStore, PASSWORD);
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(keyManagers.getKeyManagers(), null, null);
+    return context;
+  }
+
+  private static String getToken(HttpExchange exchange) {
+    String path = exchange.getRequestURI().getPath();
+    return path.substring(path.lastIndexOf('/') + 1);
+  }
+
+  private static void redirect(HttpExchange exchange, int status, String location) throws IOException {
+    exchange.getResponseHeaders().set("Location", location);
+    exchange.sendResponseHeaders(status, -1);
+    exchange.close();
+  }
+
+  private static void reply(HttpExchange exchange, int status, String text) throws IOException {
+    byte[] body = text.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "text/plain");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private void close() {
+    http.stop(0);
+    https.stop(0);
+    for (File file : keyStoreDirectory.listFiles()) {
+      file.delete();
+    }
+    keyStoreDirectory.delete();
+  }
+
+  private static void check(boolean condition, String message) {
+    if (!condition) {
+      throw new AssertionError(message);
+    }
+  }
+}
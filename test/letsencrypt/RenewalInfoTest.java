@@ -0,0 +1,243 @@
+/**
+ * Copyright 2020 Keith Wannamaker
+ *
+ * This file is part of letsencrypt-client.
+ *
+ * letsencrypt-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * letsencrypt-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with letsencrypt-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package letsencrypt;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Fetches renewal information from an in-process stand-in for the CA's
+ * renewalInfo endpoint.  Run by the test target; exits non-zero on failure.
+ */
+// @formatter:off
+public class RenewalInfoTest {
+  /** A leaf with an authority key identifier and serial 0x1234, valid until 2126. */
+  private static final String LEAF =
+      "MIIBdDCCARqgAwIBAgICEjQwCgYIKoZIzj0EAwIwEjEQMA4GA1UEAwwHVGVzdCBD"
+      + "QTAgFw0yNjEwMTkxNjE5MTlaGA8yMTI2MDkyNTE2MTkxOVowFjEUMBIGA1UEAwwL"
+      + "YXJpLmV4YW1wbGUwWTATBgcqhkjOPQIBBggqhkjOPQMBBwNCAASoxldH/2gG3LV4"
+      + "jhHBDGpk5ZOWNH4iCEFJUVPvFNCKFnIYp1KVj3d7X3maaw4kb6zR70lJySXvPoRK"
+      + "JJBGP76Wo1owWDAWBgNVHREEDzANggthcmkuZXhhbXBsZTAfBgNVHSMEGDAWgBQ6"
+      + "xBAjtyeJRdSWmAcZk/wxdjYAgjAdBgNVHQ4EFgQUd5b5XeX+f7Lj2JG1/hN2u+j4"
+      + "FUMwCgYIKoZIzj0EAwIDSAAwRQIhAJTvHou7kSC/JObTkZc/AoKaTRcp88msIRIF"
+      + "33NMF1wfAiAhB2NeXImes9nW473VDyX5Svba99IaSC7eoM+fbqgfCQ==";
+  private static final String CERT_ID = "OsQQI7cniUXUlpgHGZP8MXY2AII.EjQ";
+  private static final Instant WINDOW_START = Instant.parse("2026-11-01T00:00:00Z");
+  private static final Instant WINDOW_END = Instant.parse("2026-11-03T00:00:00Z");
+
+  private final HttpServer server;
+  private final AtomicInteger fetches = new AtomicInteger();
+  private final File keyDirectory = Files.createTempDir();
+  private final CertificateSummary summary =
+      CertificateSummary.parse(ImmutableList.of(Base64.getDecoder().decode(LEAF)));
+  private volatile int status;
+  private volatile String retryAfter;
+
+  public static void main(String[] args) throws Exception {
+    RenewalInfoTest test = new RenewalInfoTest();
+    try {
+      test.cachesWindowUntilRetryAfter();
+      test.clampsRetryAfter();
+      test.keepsWindowAndBacksOffAfterFailure();
+      test.fallsBackToNotAfterWithoutWindow();
+    } finally {
+      test.close();
+    }
+    System.out.println("RenewalInfoTest passed");
+  }
+
+  private RenewalInfoTest() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/dir", exchange -> reply(exchange, 200, "{"
+        + "\"newNonce\": \"" + getUrl("/nonce") + "\", "
+        + "\"newAccount\": \"" + getUrl("/account") + "\", "
+        + "\"newOrder\": \"" + getUrl("/order") + "\", "
+        + "\"renewalInfo\": \"" + getUrl("/ari/") + "\"}", null));
+    server.createContext("/dir-without-ari", exchange -> reply(exchange, 200, "{"
+        + "\"newNonce\": \"" + getUrl("/nonce") + "\", "
+        + "\"newAccount\": \"" + getUrl("/account") + "\", "
+        + "\"newOrder\": \"" + getUrl("/order") + "\"}", null));
+    server.createContext("/ari/", exchange -> {
+      fetches.incrementAndGet();
+      check(exchange.getRequestURI().getPath().equals("/ari/" + CERT_ID),
+          "Unexpected certificate ID in " + exchange.getRequestURI());
+      if (status != 200) {
+        reply(exchange, status, "{\"type\": \"urn:ietf:params:acme:error:serverInternal\"}", null);
+        return;
+      }
+      reply(exchange, 200, "{\"suggestedWindow\": {"
+          + "\"start\": \"" + WINDOW_START + "\", \"end\": \"" + WINDOW_END + "\"}}", retryAfter);
+    });
+    server.start();
+  }
+
+  /** A fresh window is cached until the CA's Retry-After, and served from the cache until then. */
+  private void cachesWindowUntilRetryAfter() {
+    serve(200, "3600");
+    RenewalInfo renewalInfo = newRenewalInfo();
+    Proto.AccountConfig accountConfig = newAccountConfig();
+    long before = System.currentTimeMillis();
+
+    Proto.RenewalInfoEntry window = renewalInfo.get(getUrl("/dir"), accountConfig, "cached.example", summary);
+    check(window != null, "No window fetched");
+    check(window.getWindowStartMillis() == WINDOW_START.toEpochMilli(), "Wrong window start " + window);
+    check(window.getWindowEndMillis() == WINDOW_END.toEpochMilli(), "Wrong window end " + window);
+    checkNear(window.getNextFetchMillis(), before + Duration.ofHours(1).toMillis(), "Retry-After not honoured");
+    check(fetches.get() == 1, "Expected one fetch, got " + fetches.get());
+
+    long cacheHits = Metrics.get("renewal_info.cache_hits");
+    check(window.equals(renewalInfo.get(getUrl("/dir"), accountConfig, "cached.example", summary)),
+        "Cached window differs");
+    check(fetches.get() == 1, "Fetched again before Retry-After");
+    check(Metrics.get("renewal_info.cache_hits") == cacheHits + 1, "Cache hit not counted");
+    check(!renewalInfo.isFetchDue(accountConfig, "cached.example", summary), "Fetch due inside Retry-After");
+  }
+
+  /** Retry-After is held to between a minute and a day. */
+  private void clampsRetryAfter() {
+    RenewalInfo renewalInfo = newRenewalInfo();
+    Proto.AccountConfig accountConfig = newAccountConfig();
+    long before = System.currentTimeMillis();
+
+    serve(200, "5");
+    Proto.RenewalInfoEntry window = renewalInfo.get(getUrl("/dir"), accountConfig, "short.example", summary);
+    checkNear(window.getNextFetchMillis(), before + Duration.ofMinutes(1).toMillis(), "Short Retry-After not raised");
+
+    serve(200, String.valueOf(Duration.ofDays(30).getSeconds()));
+    window = renewalInfo.get(getUrl("/dir"), accountConfig, "long.example", summary);
+    checkNear(window.getNextFetchMillis(), before + Duration.ofDays(1).toMillis(), "Long Retry-After not capped");
+
+    serve(200, null);
+    window = renewalInfo.get(getUrl("/dir"), accountConfig, "none.example", summary);
+    checkNear(window.getNextFetchMillis(), before + Duration.ofHours(6).toMillis(), "No default retry");
+  }
+
+  /** A failed refresh keeps the last window and waits before asking again. */
+  private void keepsWindowAndBacksOffAfterFailure() throws IOException {
+    RenewalInfo renewalInfo = newRenewalInfo();
+    Proto.AccountConfig accountConfig = newAccountConfig();
+    serve(200, "3600");
+    Proto.RenewalInfoEntry window = renewalInfo.get(getUrl("/dir"), accountConfig, "failing.example", summary);
+    File file = new File(keyDirectory, String.format(accountConfig.getRenewalInfoFilenameSpec(), "failing.example"));
+    Files.write(window.toBuilder().setNextFetchMillis(0).build().toByteArray(), file);
+
+    serve(500, null);
+    int fetchesBefore = fetches.get();
+    long before = System.currentTimeMillis();
+    Proto.RenewalInfoEntry kept = renewalInfo.get(getUrl("/dir"), accountConfig, "failing.example", summary);
+    check(fetches.get() == fetchesBefore + 1, "Expired entry not refreshed");
+    check(kept != null && kept.getWindowStartMillis() == window.getWindowStartMillis(), "Window lost: " + kept);
+    Proto.RenewalInfoEntry written = Proto.RenewalInfoEntry.parseFrom(Files.toByteArray(file));
+    checkNear(written.getNextFetchMillis(), before + Duration.ofHours(6).toMillis(), "No back-off after failure");
+    check(written.getWindowStartMillis() == window.getWindowStartMillis(), "Window not kept on disk");
+
+    renewalInfo.get(getUrl("/dir"), accountConfig, "failing.example", summary);
+    check(fetches.get() == fetchesBefore + 1, "Fetched again during back-off");
+  }
+
+  /**
+   * Without a window, from a failed first fetch or a CA with no renewalInfo,
+   * get returns null and the caller schedules from notAfter.
+   */
+  private void fallsBackToNotAfterWithoutWindow() {
+    RenewalInfo renewalInfo = newRenewalInfo();
+    Proto.AccountConfig accountConfig = newAccountConfig();
+
+    serve(500, null);
+    int fetchesBefore = fetches.get();
+    check(renewalInfo.get(getUrl("/dir"), accountConfig, "new.example", summary) == null, "Window without a fetch");
+    check(renewalInfo.get(getUrl("/dir"), accountConfig, "new.example", summary) == null, "Window after failure");
+    check(fetches.get() == fetchesBefore + 1, "Fetched again during back-off");
+    check(!renewalInfo.isFetchDue(accountConfig, "new.example", summary), "Fetch due during back-off");
+
+    check(renewalInfo.get(getUrl("/dir-without-ari"), accountConfig, "plain.example", summary) == null,
+        "Window from a CA without renewalInfo");
+    check(fetches.get() == fetchesBefore + 1, "Fetched from a CA without renewalInfo");
+
+    check(renewalInfo.get(getUrl("/dir"), accountConfig.toBuilder().setUseRenewalInfo(false).build(),
+        "disabled.example", summary) == null, "Window with use_renewal_info off");
+    check(fetches.get() == fetchesBefore + 1, "Fetched with use_renewal_info off");
+  }
+
+  private RenewalInfo newRenewalInfo() {
+    Proto.Config config = Proto.Config.getDefaultInstance();
+    return new RenewalInfo(new SessionRouter(new PooledHttpConnector(), new DirectoryCache(config)),
+        new RateLimiter(config));
+  }
+
+  private Proto.AccountConfig newAccountConfig() {
+    return Proto.AccountConfig.newBuilder().setKeyDirectory(keyDirectory.getPath()).build();
+  }
+
+  private void serve(int status, String retryAfter) {
+    this.status = status;
+    this.retryAfter = retryAfter;
+  }
+
+  private String getUrl(String path) {
+    return "http://localhost:" + server.getAddress().getPort() + path;
+  }
+
+  private static void reply(HttpExchange exchange, int status, String json, String retryAfter)
+      throws IOException {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type",
+        status == 200 ? "application/json" : "application/problem+json");
+    exchange.getResponseHeaders().set("Replay-Nonce", "bm9uY2U");
+    if (retryAfter != null) {
+      exchange.getResponseHeaders().set("Retry-After", retryAfter);
+    }
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private void close() {
+    server.stop(0);
+    for (File file : keyDirectory.listFiles()) {
+      file.delete();
+    }
+    keyDirectory.delete();
+  }
+
+  private static void checkNear(long actual, long expected, String message) {
+    check(Math.abs(actual - expected) < Duration.ofSeconds(30).toMillis(),
+        message + ": " + Instant.ofEpochMilli(actual) + " is not about " + Instant.ofEpochMilli(expected));
+  }
+
+  private static void check(boolean condition, String message) {
+    if (!condition) {
+      throw new AssertionError(message);
+    }
+  }
+}